@@ -7,11 +7,25 @@
 
 package io.vlingo.xoom.actors;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ActorFactory {
   static final ThreadLocal<Environment> threadLocalEnvironment = new ThreadLocal<Environment>();
 
+  private static final ClassValue<ActorConstructors> actorConstructors =
+          new ClassValue<ActorConstructors>() {
+            @Override
+            protected ActorConstructors computeValue(final Class<?> type) {
+              return new ActorConstructors(type);
+            }
+          };
+
   @SuppressWarnings("unchecked")
   public static Class<? extends Actor> actorClassWithProtocol(final String actorClassname, final Class<?> protocolClass) {
     try {
@@ -71,15 +85,20 @@ public class ActorFactory {
       actor = definition.instantiator().instantiate();
       actor.lifeCycle.sendStart(actor);
     } else if (definition.internalParameters().isEmpty()) {
-      final Class<? extends Actor> actorClass = definition.type();
-      actor = actorClass.getDeclaredConstructor().newInstance();
+      actor = actorConstructors.get(definition.type()).newInstance();
       actor.lifeCycle.sendStart(actor);
     } else {
-      for (final Constructor<?> ctor : definition.type().getConstructors()) {
-        if (ctor.getParameterCount() == definition.internalParameters().size()) {
-          actor = start(ctor, definition, address, logger);
-          if (actor != null) {
-            break;
+      actor = actorConstructors.get(definition.type()).newInstance(definition.internalParameters().toArray(), address, logger);
+
+      if (actor == null) {
+        // no public constructor accepts the parameters exactly as they are
+        // typed, so try each as reflection would, including its conversions
+        for (final Constructor<?> ctor : definition.type().getConstructors()) {
+          if (ctor.getParameterCount() == definition.internalParameters().size()) {
+            actor = start(ctor, definition, address, logger);
+            if (actor != null) {
+              break;
+            }
           }
         }
       }
@@ -135,22 +154,29 @@ public class ActorFactory {
     }
 
     if (cause != null) {
-      logger.error("ActorFactory: failed actor creation. "
-              + "This is sometimes cause be the constructor parameter types not matching "
-              + "the types in the Definition.parameters(). Often it is caused by a "
-              + "failure in the actor constructor. We have attempted to uncover "
-              + "the root cause here, but that may not be available in some cases.\n"
-              + "The root cause may be: " + cause + "\n"
-              + "See stacktrace for more information. We strongly recommend reviewing your "
-              + "constructor for possible failures in dependencies that it creates.",
-              cause);
-
-      throw new InstantiationException("ActorFactory failed actor creation for: " + address);
+      failedCreation(cause, address, logger);
     }
 
     return actor;
   }
 
+  private static void failedCreation(
+          final Throwable cause,
+          final Address address,
+          final Logger logger) throws InstantiationException {
+    logger.error("ActorFactory: failed actor creation. "
+            + "This is sometimes cause be the constructor parameter types not matching "
+            + "the types in the Definition.parameters(). Often it is caused by a "
+            + "failure in the actor constructor. We have attempted to uncover "
+            + "the root cause here, but that may not be available in some cases.\n"
+            + "The root cause may be: " + cause + "\n"
+            + "See stacktrace for more information. We strongly recommend reviewing your "
+            + "constructor for possible failures in dependencies that it creates.",
+            cause);
+
+    throw new InstantiationException("ActorFactory failed actor creation for: " + address);
+  }
+
   private static Object[] unfold(final Object[] args) {
     final Object[] unfolded = new Object[args.length];
     for (int idx = 0; idx < args.length; ++idx) {
@@ -164,9 +190,125 @@ public class ActorFactory {
     return unfolded;
   }
 
-
   public interface MailboxWrapper {
     MailboxWrapper Identity = (a, m) -> m;
     Mailbox wrap(Address address, Mailbox mailbox);
   }
+
+  /**
+   * The constructors of an {@code Actor} type, resolved once per type to
+   * {@code MethodHandle}s, so that creating an actor of a type already created
+   * costs neither reflective lookup nor a failed invocation per attempt. The
+   * public constructors are tried in the order of {@code Class.getConstructors()},
+   * each with the parameters as given and then unfolded, as the reflective
+   * fallback does, but only one whose parameter types accept the parameters
+   * as they are, without conversion, is invoked.
+   */
+  private static final class ActorConstructors {
+    private static final MethodType noParametersType = MethodType.methodType(Object.class);
+    private static final MethodType parametersType = MethodType.methodType(Object.class, Object[].class);
+
+    private final List<ActorConstructor> constructors;
+    private volatile MethodHandle noParameters;
+    private final Class<?> type;
+
+    ActorConstructors(final Class<?> type) {
+      this.type = type;
+      this.constructors = constructorsOf(type);
+    }
+
+    Actor newInstance() throws Exception {
+      MethodHandle constructor = noParameters;
+      if (constructor == null) {
+        final Constructor<?> ctor = type.getDeclaredConstructor();
+        constructor = MethodHandles.lookup().unreflectConstructor(ctor).asType(noParametersType);
+        noParameters = constructor;
+      }
+      try {
+        return (Actor) (Object) constructor.invokeExact();
+      } catch (Exception e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    }
+
+    Actor newInstance(final Object[] parameters, final Address address, final Logger logger) throws Exception {
+      for (final ActorConstructor constructor : constructors) {
+        if (constructor.accepts(parameters)) {
+          try {
+            final Actor actor = constructor.newInstance(parameters);
+            actor.lifeCycle.sendStart(actor);
+            return actor;
+          } catch (Throwable t) {
+            failedCreation(t, address, logger);
+          }
+        }
+      }
+      return null;
+    }
+
+    private static List<ActorConstructor> constructorsOf(final Class<?> type) {
+      final List<ActorConstructor> constructors = new ArrayList<>();
+      for (final Constructor<?> ctor : type.getConstructors()) {
+        try {
+          final MethodHandle constructor =
+                  MethodHandles.lookup()
+                    .unreflectConstructor(ctor)
+                    .asSpreader(Object[].class, ctor.getParameterCount())
+                    .asType(parametersType);
+          constructors.add(new ActorConstructor(ctor.getParameterTypes(), constructor, false));
+          constructors.add(new ActorConstructor(ctor.getParameterTypes(), constructor, true));
+        } catch (IllegalAccessException e) {
+          // left to the reflective fallback
+        }
+      }
+      return constructors;
+    }
+  }
+
+  private static final class ActorConstructor {
+    private final MethodHandle constructor;
+    private final Class<?>[] parameterTypes;
+    private final boolean[] primitives;
+    private final boolean unfold;
+
+    ActorConstructor(final Class<?>[] parameterTypes, final MethodHandle constructor, final boolean unfold) {
+      this.constructor = constructor;
+      this.parameterTypes = new Class<?>[parameterTypes.length];
+      this.primitives = new boolean[parameterTypes.length];
+      this.unfold = unfold;
+
+      for (int idx = 0; idx < parameterTypes.length; ++idx) {
+        this.parameterTypes[idx] = MethodType.methodType(parameterTypes[idx]).wrap().returnType();
+        this.primitives[idx] = parameterTypes[idx].isPrimitive();
+      }
+    }
+
+    boolean accepts(final Object[] parameters) {
+      if (parameters.length != parameterTypes.length) {
+        return false;
+      }
+      boolean unfolded = false;
+      for (int idx = 0; idx < parameters.length; ++idx) {
+        Object parameter = parameters[idx];
+        if (unfold && parameter != null && parameter.getClass().isArray()) {
+          if (!(parameter instanceof Object[]) || ((Object[]) parameter).length == 0) {
+            return false;
+          }
+          parameter = ((Object[]) parameter)[0];
+          unfolded = true;
+        }
+        if (parameter == null ? primitives[idx] : !parameterTypes[idx].isInstance(parameter)) {
+          return false;
+        }
+      }
+      return !unfold || unfolded;
+    }
+
+    Actor newInstance(final Object[] parameters) throws Throwable {
+      final Object[] arguments = unfold ? unfold(parameters) : parameters;
+      return (Actor) (Object) constructor.invokeExact(arguments);
+    }
+  }
 }
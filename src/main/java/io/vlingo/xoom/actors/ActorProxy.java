@@ -9,41 +9,38 @@ package io.vlingo.xoom.actors;
 
 import static io.vlingo.xoom.common.compiler.DynaNaming.fullyQualifiedClassnameFor;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.UUID;
-import java.util.concurrent.locks.Lock;
 
 import io.vlingo.xoom.actors.ProxyGenerator.Result;
 import io.vlingo.xoom.common.compiler.DynaClassLoader;
-import io.vlingo.xoom.common.compiler.DynaCompiler;
-import io.vlingo.xoom.common.compiler.DynaCompiler.Input;
 
 public final class ActorProxy {
+  private static final boolean inMemoryGeneration =
+          Boolean.parseBoolean(Properties.properties.getProperty("proxy.generation.inMemory", "false"));
+  private static final boolean runtimeGeneration =
+          Boolean.parseBoolean(Properties.properties.getProperty("proxy.generation.runtime", "true"));
+
+  private static final MethodType constructorType = MethodType.methodType(Object.class, Actor.class, Mailbox.class);
 
   public static <T> T createFor(final Class<T> protocol, final Actor actor, final Mailbox mailbox) {
-    final T maybeCachedProxy = actor.lifeCycle.environment.lookUpProxy(protocol);
+    final Environment environment = actor.lifeCycle.environment;
+
+    final T maybeCachedProxy = environment.lookUpProxy(protocol);
 
     if (maybeCachedProxy != null) {
       return maybeCachedProxy;
     }
 
-    T newProxy = null;
+    final T newProxy = newProxyFor(protocol, actor, mailbox);
 
-    final String proxyClassname = fullyQualifiedClassnameFor(protocol, "__Proxy");
-    Lock lock = ArgumentLock.acquire(protocol);
-    lock.lock();
-    try {
-      newProxy = tryCreate(protocol, actor, mailbox, proxyClassname);
-    } catch (Exception e) {
-      newProxy = tryGenerateCreate(protocol, actor, mailbox, proxyClassname);
-    } finally {
-      if (newProxy != null) {
-        actor.lifeCycle.environment.cacheProxy(newProxy);
-      }
-      lock.unlock();
+    if (mailbox != environment.mailbox) {
+      return newProxy;
     }
 
-    return newProxy;
+    return environment.cacheProxy(protocol, newProxy);
   }
 
   private static DynaClassLoader classLoaderFor(final Actor actor) {
@@ -55,6 +52,30 @@ public final class ActorProxy {
     return classLoader;
   }
 
+  private static MethodHandle constructorFor(final Class<?> protocol, final Actor actor) {
+    final ProxyConstructor proxyConstructor = actor.lifeCycle.environment.stage.world().proxyConstructors().get(protocol);
+
+    MethodHandle constructor = proxyConstructor.constructor;
+
+    if (constructor == null) {
+      synchronized (proxyConstructor) {
+        constructor = proxyConstructor.constructor;
+        if (constructor == null) {
+          constructor = resolveConstructorFor(protocol, actor);
+          proxyConstructor.constructor = constructor;
+        }
+      }
+    }
+
+    return constructor;
+  }
+
+  private static MethodHandle constructorOf(final Class<?> proxyClass) throws ReflectiveOperationException {
+    return MethodHandles.publicLookup()
+            .findConstructor(proxyClass, MethodType.methodType(void.class, Actor.class, Mailbox.class))
+            .asType(constructorType);
+  }
+
   private static boolean isGeneratingForMain(final World world) {
     return !world.resolveDynamic(__INTERNAL_ACTOR_PROXY_FOR_TEST_ID, Boolean.class);
   }
@@ -67,27 +88,42 @@ public final class ActorProxy {
     return proxyClass;
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> T tryCreate(
-          final Class<T> protocol,
-          final Actor actor,
-          final Mailbox mailbox,
-          final String targetClassname)
-  throws Exception {
-    final Class<?> proxyClass = loadProxyClassFor(targetClassname, actor);
-    return (T) tryCreateWithProxyClass(proxyClass, actor, mailbox);
+  private static <T> T newProxyFor(final Class<T> protocol, final Actor actor, final Mailbox mailbox) {
+    final MethodHandle constructor = constructorFor(protocol, actor);
+    try {
+      return protocol.cast((Object) constructor.invokeExact(actor, mailbox));
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalArgumentException("Actor proxy " + protocol.getName() + " not created because: " + t.getMessage(), t);
+    }
   }
- 
-  @SuppressWarnings("unchecked")
-  private static <T> T tryCreateWithProxyClass(final Class<T> proxyClass, final Actor actor, final Mailbox mailbox) throws Exception {
-    Constructor<?> ctor = proxyClass.getConstructor(new Class<?>[] {Actor.class, Mailbox.class});
-    return (T) ctor.newInstance(actor, mailbox);
+
+  private static MethodHandle resolveConstructorFor(final Class<?> protocol, final Actor actor) {
+    final String proxyClassname = fullyQualifiedClassnameFor(protocol, "__Proxy");
+    try {
+      return constructorOf(loadProxyClassFor(proxyClassname, actor));
+    } catch (Exception e) {
+      if (!runtimeGeneration) {
+        throw new IllegalArgumentException("Actor proxy " + proxyClassname + " not found and runtime generation is disabled; compile " + protocol.getName() + " with the ActorProxyProcessor.", e);
+      }
+      return inMemoryGeneration ?
+              tryResolveInMemory(protocol) :
+              tryGenerateResolve(protocol, actor, proxyClassname);
+    }
+  }
+
+  private static MethodHandle tryResolveInMemory(final Class<?> protocol) {
+    try {
+      return InMemoryActorProxy.constructorFor(protocol).asType(constructorType);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Actor proxy " + protocol.getName() + " not created in memory because: " + e.getMessage(), e);
+    }
   }
 
-  private static <T> T tryGenerateCreate(
-          final Class<T> protocol,
+  private static MethodHandle tryGenerateResolve(
+          final Class<?> protocol,
           final Actor actor,
-          final Mailbox mailbox,
           final String targetClassname) {
 
     final ClassLoader classLoader = classLoaderFor(actor);
@@ -95,30 +131,50 @@ public final class ActorProxy {
             ProxyGenerator.forMain(classLoader, true, actor.logger()) :
             ProxyGenerator.forTest(classLoader, true, actor.logger())) {
 
-      return tryGenerateCreate(protocol, actor, mailbox, generator, targetClassname);
+      return tryGenerateResolve(protocol, actor, generator, targetClassname);
 
     } catch (Exception e) {
       throw new IllegalArgumentException("Actor proxy " + protocol.getName() + " not created for main or test: " + e.getMessage(), e);
     }
   }
 
-  private static <T> T tryGenerateCreate(
-          final Class<T> protocol,
+  private static MethodHandle tryGenerateResolve(
+          final Class<?> protocol,
           final Actor actor,
-          final Mailbox mailbox,
           final ProxyGenerator generator,
           final String targetClassname) {
     try {
       final Result result = generator.generateFor(protocol.getName());
-      final Input input = new Input(protocol, targetClassname, result.source, result.sourceFile, classLoaderFor(actor), generator.type(), true);
-      final DynaCompiler proxyCompiler = new DynaCompiler();
-      final Class<T> proxyClass = proxyCompiler.compile(input);
-      return tryCreateWithProxyClass(proxyClass, actor, mailbox);
+      final ProxyCompiler proxyCompiler = new ProxyCompiler();
+      final Class<?> proxyClass = proxyCompiler.compile(targetClassname, result.source, classLoaderFor(actor), generator.type(), true);
+      return constructorOf(proxyClass);
     } catch (Exception e) {
       throw new IllegalArgumentException("Actor proxy " + protocol.getName() + " not created because: " + e.getMessage(), e);
     }
   }
 
+  /**
+   * The constructors of the proxies of a {@code World} by protocol. Each {@code World}
+   * holds its own, because its proxies are loaded by its own class loader and are
+   * generated for main or for test as it was started.
+   */
+  static final class ProxyConstructors extends ClassValue<ProxyConstructor> {
+    @Override
+    protected ProxyConstructor computeValue(final Class<?> protocol) {
+      return new ProxyConstructor();
+    }
+  }
+
+  /**
+   * The constructor of the proxies of a protocol, as a {@code (Actor, Mailbox)Object}
+   * handle, resolved once by the first actor of a {@code World} that needs it: loaded,
+   * generated in memory, or generated and compiled. Only resolution is serialized per
+   * protocol; creating a proxy with a resolved constructor takes no lock.
+   */
+  static final class ProxyConstructor {
+    private volatile MethodHandle constructor;
+  }
+
   /*
    * FOR INTERNAL USE ONLY.
    */
@@ -0,0 +1,386 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import io.vlingo.xoom.actors.ProxyTemplate.ProxyMethod;
+
+/**
+ * Generates at compile time the {@code __Proxy} source of each protocol that is
+ * implemented by an {@code Actor} being compiled, so that {@code ActorProxy} only
+ * loads the proxy rather than generating and compiling it on first use. The
+ * generated proxies behave as those of the {@code ProxyGenerator}.
+ * <p>
+ * Protocols that already have a {@code __Proxy}, that are nested types, or that
+ * declare methods that cannot be proxied are skipped with a note, and so are still
+ * generated at runtime, which reports invalid protocols as before. The source of
+ * each proxy is that of the {@code ProxyTemplate}, as for runtime generation.
+ * <p>
+ * This processor is not registered as a service, so it runs only where it is
+ * named, such as by {@code javac -processor io.vlingo.xoom.actors.ActorProxyProcessor},
+ * or in the {@code annotationProcessors} of the {@code maven-compiler-plugin}.
+ */
+public class ActorProxyProcessor extends AbstractProcessor {
+  private static final String ActorClassname = "io.vlingo.xoom.actors.Actor";
+  private static final String CompletesClassname = "io.vlingo.xoom.common.Completes";
+  private static final String CompletableFutureClassname = "java.util.concurrent.CompletableFuture";
+  private static final String FutureClassname = "java.util.concurrent.Future";
+  private static final String SafeProxyGenerableClassname = "io.vlingo.xoom.actors.SafeProxyGenerable";
+  private static final String ProxyPostfix = ProxyTemplate.ProxyPostfix;
+
+  private final Set<String> processedProtocols = new HashSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton("*");
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round) {
+    final TypeElement actorType = elements().getTypeElement(ActorClassname);
+
+    if (actorType != null) {
+      for (final TypeElement type : ElementFilter.typesIn(round.getRootElements())) {
+        processActorsOf(type, actorType);
+      }
+    }
+
+    return false;
+  }
+
+  private Elements elements() {
+    return processingEnv.getElementUtils();
+  }
+
+  private Types types() {
+    return processingEnv.getTypeUtils();
+  }
+
+  private void processActorsOf(final TypeElement type, final TypeElement actorType) {
+    if (type.getKind() == ElementKind.CLASS && types().isSubtype(types().erasure(type.asType()), types().erasure(actorType.asType()))) {
+      for (final TypeElement protocol : protocolsOf(type)) {
+        processProtocol(protocol, type);
+      }
+    }
+
+    for (final TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+      processActorsOf(nested, actorType);
+    }
+  }
+
+  private Set<TypeElement> protocolsOf(final TypeElement actor) {
+    final Set<TypeElement> protocols = new LinkedHashSet<>();
+
+    TypeElement current = actor;
+
+    while (current != null && !current.getQualifiedName().contentEquals(ActorClassname)) {
+      for (final TypeMirror protocol : current.getInterfaces()) {
+        protocols.add((TypeElement) types().asElement(protocol));
+      }
+      final TypeMirror superclass = current.getSuperclass();
+      current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types().asElement(superclass) : null;
+    }
+
+    return protocols;
+  }
+
+  private void processProtocol(final TypeElement protocol, final TypeElement actor) {
+    final String protocolClassname = protocol.getQualifiedName().toString();
+
+    if (!processedProtocols.add(protocolClassname)) {
+      return;
+    }
+
+    if (protocolClassname.startsWith("java.") || protocolClassname.startsWith("javax.")) {
+      return;
+    }
+
+    if (elements().getTypeElement(protocolClassname + ProxyPostfix) != null) {
+      return;
+    }
+
+    if (protocol.getNestingKind() != NestingKind.TOP_LEVEL) {
+      note(protocol, "XOOM: Proxy for nested protocol " + protocolClassname + " is generated at runtime.");
+      return;
+    }
+
+    final List<ExecutableElement> methods = proxiedMethodsOf(protocol);
+    final String invalid = invalidMethodOf(protocol, methods);
+
+    if (invalid != null) {
+      note(protocol, "XOOM: Proxy for " + protocolClassname + " is generated at runtime because " + invalid);
+      return;
+    }
+
+    try (final Writer writer = processingEnv.getFiler().createSourceFile(protocolClassname + ProxyPostfix, protocol, actor).openWriter()) {
+      writer.write(proxyClassSource(protocol, methods));
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "XOOM: Proxy for " + protocolClassname + " not generated: " + e.getMessage(), protocol);
+    }
+  }
+
+  private void note(final TypeElement protocol, final String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, protocol);
+  }
+
+  private List<ExecutableElement> proxiedMethodsOf(final TypeElement protocol) {
+    final List<ExecutableElement> methods = new ArrayList<>();
+
+    for (final ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(protocol))) {
+      if (method.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+        continue;
+      }
+      if (method.getModifiers().contains(Modifier.STATIC) || method.getModifiers().contains(Modifier.PRIVATE)) {
+        continue;
+      }
+      if (isObjectMethod(method)) {
+        continue;
+      }
+      methods.add(method);
+    }
+
+    return methods;
+  }
+
+  private String invalidMethodOf(final TypeElement protocol, final List<ExecutableElement> methods) {
+    final boolean safeGenerable = isSafeGenerable(protocol);
+
+    for (final ExecutableElement method : methods) {
+      final String name = method.getSimpleName().toString();
+
+      if (method.getParameters().isEmpty() && (name.equals("address") || name.equals("__batch"))) {
+        return "method `" + name + "()` is also defined by every proxy.";
+      }
+
+      final TypeMirror returnType = memberOf(protocol, method).getReturnType();
+
+      if (returnType.getKind() != TypeKind.VOID
+              && returnType.getKind() != TypeKind.TYPEVAR
+              && !hasResult(returnType)
+              && !safeGenerable) {
+        return "method `" + name + "` return type should be either `void`, `Completes<T>`, `Future<T>` or `CompletableFuture<T>`. The found return type is `" + typeNameOf(returnType) + "`.";
+      }
+    }
+
+    return null;
+  }
+
+  private boolean isObjectMethod(final ExecutableElement method) {
+    final String name = method.getSimpleName().toString();
+    final int parameters = method.getParameters().size();
+
+    return (name.equals("equals") && parameters == 1) || ((name.equals("hashCode") || name.equals("toString")) && parameters == 0);
+  }
+
+  private boolean isSafeGenerable(final TypeElement protocol) {
+    for (final AnnotationMirror annotation : protocol.getAnnotationMirrors()) {
+      if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(SafeProxyGenerableClassname)) {
+        return true;
+      }
+    }
+
+    for (final TypeMirror superinterface : protocol.getInterfaces()) {
+      if (isSafeGenerable((TypeElement) types().asElement(superinterface))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private ExecutableType memberOf(final TypeElement protocol, final ExecutableElement method) {
+    return (ExecutableType) types().asMemberOf((DeclaredType) protocol.asType(), method);
+  }
+
+  private boolean isNamed(final TypeMirror type, final String classname) {
+    return type.getKind() == TypeKind.DECLARED &&
+            ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(classname);
+  }
+
+  private boolean hasResult(final TypeMirror returnType) {
+    return isNamed(returnType, CompletesClassname) || isNamed(returnType, FutureClassname) || isNamed(returnType, CompletableFutureClassname);
+  }
+
+  private String proxyClassSource(final TypeElement protocol, final List<ExecutableElement> methods) {
+    final String protocolClassname = protocol.getQualifiedName().toString();
+    final String proxyClassname = protocol.getSimpleName() + ProxyPostfix;
+    final String protocolType = typeNameOf(protocol.asType());
+
+    final List<ProxyMethod> proxyMethods = new ArrayList<>(methods.size());
+    for (final ExecutableElement method : methods) {
+      proxyMethods.add(proxyMethodOf(protocol, method));
+    }
+
+    final ProxyTemplate template =
+            new ProxyTemplate(
+                    elements().getPackageOf(protocol).getQualifiedName().toString(),
+                    "",
+                    "public class " + proxyClassname + typeParametersOf(protocol.getTypeParameters()) +
+                      " extends ActorProxyBase<" + protocolClassname + "> implements " + protocolType,
+                    proxyClassname,
+                    protocolClassname,
+                    protocolClassname,
+                    protocol.getSimpleName().toString(),
+                    protocolType,
+                    proxyMethods);
+
+    return template.source();
+  }
+
+  private ProxyMethod proxyMethodOf(final TypeElement protocol, final ExecutableElement method) {
+    final ExecutableType executable = memberOf(protocol, method);
+    final TypeMirror returnType = executable.getReturnType();
+    final List<String> parameterNames = new ArrayList<>();
+    final List<String> erasedParameterTypes = new ArrayList<>();
+
+    for (int index = 0; index < executable.getParameterTypes().size(); ++index) {
+      parameterNames.add("arg" + index);
+      erasedParameterTypes.add(typeNameOf(types().erasure(executable.getParameterTypes().get(index))));
+    }
+
+    return new ProxyMethod(
+            method.getSimpleName().toString(),
+            typeParametersOf(method.getTypeParameters()),
+            typeNameOf(returnType),
+            parametersOf(method, executable),
+            parameterNames,
+            erasedParameterTypes,
+            parameterTypesOf(executable),
+            throwsOf(executable),
+            isNamed(returnType, CompletesClassname),
+            hasResult(returnType),
+            defaultValueOf(returnType));
+  }
+
+  private String defaultValueOf(final TypeMirror returnType) {
+    switch (returnType.getKind()) {
+    case VOID:
+      return "";
+    case BOOLEAN:
+      return "false";
+    case CHAR:
+      return "'\\0'";
+    case BYTE:
+    case SHORT:
+    case INT:
+    case LONG:
+    case FLOAT:
+    case DOUBLE:
+      return "0";
+    default:
+      return "null";
+    }
+  }
+
+  private String parametersOf(final ExecutableElement method, final ExecutableType executable) {
+    final List<? extends TypeMirror> parameterTypes = executable.getParameterTypes();
+    final List<String> parameters = new ArrayList<>();
+
+    for (int index = 0; index < parameterTypes.size(); ++index) {
+      final TypeMirror type = parameterTypes.get(index);
+      final boolean varArgs = method.isVarArgs() && index == parameterTypes.size() - 1 && type.getKind() == TypeKind.ARRAY;
+      final String typeName = varArgs ? typeNameOf(((ArrayType) type).getComponentType()) + "..." : typeNameOf(type);
+      parameters.add(typeName + " arg" + index);
+    }
+
+    return parameters.stream().collect(Collectors.joining(", ", "(", ")"));
+  }
+
+  private String parameterTypesOf(final ExecutableType executable) {
+    return executable.getParameterTypes().stream().map(this::typeNameOf).collect(Collectors.joining(", "));
+  }
+
+  private String throwsOf(final ExecutableType executable) {
+    if (executable.getThrownTypes().isEmpty()) {
+      return "";
+    }
+    return executable.getThrownTypes().stream().map(this::typeNameOf).collect(Collectors.joining(", ", " throws ", ""));
+  }
+
+  private String typeParametersOf(final List<? extends TypeParameterElement> typeParameters) {
+    if (typeParameters.isEmpty()) {
+      return "";
+    }
+
+    return typeParameters.stream()
+            .map(parameter -> {
+              final List<? extends TypeMirror> bounds = parameter.getBounds();
+              if (bounds.isEmpty() || (bounds.size() == 1 && isNamed(bounds.get(0), "java.lang.Object"))) {
+                return parameter.getSimpleName().toString();
+              }
+              return parameter.getSimpleName() + " extends " + bounds.stream().map(this::typeNameOf).collect(Collectors.joining(" & "));
+            })
+            .collect(Collectors.joining(", ", "<", ">"));
+  }
+
+  /*
+   * Answer the name of type as reflection names it, so that
+   * representations match those of runtime generated proxies.
+   */
+  private String typeNameOf(final TypeMirror type) {
+    switch (type.getKind()) {
+    case ARRAY:
+      return typeNameOf(((ArrayType) type).getComponentType()) + "[]";
+    case DECLARED:
+      final DeclaredType declared = (DeclaredType) type;
+      final String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+      if (declared.getTypeArguments().isEmpty()) {
+        return name;
+      }
+      return name + declared.getTypeArguments().stream().map(this::typeNameOf).collect(Collectors.joining(", ", "<", ">"));
+    case TYPEVAR:
+      return ((TypeVariable) type).asElement().getSimpleName().toString();
+    case WILDCARD:
+      final WildcardType wildcard = (WildcardType) type;
+      if (wildcard.getExtendsBound() != null) {
+        return "? extends " + typeNameOf(wildcard.getExtendsBound());
+      } else if (wildcard.getSuperBound() != null) {
+        return "? super " + typeNameOf(wildcard.getSuperBound());
+      }
+      return "?";
+    default:
+      return type.toString();
+    }
+  }
+}
@@ -16,6 +16,13 @@ public interface AddressFactory {
   Address unique();
   Address uniquePrefixedWith(final String prefixedWith);
   Address uniqueWith(final String name);
+  default Address[] uniqueWith(final String name, final int count) {
+    final Address[] addresses = new Address[count];
+    for (int idx = 0; idx < count; ++idx) {
+      addresses[idx] = uniqueWith(name);
+    }
+    return addresses;
+  }
   Address withHighId();
   Address withHighId(final String name);
   long testNextIdValue();
@@ -0,0 +1,45 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The names given to the addresses of one {@code AddressFactory}, so that addresses
+ * created with equal names share one {@code String}. The table is bounded: a name
+ * replaces the one in its slot, so that names used only once do not accumulate.
+ */
+final class AddressNames {
+  private static final int Slots = 1024;
+
+  private final AtomicReferenceArray<String> names;
+
+  AddressNames() {
+    this.names = new AtomicReferenceArray<>(Slots);
+  }
+
+  /**
+   * Answer the held {@code String} equal to {@code name}, or {@code name} if none.
+   * @param name the String name of an address, which may be null
+   * @return String
+   */
+  String shared(final String name) {
+    if (name == null) {
+      return null;
+    }
+    final int hash = name.hashCode();
+    final int slot = (hash ^ (hash >>> 16)) & (Slots - 1);
+    final String held = names.get(slot);
+    if (name.equals(held)) {
+      return held;
+    }
+    // a lost race only leaves a later name unshared
+    names.lazySet(slot, name);
+    return name;
+  }
+}
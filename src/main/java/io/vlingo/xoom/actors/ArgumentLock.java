@@ -12,7 +12,11 @@ import io.vlingo.xoom.common.Tuple2;
 
 /**
  * based on the solution found on https://stackoverflow.com/a/28347825
+ *
+ * @deprecated no longer used by {@code ActorProxy}, which serializes the resolution
+ * of the proxy constructor of each protocol without a global lock
  */
+@Deprecated
 public final class ArgumentLock implements Lock {
 
   private static final Map<Object, Tuple2<WeakReference<Object>, Lock>> locks =
@@ -13,6 +13,7 @@ final class BasicAddressFactory implements AddressFactory {
   final static Address None = new BasicAddress(0, "(none)");
 
   private final AtomicLong highId;
+  private final AddressNames names;
   private final AtomicLong nextId;
 
   @Override
@@ -22,7 +23,7 @@ final class BasicAddressFactory implements AddressFactory {
 
   @Override
   public Address from(final long reservedId, final String name) {
-    return new BasicAddress(reservedId, name);
+    return new BasicAddress(reservedId, names.shared(name));
   }
 
   @Override
@@ -32,7 +33,7 @@ final class BasicAddressFactory implements AddressFactory {
 
   @Override
   public Address from(final String idString, final String name) {
-    return new BasicAddress(Long.parseLong(idString), name);
+    return new BasicAddress(Long.parseLong(idString), names.shared(name));
   }
 
   @Override
@@ -52,7 +53,18 @@ final class BasicAddressFactory implements AddressFactory {
 
   @Override
   public Address uniqueWith(final String name) {
-    return new BasicAddress(nextId.getAndIncrement(), name);
+    return new BasicAddress(nextId.getAndIncrement(), names.shared(name));
+  }
+
+  @Override
+  public Address[] uniqueWith(final String name, final int count) {
+    final long firstId = nextId.getAndAdd(count);
+    final String shared = names.shared(name);
+    final Address[] addresses = new Address[count];
+    for (int idx = 0; idx < count; ++idx) {
+      addresses[idx] = new BasicAddress(firstId + idx, shared);
+    }
+    return addresses;
   }
 
   @Override
@@ -62,7 +74,7 @@ final class BasicAddressFactory implements AddressFactory {
 
   @Override
   public Address withHighId(final String name) {
-    return new BasicAddress(highId.decrementAndGet(), name);
+    return new BasicAddress(highId.decrementAndGet(), names.shared(name));
   }
 
   @Override
@@ -77,6 +89,7 @@ final class BasicAddressFactory implements AddressFactory {
 
   BasicAddressFactory() {
     this.highId = new AtomicLong(World.HIGH_ROOT_ID);
+    this.names = new AddressNames();
     this.nextId = new AtomicLong(1);
   }
 }
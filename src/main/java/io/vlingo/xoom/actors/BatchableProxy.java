@@ -0,0 +1,24 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+/**
+ * Implemented by generated actor proxies that can record several
+ * messages and send them to their actor's {@code Mailbox} together.
+ *
+ * @param <T> the protocol type of the proxy
+ */
+public interface BatchableProxy<T> {
+
+  /**
+   * Answer a new {@code ProxyBatch<T>} whose {@code view()} records
+   * messages for my actor until the batch is sent.
+   * @return {@code ProxyBatch<T>}
+   */
+  ProxyBatch<T> __batch();
+}
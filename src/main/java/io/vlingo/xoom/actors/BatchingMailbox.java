@@ -0,0 +1,105 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.Arrays;
+
+/**
+ * The {@code Mailbox} seen by the view of a {@code ProxyBatch}, which records
+ * messages until they are flushed to the actor's real {@code Mailbox}.
+ */
+final class BatchingMailbox implements Mailbox {
+  private static final int InitialCapacity = 16;
+
+  private Message[] messages;
+  private int size;
+  private final Mailbox target;
+
+  BatchingMailbox(final Mailbox target) {
+    this.target = target;
+    this.messages = new Message[InitialCapacity];
+  }
+
+  @Override
+  public void send(final Message message) {
+    if (size == messages.length) {
+      messages = Arrays.copyOf(messages, size * 2);
+    }
+    messages[size++] = message;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void flush() {
+    if (size == 0) {
+      return;
+    }
+
+    final Message[] batch = Arrays.copyOf(messages, size);
+
+    Arrays.fill(messages, 0, size, null);
+    size = 0;
+
+    target.sendAll(batch);
+  }
+
+  /**
+   * Does nothing, because the actor's real {@code Mailbox} is closed only by
+   * stopping the actor, never by its batching view.
+   */
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public boolean isClosed() {
+    return target.isClosed();
+  }
+
+  @Override
+  public boolean isDelivering() {
+    return target.isDelivering();
+  }
+
+  @Override
+  public int concurrencyCapacity() {
+    return target.concurrencyCapacity();
+  }
+
+  @Override
+  public void resume(final String name) {
+    target.resume(name);
+  }
+
+  @Override
+  public void suspendExceptFor(final String name, final Class<?>... overrides) {
+    target.suspendExceptFor(name, overrides);
+  }
+
+  @Override
+  public boolean isSuspended() {
+    return target.isSuspended();
+  }
+
+  @Override
+  public void run() {
+    throw new UnsupportedOperationException("A batching mailbox is never run.");
+  }
+
+  @Override
+  public Message receive() {
+    throw new UnsupportedOperationException("A batching mailbox is never received from.");
+  }
+
+  @Override
+  public int pendingMessages() {
+    return target.pendingMessages();
+  }
+}
@@ -17,13 +17,15 @@ public class CompletesEventuallyActor extends Actor implements CompletesEventual
   public void with(final Object outcome) {
     try {
       final PooledCompletes pooled = (PooledCompletes) outcome;
-      if (pooled.clientReturns.isCompletes()) {
-        pooled.clientReturns.asCompletes().with(pooled.outcome());
-      } else if (pooled.clientReturns.isCompletableFuture()) {
-        pooled.clientReturns.asCompletableFuture().complete(pooled.outcome());
-      } else if (pooled.clientReturns.isFuture()) {
-        ((CompletableFuture) pooled.clientReturns.asFuture()).complete(pooled.outcome());
+      final Returns<Object> clientReturns = pooled.clientReturns();
+      if (clientReturns.isCompletes()) {
+        clientReturns.asCompletes().with(pooled.outcome());
+      } else if (clientReturns.isCompletableFuture()) {
+        clientReturns.asCompletableFuture().complete(pooled.outcome());
+      } else if (clientReturns.isFuture()) {
+        ((CompletableFuture) clientReturns.asFuture()).complete(pooled.outcome());
       }
+      pooled.recycle();
     } catch (Throwable t) {
       logger().error("The eventually completed outcome failed in the client because: " + t.getMessage(), t);
     }
@@ -13,4 +13,37 @@ public interface CompletesEventuallyProvider {
   void initializeUsing(final Stage stage);
   CompletesEventually provideCompletesFor(final Returns<?> clientReturns);
   CompletesEventually provideCompletesFor(final Address address, final Returns<?> clientReturns);
+
+  /**
+   * Answer the index of the {@code CompletesEventually} assigned to a new user, which
+   * keeps it to {@code provideCompletesFor(index, clientReturns)}, or {@code -1} if I
+   * do not assign them, as by default.
+   * @return int
+   */
+  default int assignIndex() {
+    return -1;
+  }
+
+  /**
+   * Answer a {@code CompletesEventually} of the {@code index} from {@code assignIndex()}
+   * that backs the {@code clientReturns}. By default the index is ignored.
+   * @param index the int index assigned by me
+   * @param clientReturns the {@code Returns<?>} to complete
+   * @return CompletesEventually
+   */
+  default CompletesEventually provideCompletesFor(final int index, final Returns<?> clientReturns) {
+    return provideCompletesFor(clientReturns);
+  }
+
+  /**
+   * Answer a {@code CompletesEventually} as {@code provideCompletesFor(index, clientReturns)},
+   * but which I may recycle once its outcome is delivered, because its user completes
+   * it once, immediately, and keeps no reference to it. By default it is not recycled.
+   * @param index the int index assigned by me
+   * @param clientReturns the {@code Returns<?>} to complete
+   * @return CompletesEventually
+   */
+  default CompletesEventually provideRecyclableCompletesFor(final int index, final Returns<?> clientReturns) {
+    return provideCompletesFor(index, clientReturns);
+  }
 }
@@ -30,7 +30,10 @@ import io.vlingo.xoom.actors.plugin.completes.PooledCompletesPlugin.PooledComple
 import io.vlingo.xoom.actors.plugin.logging.slf4j.Slf4jLoggerPlugin;
 import io.vlingo.xoom.actors.plugin.mailbox.agronampscarrayqueue.ManyToOneConcurrentArrayQueuePlugin.ManyToOneConcurrentArrayQueuePluginConfiguration;
 import io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin.ConcurrentQueueMailboxPluginConfiguration;
+import io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.PriorityQueueMailboxPlugin.PriorityQueueMailboxPluginConfiguration;
+import io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.VirtualThreadMailboxPlugin.VirtualThreadMailboxPluginConfiguration;
 import io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMailboxPlugin.SharedRingBufferMailboxPluginConfiguration;
+import io.vlingo.xoom.actors.plugin.mailbox.workstealing.WorkStealingMailboxPlugin.WorkStealingMailboxPluginConfiguration;
 import io.vlingo.xoom.actors.plugin.supervision.CommonSupervisorsPlugin.CommonSupervisorsPluginConfiguration;
 import io.vlingo.xoom.actors.plugin.supervision.DefaultSupervisorOverridePlugin.DefaultSupervisorOverridePluginConfiguration;
 
@@ -41,9 +44,14 @@ public class Configuration {
   private Slf4jLoggerPlugin.Slf4jLoggerPluginConfiguration slf4jPluginConfiguration;
   private PooledCompletesPluginConfiguration pooledCompletesPluginConfiguration;
   private ManyToOneConcurrentArrayQueuePluginConfiguration manyToOneConcurrentArrayQueuePluginConfiguration;
+  private PriorityQueueMailboxPluginConfiguration priorityQueueMailboxPluginConfiguration;
   private SharedRingBufferMailboxPluginConfiguration sharedRingBufferMailboxPluginConfiguration;
+  private VirtualThreadMailboxPluginConfiguration virtualThreadMailboxPluginConfiguration;
+  private WorkStealingMailboxPluginConfiguration workStealingMailboxPluginConfiguration;
   private DirectoryEvictionConfiguration directoryEvictionConfiguration;
 
+  private int directoryScanners = 1;
+
   private String mainProxyGeneratedClassesPath;
   private String mainProxyGeneratedSourcesPath;
   private String testProxyGeneratedClassesPath;
@@ -178,6 +186,42 @@ public class Configuration {
     return sharedRingBufferMailboxPluginConfiguration;
   }
 
+  public Configuration with(final PriorityQueueMailboxPluginConfiguration configuration) {
+    if (this.priorityQueueMailboxPluginConfiguration == null) {
+      this.priorityQueueMailboxPluginConfiguration = configuration;
+    }
+    this.configurationOverrides.put(configuration.getClass().getSimpleName(), configuration);
+    return this;
+  }
+
+  public PriorityQueueMailboxPluginConfiguration priorityQueueMailboxPluginConfiguration() {
+    return priorityQueueMailboxPluginConfiguration;
+  }
+
+  public Configuration with(final VirtualThreadMailboxPluginConfiguration configuration) {
+    if (this.virtualThreadMailboxPluginConfiguration == null) {
+      this.virtualThreadMailboxPluginConfiguration = configuration;
+    }
+    this.configurationOverrides.put(configuration.getClass().getSimpleName(), configuration);
+    return this;
+  }
+
+  public VirtualThreadMailboxPluginConfiguration virtualThreadMailboxPluginConfiguration() {
+    return virtualThreadMailboxPluginConfiguration;
+  }
+
+  public Configuration with(final WorkStealingMailboxPluginConfiguration configuration) {
+    if (this.workStealingMailboxPluginConfiguration == null) {
+      this.workStealingMailboxPluginConfiguration = configuration;
+    }
+    this.configurationOverrides.put(configuration.getClass().getSimpleName(), configuration);
+    return this;
+  }
+
+  public WorkStealingMailboxPluginConfiguration workStealingMailboxPluginConfiguration() {
+    return workStealingMailboxPluginConfiguration;
+  }
+
   public Configuration with(final DirectoryEvictionConfiguration configuration) {
     if (this.directoryEvictionConfiguration == null) {
       this.directoryEvictionConfiguration = configuration;
@@ -190,6 +234,18 @@ public class Configuration {
     return directoryEvictionConfiguration;
   }
 
+  public Configuration usingDirectoryScanners(final int directoryScanners) {
+    if (directoryScanners < 1) {
+      throw new IllegalArgumentException("The number of directory scanners must be at least 1: " + directoryScanners);
+    }
+    this.directoryScanners = directoryScanners;
+    return this;
+  }
+
+  public int directoryScanners() {
+    return directoryScanners;
+  }
+
   public Configuration usingMainProxyGeneratedClassesPath(final String path) {
     mainProxyGeneratedClassesPath = path;
     return this;
@@ -300,7 +356,10 @@ public class Configuration {
             io.vlingo.xoom.actors.plugin.logging.slf4j.Slf4jLoggerPlugin::new,
             io.vlingo.xoom.actors.plugin.mailbox.agronampscarrayqueue.ManyToOneConcurrentArrayQueuePlugin::new,
             io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin::new,
+            io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.PriorityQueueMailboxPlugin::new,
+            io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.VirtualThreadMailboxPlugin::new,
             io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMailboxPlugin::new,
+            io.vlingo.xoom.actors.plugin.mailbox.workstealing.WorkStealingMailboxPlugin::new,
             io.vlingo.xoom.actors.plugin.supervision.CommonSupervisorsPlugin::new,
             io.vlingo.xoom.actors.plugin.supervision.DefaultSupervisorOverridePlugin::new,
             io.vlingo.xoom.actors.plugin.eviction.DirectoryEvictionPlugin::new
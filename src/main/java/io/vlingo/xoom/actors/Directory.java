@@ -8,11 +8,12 @@
 package io.vlingo.xoom.actors;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 final class Directory {
   private static final int DefaultStageBuckets = 32;
@@ -20,32 +21,18 @@ final class Directory {
 
   private final Address none;
 
-  // (1) Configuration: 32, 32; used in default Stage
-  // This default tuning manages relatively few actors well, being spread
-  // across 32 buckets with only 32 pre-allocated elements, for a total of
-  // 1024 actors. This hard-coded configuration will have good performance
-  // up to around 75% of 1024 actors, but very average if not poor performance
-  // following that.
+  // The actors of BasicAddress, which are nearly all of them, are held by
+  // their primitive long id in an open-addressing table that grows by itself,
+  // so that a lookup neither boxes nor hashes twice and its latency is flat
+  // from a few to millions of actors. Lookups are lock-free; registrations
+  // and removals are serialized, being far fewer than lookups. The actors
+  // of any other Address, such as UUIDAddress, are held by a single map.
   //
-  // (2) Configuration: 128, 16,384; used by Grid
-  // This tuning enables millions of actors at any one time.
-  // For example, there will be very few actors in some
-  // "applications" such as VLINGO XOOM Cluster, but then the application
-  // running on the cluster itself may have many, many actors. These
-  // run on a different stage, and thus should be tuned separately.
-  // For example, preallocate 128 buckets that each have a Map of 16K
-  // elements in initial capacity (and probably no greater than that).
-  // This will support 2 million actors with an average of a few hundred
-  // less than 16K actors in each bucket.
-
-  private final int buckets;
-  private final int initialCapacity;
-  private final float loadFactor = 0.75f;
-
-  // TODO: base this on scheduler/dispatcher
-  private final int concurrencyLevel = 16;
-
-  private final Map<Address, Actor>[] maps;
+  // The former buckets and initial capacity per bucket are now only a hint
+  // of the initial capacity, being their product.
+
+  private final ActorsById actorsById;
+  private final Map<Address, Actor> actors;
 
   Directory(final Address none) {
     this(none, DefaultStageBuckets, DefaultStageInitialCapacity);
@@ -53,79 +40,317 @@ final class Directory {
 
   Directory(final Address none, final int buckets, final int initialCapacity) {
     this.none = none;
-    this.buckets = buckets;
-    this.initialCapacity = initialCapacity;
-    this.maps = build();
+    this.actorsById = new ActorsById((long) buckets * initialCapacity);
+    this.actors = new ConcurrentHashMap<>();
   }
 
   Actor actorOf(final Address address) {
-    return this.maps[mapIndex(address)].get(address);
+    if (isById(address)) {
+      return actorsById.get(address.id());
+    }
+    return actors.get(address);
   }
 
   int count() {
-    int count = 0;
-    for (final Map<Address, Actor> map : maps) {
-      count += map.size();
-    }
-    return count;
+    return actorsById.size() + actors.size();
   }
 
   void dump(final Logger logger) {
     if (logger.isEnabled()) {
-      for (final Map<Address, Actor> map : maps) {
-        for (final Actor actor : map.values()) {
-          final Address address = actor.address();
-          final Address parent = actor.lifeCycle.environment.parent == null ? none : actor.lifeCycle.environment.parent.address();
-          logger.debug("DIR: DUMP: ACTOR: " + address + " PARENT: " + parent + " TYPE: " + actor.getClass());
-        }
+      final ClockHand hand = clockHand();
+      for (Actor actor = hand.next(); actor != null; actor = hand.next()) {
+        final Address address = actor.address();
+        final Address parent = actor.lifeCycle.environment.parent == null ? none : actor.lifeCycle.environment.parent.address();
+        logger.debug("DIR: DUMP: ACTOR: " + address + " PARENT: " + parent + " TYPE: " + actor.getClass());
       }
     }
   }
 
+  /**
+   * Presize me for the {@code addresses} about to be registered.
+   * @param addresses the {@code Address[]} of the actors about to be registered
+   */
+  void reserve(final Address[] addresses) {
+    int more = 0;
+    for (final Address address : addresses) {
+      if (isById(address)) {
+        ++more;
+      }
+    }
+    if (more > 0) {
+      actorsById.reserve(more);
+    }
+  }
+
   boolean isRegistered(final Address address) {
-    return this.maps[mapIndex(address)].containsKey(address);
+    return actorOf(address) != null;
   }
 
   void register(final Address address, final Actor actor) {
-    if (isRegistered(address)) {
+    final Actor existing = isById(address) ? actorsById.putIfAbsent(address.id(), actor) : actors.putIfAbsent(address, actor);
+
+    if (existing != null) {
       throw new ActorAddressAlreadyRegistered(actor.getClass(), address);
     }
-    this.maps[mapIndex(address)].put(address, actor);
   }
 
   Actor remove(final Address address) {
-    return this.maps[mapIndex(address)].remove(address);
+    if (isById(address)) {
+      return actorsById.remove(address.id());
+    }
+    return actors.remove(address);
   }
 
-  Collection<Actor> evictionCandidates(long thresholdMillis) {
-    return Arrays.stream(maps)
-        .flatMap(m -> m.values().stream())
-        .filter(a -> a.lifeCycle.evictable.isStale(thresholdMillis)
-            && a.lifeCycle.environment.mailbox.pendingMessages() == 0)
-        .collect(Collectors.toCollection(ArrayList::new));
+  boolean remove(final Address address, final Actor actor) {
+    if (isById(address)) {
+      return actorsById.remove(address.id(), actor);
+    }
+    return actors.remove(address, actor);
   }
 
-  Collection<Address> addresses() {
-    return Arrays.stream(maps)
-        .flatMap(m -> m.keySet().stream())
-        .collect(Collectors.toCollection(ArrayList::new));
+  /**
+   * Answer a new {@code ClockHand} that sweeps over my actors.
+   * @return ClockHand
+   */
+  ClockHand clockHand() {
+    return new ClockHand();
   }
 
-  @SuppressWarnings("unchecked")
-  private Map<Address, Actor>[] build() {
-
-    final Map<Address, Actor>[] tempMaps = new ConcurrentHashMap[buckets];
-    for (int idx = 0; idx < tempMaps.length; ++idx) {
-      tempMaps[idx] = new ConcurrentHashMap<>(initialCapacity, loadFactor, concurrencyLevel);
+  Collection<Address> addresses() {
+    final Collection<Address> addresses = new ArrayList<>(count());
+    final ClockHand hand = clockHand();
+    for (Actor actor = hand.next(); actor != null; actor = hand.next()) {
+      addresses.add(actor.address());
     }
+    return addresses;
+  }
 
-    return tempMaps;
+  /**
+   * Answer whether the actor of {@code address} is held by its id. The id 0
+   * marks an empty slot of {@code ActorsById}, so its address is held by the map.
+   * @param address the Address to check
+   * @return boolean
+   */
+  private boolean isById(final Address address) {
+    return address.getClass() == BasicAddress.class && address.id() != 0;
   }
 
-  private int mapIndex(final Address address) {
-    return Math.abs(address.hashCode() % maps.length);
+
+  /**
+   * A hand that sweeps over my actors, first those held by id and then the others,
+   * resuming where it stopped, so that each of its users may probe a bounded number
+   * of actors at a time. Not thread-safe; for use by a single actor.
+   */
+  final class ClockHand {
+    private int index;
+    private Iterator<Actor> others;
+    private ActorsById.Table table;
+
+    /**
+     * Answer the next actor of my sweep, or {@code null} once each sweep is complete,
+     * after which the next sweep starts.
+     * @return Actor
+     */
+    Actor next() {
+      if (others == null) {
+        if (table == null) {
+          table = actorsById.table;
+          index = 0;
+        }
+        while (index < table.capacity()) {
+          final Actor actor = table.actors.get(index);
+          final long id = table.ids.get(index++);
+          // after a rebuild, answer only the actors still in the directory
+          if (actor != null && (table == actorsById.table || actorsById.get(id) == actor)) {
+            return actor;
+          }
+        }
+        others = actors.values().iterator();
+      }
+
+      if (others.hasNext()) {
+        return others.next();
+      }
+
+      table = null;
+      others = null;
+      return null;
+    }
   }
 
+  /**
+   * Actors by their primitive {@code long} id, in a linear-probing table whose
+   * capacity is a power of two. A slot is claimed by an id for the life of the
+   * table: its actor is set before its id, so that a lock-free reader that finds
+   * the id finds its actor, and is cleared on removal, leaving the id in place
+   * so that probing continues past it. The table is rebuilt without the removed
+   * ids, and twice as large if needed, when half of its slots are claimed.
+   */
+  static final class ActorsById {
+    private static final int MaximumCapacity = 1 << 30;
+    private static final int MinimumCapacity = 16;
+
+    private volatile int size;
+    private volatile Table table;
+
+    ActorsById(final long expectedActors) {
+      this.table = new Table(capacityFor(expectedActors));
+    }
+
+    Actor get(final long id) {
+      final Table table = this.table;
+      final int index = table.indexOf(id);
+      return index < 0 ? null : table.actors.get(index);
+    }
+
+    synchronized Actor putIfAbsent(final long id, final Actor actor) {
+      final int index = table.indexOf(id);
+
+      if (index >= 0) {
+        final Actor existing = table.actors.get(index);
+        if (existing != null) {
+          return existing;
+        }
+        table.actors.set(index, actor);
+      } else {
+        if (table.claimed + 1 > table.capacity() / 2) {
+          final Table current = this.table;
+          rebuild(size + 1 >= current.capacity() / 4 ? capacityFor((long) current.capacity()) : current.capacity());
+        }
+        table.claim(id, actor);
+      }
+
+      ++size;
+
+      return null;
+    }
+
+    synchronized Actor remove(final long id) {
+      final int index = table.indexOf(id);
+
+      if (index < 0) {
+        return null;
+      }
+
+      final Actor existing = table.actors.getAndSet(index, null);
+      if (existing != null) {
+        --size;
+      }
+      return existing;
+    }
+
+    synchronized boolean remove(final long id, final Actor actor) {
+      final int index = table.indexOf(id);
+
+      if (index < 0 || !table.actors.compareAndSet(index, actor, null)) {
+        return false;
+      }
+
+      --size;
+
+      return true;
+    }
+
+    int size() {
+      return size;
+    }
+
+    private static int capacityFor(final long actors) {
+      int capacity = MinimumCapacity;
+      while (capacity < actors * 2 && capacity < MaximumCapacity) {
+        capacity <<= 1;
+      }
+      return capacity;
+    }
+
+    /**
+     * Grow my table at once so that {@code more} actors may be put without rebuilding it.
+     * @param more the int number of actors about to be put
+     */
+    synchronized void reserve(final int more) {
+      final int capacity = capacityFor((long) size + more);
+      if (capacity > table.capacity()) {
+        rebuild(capacity);
+      }
+    }
+
+    private void rebuild(final int capacity) {
+      final Table current = this.table;
+
+      if (size + 1 > capacity / 2) {
+        throw new IllegalStateException("Directory is full at " + size + " actors.");
+      }
+
+      final Table rebuilt = new Table(capacity);
+
+      for (int index = 0; index < current.capacity(); ++index) {
+        final Actor actor = current.actors.get(index);
+        if (actor != null) {
+          rebuilt.claim(current.ids.get(index), actor);
+        }
+      }
+
+      this.table = rebuilt;
+    }
+
+    static final class Table {
+      final AtomicReferenceArray<Actor> actors;
+      int claimed;
+      final AtomicLongArray ids;
+      private final int mask;
+      private final int shift;
+
+      Table(final int capacity) {
+        this.actors = new AtomicReferenceArray<>(capacity);
+        this.ids = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+      }
+
+      int capacity() {
+        return mask + 1;
+      }
+
+      /**
+       * Claim the free slot of {@code id} for {@code actor}. For writers only.
+       * @param id the long id to claim, which is not in me
+       * @param actor the Actor of id
+       */
+      void claim(final long id, final Actor actor) {
+        int index = slotOf(id);
+        while (ids.get(index) != 0) {
+          index = (index + 1) & mask;
+        }
+        actors.set(index, actor);
+        ids.set(index, id);
+        ++claimed;
+      }
+
+      /**
+       * Answer the index of the slot claimed by {@code id}, or -1 if none.
+       * @param id the long id to find
+       * @return int
+       */
+      int indexOf(final long id) {
+        int index = slotOf(id);
+        while (true) {
+          final long claimedId = ids.get(index);
+          if (claimedId == id) {
+            return index;
+          }
+          if (claimedId == 0) {
+            return -1;
+          }
+          index = (index + 1) & mask;
+        }
+      }
+
+      private int slotOf(final long id) {
+        // Fibonacci hashing spreads the sequential ids over the table
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> shift);
+      }
+    }
+  }
 
   public static final class ActorAddressAlreadyRegistered extends IllegalArgumentException {
     private static final long serialVersionUID = 1L;
@@ -7,6 +7,7 @@
 
 package io.vlingo.xoom.actors;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -21,6 +22,9 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
   public static final long DefaultLRUProbeInterval = 30 * 1_000L;   // 30 seconds
   public static final long DefaultLRUThreshold = 2 * 60 * 1_000;    // 2 minutes
   public static final float DefaultFullRatioHighMark = 0.8F;        // 80%
+  public static final int DefaultProbeBudget = 10_000;              // actors probed per interval
+  public static final int DefaultEvictionBudget = 1_000;            // actors evicted per interval
+  public static final int DefaultActorCountHighMark = 1_000_000;    // actors in the directory
 
 
   public static DirectoryEvictionConfiguration define() {
@@ -34,6 +38,10 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
   private long lruProbeInterval;
   private long lruThreshold;
   private float fullRatioHighMark;
+  private int probeBudget;
+  private int evictionBudget;
+  private SnapshotStore snapshotStore;
+  private MemoryPressure memoryPressure;
 
 
   public DirectoryEvictionConfiguration() {
@@ -51,6 +59,8 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
     this.lruProbeInterval = lruProbeInterval;
     this.lruThreshold = lruThreshold;
     this.fullRatioHighMark = fullRatioHighMark;
+    this.probeBudget = DefaultProbeBudget;
+    this.evictionBudget = DefaultEvictionBudget;
   }
 
 
@@ -103,6 +113,45 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
     return fullRatioHighMark;
   }
 
+  public DirectoryEvictionConfiguration probeBudget(final int actors) {
+    this.probeBudget = actors;
+    return this;
+  }
+
+  public int probeBudget() {
+    return probeBudget;
+  }
+
+  public DirectoryEvictionConfiguration evictionBudget(final int actors) {
+    this.evictionBudget = actors;
+    return this;
+  }
+
+  public int evictionBudget() {
+    return evictionBudget;
+  }
+
+  public DirectoryEvictionConfiguration snapshotStore(final SnapshotStore snapshotStore) {
+    this.snapshotStore = snapshotStore;
+    return this;
+  }
+
+  public SnapshotStore snapshotStore() {
+    return snapshotStore;
+  }
+
+  public DirectoryEvictionConfiguration memoryPressure(final MemoryPressure memoryPressure) {
+    this.memoryPressure = memoryPressure;
+    return this;
+  }
+
+  public MemoryPressure memoryPressure() {
+    if (memoryPressure == null) {
+      return MemoryPressure.heap(fullRatioHighMark);
+    }
+    return memoryPressure;
+  }
+
   @Override
   public void build(Configuration configuration) {
     configuration
@@ -119,6 +168,10 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
     this.lruProbeInterval = properties.getLong("lruProbeInterval", DefaultLRUProbeInterval);
     this.lruThreshold = properties.getLong("lruThreshold", DefaultLRUThreshold);
     this.fullRatioHighMark = properties.getFloat("fullRatioHighMark", DefaultFullRatioHighMark);
+    this.probeBudget = properties.getInteger("probeBudget", DefaultProbeBudget);
+    this.evictionBudget = properties.getInteger("evictionBudget", DefaultEvictionBudget);
+    this.snapshotStore = snapshotStoreFrom(properties.getString("snapshotStore", ""), properties.getString("snapshotStoreFile", ""));
+    this.memoryPressure = memoryPressureFrom(properties.getString("memoryPressure", ""), properties.getInteger("actorCountHighMark", DefaultActorCountHighMark));
     configuration.with(this);
   }
  
@@ -131,8 +184,43 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
   @Override
   public String toString() {
     return String.format(
-        "DirectoryEvictionConfiguration(name='%s', enabled='%b', excludedStageNames=%s, lruProbeInterval='%s', lruThreshold='%s', fullRatioHighMark='%.2f')",
-        name, enabled, excludedStageNames, lruProbeInterval, lruThreshold, fullRatioHighMark);
+        "DirectoryEvictionConfiguration(name='%s', enabled='%b', excludedStageNames=%s, lruProbeInterval='%s', lruThreshold='%s', fullRatioHighMark='%.2f', probeBudget='%d', evictionBudget='%d', snapshotStore='%s', memoryPressure=%s)",
+        name, enabled, excludedStageNames, lruProbeInterval, lruThreshold, fullRatioHighMark, probeBudget, evictionBudget,
+        snapshotStore == null ? "none" : snapshotStore.getClass().getSimpleName(), memoryPressure());
+  }
+
+  private MemoryPressure memoryPressureFrom(final String type, final int actorCountHighMark) {
+    switch (type.trim()) {
+    case "":
+    case "heap":
+      return null;  // heap of the fullRatioHighMark, see memoryPressure()
+    case "collection":
+      return MemoryPressure.afterCollection(fullRatioHighMark);
+    case "actors":
+      return MemoryPressure.actorCount(actorCountHighMark);
+    case "collection,actors":
+    case "actors,collection":
+      return MemoryPressure.anyOf(MemoryPressure.afterCollection(fullRatioHighMark), MemoryPressure.actorCount(actorCountHighMark));
+    default:
+      throw new IllegalArgumentException("Unknown memoryPressure: " + type + "; use heap, collection, actors, or collection,actors.");
+    }
+  }
+
+  private SnapshotStore snapshotStoreFrom(final String type, final String file) {
+    switch (type.trim()) {
+    case "":
+    case "none":
+      return null;
+    case "memory":
+      return new InMemorySnapshotStore();
+    case "file":
+      if (file.trim().isEmpty()) {
+        throw new IllegalArgumentException("The file snapshotStore requires a snapshotStoreFile.");
+      }
+      return new MappedFileSnapshotStore(new File(file.trim()));
+    default:
+      throw new IllegalArgumentException("Unknown snapshotStore: " + type + "; use none, memory, or file.");
+    }
   }
 
   private List<String> defaultExcludes(final String[] stageNames) {
@@ -9,15 +9,23 @@ package io.vlingo.xoom.actors;
 
 import io.vlingo.xoom.common.Scheduled;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
+/**
+ * Evicts the actors of a {@code Directory} that have not received a message for
+ * longer than the {@code lruThreshold()}, when the {@code memoryPressure()} of
+ * my configuration is high, which is probed each interval and may also signal
+ * me between intervals. Each interval
+ * resumes a clock sweep over the directory where the previous one stopped, and
+ * probes at most {@code probeBudget()} actors and evicts at most
+ * {@code evictionBudget()} of them, so that the work of each interval is bounded
+ * no matter how many actors there are.
+ */
 public class DirectoryEvictor extends Actor implements Scheduled<Object> {
 
+  private final Directory.ClockHand clockHand;
   private final DirectoryEvictionConfiguration config;
   private final Directory directory;
+  private final MemoryPressure pressure;
+  private Runnable pressureSignal;
 
   public DirectoryEvictor(final Directory directory) {
     this(new DirectoryEvictionConfiguration(), directory);
@@ -26,32 +34,62 @@ public class DirectoryEvictor extends Actor implements Scheduled<Object> {
   public DirectoryEvictor(final DirectoryEvictionConfiguration config, final Directory directory) {
     this.config = config;
     this.directory = directory;
+    this.clockHand = directory.clockHand();
+    this.pressure = config.memoryPressure();
     logger().debug("Created with config: {}", config);
   }
 
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public void start() {
+    final Scheduled<Object> self = selfAs(Scheduled.class);
+    this.pressureSignal = () -> self.intervalSignal(null, null);
+    pressure.register(pressureSignal);
+    super.start();
+  }
+
   @Override
   public void intervalSignal(Scheduled<Object> scheduled, Object o) {
     logger().debug("Started eviction routine");
 
-    float fillRatio = Runtime.getRuntime().freeMemory() / (float) Runtime.getRuntime().totalMemory();
-    if (fillRatio >= config.fullRatioHighMark()) {
-      logger().debug("Memory fill ratio {} exceeding watermark ({})", fillRatio, config.fullRatioHighMark());
-      Collection<Address> evicted = directory.evictionCandidates(config.lruThreshold()).stream()
-          .flatMap(actor -> {
-            if(actor.lifeCycle.evictable.stop(config.lruThreshold())) {
-              return Stream.of(actor.address());
-            }
-            else {
-              return Stream.empty();
-            }
-          })
-          .collect(Collectors.toCollection(ArrayList::new));
-      logger().debug("Evicted {} actors :: {}", evicted.size(), evicted);
+    if (pressure.isHigh(directory.count())) {
+      logger().debug("Memory pressure {} is high", pressure);
+      final int evicted = evict(System.currentTimeMillis());
+      logger().debug("Evicted {} actors", evicted);
     }
     else {
-      logger().debug("Memory fill ratio {} was below watermark ({})", fillRatio, config.fullRatioHighMark());
+      logger().debug("Memory pressure {} is low", pressure);
+    }
+  }
+
+  @Override
+  protected void afterStop() {
+    if (pressureSignal != null) {
+      pressure.unregister(pressureSignal);
     }
+    super.afterStop();
   }
 
+  /**
+   * Answer the number of actors evicted by probing the next actors of the sweep
+   * that are stale at {@code referenceMillis}, within the budgets.
+   * @param referenceMillis the long current time in milliseconds
+   * @return int
+   */
+  int evict(final long referenceMillis) {
+    int evicted = 0;
+
+    for (int probed = 0; probed < config.probeBudget() && evicted < config.evictionBudget(); ++probed) {
+      final Actor actor = clockHand.next();
+      if (actor == null) {
+        break;
+      }
+      if (actor.lifeCycle.evict(actor, referenceMillis, config.lruThreshold())) {
+        ++evicted;
+      }
+    }
+
+    return evicted;
+  }
 }
@@ -47,25 +47,7 @@ public class DirectoryScannerActor extends Actor implements DirectoryScanner {
     return completes().with(maybe);
   }
 
-  /**
-   * Answer the actor as the {@code protocol} or {@code null}.
-   * @param protocol the {@code Class<T>} of the protocol that the actor must support
-   * @param address the {@code Address} of the actor to find
-   * @param T the protocol type
-   * @return T
-   */
   private <T> T internalActorOf(final Class<T> protocol, final Address address) {
-    final Actor actor = directory.actorOf(address);
-
-    try {
-      if (actor != null) {
-        return stage().actorAs(actor, protocol);
-      } else {
-        logger().debug("Actor with address: " + address + " not found; protocol is: " + protocol.getName());
-      }
-    } catch (Exception e) {
-      logger().error("Error providing protocol: " + protocol.getName() + " for actor with address: " + address, e);
-    }
-    return null;
+    return stage().actorOfNow(protocol, address);
   }
 }
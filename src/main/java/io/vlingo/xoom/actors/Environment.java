@@ -7,31 +7,57 @@
 
 package io.vlingo.xoom.actors;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+/**
+ * The state of an actor that is kept apart from its own. Whatever most actors
+ * never use, its children and its failure mark, is allocated only once used,
+ * and its flags are packed into a single {@code int}, so that an idle actor
+ * costs little more than its references.
+ */
 public class Environment {
+  private static final int Secured = 1;
+  private static final int Stopped = 1 << 1;
+  private static final int Passivating = 1 << 2;
+  private static final int Lazy = 1 << 3;
+
+  private static final Object[] NoProxies = new Object[0];
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<Environment,ConcurrentLinkedQueue> childrenUpdater =
+          AtomicReferenceFieldUpdater.newUpdater(Environment.class, ConcurrentLinkedQueue.class, "children");
+  private static final AtomicReferenceFieldUpdater<Environment,FailureMark> failureMarkUpdater =
+          AtomicReferenceFieldUpdater.newUpdater(Environment.class, FailureMark.class, "failureMark");
+  private static final AtomicIntegerFieldUpdater<Environment> flagsUpdater =
+          AtomicIntegerFieldUpdater.newUpdater(Environment.class, "flags");
+  private static final AtomicReferenceFieldUpdater<Environment,Object[]> proxiesUpdater =
+          AtomicReferenceFieldUpdater.newUpdater(Environment.class, Object[].class, "proxies");
+
+  private static final int NoCompletesEventuallyIndex = Integer.MIN_VALUE;
+
   final Address address;
-  final ConcurrentLinkedQueue<Actor> children;
-  Address completesEventuallyAddress;
+  int completesEventuallyIndex;
   final Definition definition;
-  final FailureMark failureMark;
   final Logger logger;
   final Mailbox mailbox;
   final Supervisor maybeSupervisor;
   final Actor parent;
-  final Map<String,Object> proxyCache;
   final Stage stage;
 //  final Stowage stowage;
 //  final Stowage suspended;
 
-  private final AtomicBoolean secured;
-  private final AtomicBoolean stopped;
+  private volatile ConcurrentLinkedQueue<Actor> children;
+  private volatile FailureMark failureMark;
+  private volatile int flags;
 
   private Class<?>[] stowageOverrides;
 
+  // protocol and proxy pairs, copied on write by the rare caching of a new protocol
+  private volatile Object[] proxies;
+
   public static Environment of(final Actor actor) {
     return actor.lifeCycle.environment;
   }
@@ -59,54 +85,145 @@ public class Environment {
     assert(mailbox != null);
     this.mailbox = mailbox;
     this.maybeSupervisor = maybeSupervisor;
-    this.failureMark = new FailureMark();
     this.logger = logger;
-    this.children = new ConcurrentLinkedQueue<>();
-    this.proxyCache = new HashMap<>(1);
+    this.completesEventuallyIndex = NoCompletesEventuallyIndex;
+    this.proxies = NoProxies;
 //    this.stowage = new Stowage();
     this.stowageOverrides = null;
 //    this.suspended = new Stowage();
-
-    this.secured = new AtomicBoolean(false);
-    this.stopped = new AtomicBoolean(false);
   }
 
   void addChild(final Actor child) {
+    ConcurrentLinkedQueue<Actor> children = this.children;
+    if (children == null) {
+      childrenUpdater.compareAndSet(this, null, new ConcurrentLinkedQueue<>());
+      children = this.children;
+    }
     children.add(child);
   }
 
   void removeChild(final Actor child) {
-    children.remove(child);
+    final ConcurrentLinkedQueue<Actor> children = this.children;
+    if (children != null) {
+      children.remove(child);
+    }
+  }
+
+  /**
+   * Answer my children, which are none until a child is added.
+   * @return {@code Collection<Actor>}
+   */
+  Collection<Actor> children() {
+    final ConcurrentLinkedQueue<Actor> children = this.children;
+    return children == null ? Collections.emptyList() : children;
+  }
+
+  /**
+   * Answer my {@code FailureMark}, which is created on my first failure.
+   * @return FailureMark
+   */
+  FailureMark failureMark() {
+    final FailureMark failureMark = this.failureMark;
+    if (failureMark == null) {
+      failureMarkUpdater.compareAndSet(this, null, new FailureMark());
+      return this.failureMark;
+    }
+    return failureMark;
   }
 
   CompletesEventually completesEventually(final ResultReturns result) {
-    if (completesEventuallyAddress == null) {
-      final CompletesEventually completesEventually = stage.world().completesFor(result.clientReturns());
-      completesEventuallyAddress = completesEventually.address();
-      return completesEventually;
+    return stage.world().completesFor(completesEventuallyIndex(), result.clientReturns());
+  }
+
+  /**
+   * Complete the client of {@code result} with its {@code outcome} by a carrier
+   * that is recycled, because it is completed here once and never handed out.
+   * @param result the ResultReturns of the client
+   * @param outcome the Object outcome of result
+   */
+  void completeEventually(final ResultReturns result, final Object outcome) {
+    stage.world().recyclableCompletesFor(completesEventuallyIndex(), result.clientReturns()).with(outcome);
+  }
+
+  private int completesEventuallyIndex() {
+    if (completesEventuallyIndex == NoCompletesEventuallyIndex) {
+      completesEventuallyIndex = stage.world().completesIndex();
     }
-    return stage.world().completesFor(completesEventuallyAddress, result.clientReturns());
+    return completesEventuallyIndex;
   }
 
-  <T> void cacheProxy(final T proxy) {
-    proxyCache.put(proxy.getClass().getName(), proxy);
+  /**
+   * Cache {@code proxy} as my proxy of {@code protocol}, unless another thread
+   * cached one first, and answer the one that is cached.
+   * @param protocol the {@code Class<T>} protocol of the proxy
+   * @param proxy the T proxy to cache
+   * @param <T> the protocol type
+   * @return T
+   */
+  <T> T cacheProxy(final Class<T> protocol, final T proxy) {
+    while (true) {
+      final Object[] current = proxies;
+      final T cached = lookUpProxy(current, protocol);
+      if (cached != null) {
+        return cached;
+      }
+      final Object[] updated = new Object[current.length + 2];
+      System.arraycopy(current, 0, updated, 0, current.length);
+      updated[current.length] = protocol;
+      updated[current.length + 1] = proxy;
+      if (proxiesUpdater.compareAndSet(this, current, updated)) {
+        return proxy;
+      }
+    }
   }
 
-  @SuppressWarnings("unchecked")
   <T> T lookUpProxy(final Class<T> protocol) {
-    return (T) proxyCache.get(protocol.getName());
+    return lookUpProxy(proxies, protocol);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T lookUpProxy(final Object[] proxies, final Class<T> protocol) {
+    for (int index = 0; index < proxies.length; index += 2) {
+      if (proxies[index] == protocol) {
+        return (T) proxies[index + 1];
+      }
+    }
+    return null;
   }
 
   boolean isSecured() {
-    return secured.get();
+    return (flags & Secured) != 0;
   }
 
   void setSecured() {
-    secured.set(true);
+    setFlag(Secured);
   }
 
   boolean isStopped() {
-    return stopped.get();
+    return (flags & Stopped) != 0;
+  }
+
+  boolean isPassivating() {
+    return (flags & Passivating) != 0;
+  }
+
+  /**
+   * Answer whether I am set passivating now, being false if I already was.
+   * @return boolean
+   */
+  boolean setPassivating() {
+    return setFlag(Passivating);
+  }
+
+  boolean isLazy() {
+    return (flags & Lazy) != 0;
+  }
+
+  /**
+   * Set me as started from a lazy registration, which is restored once I am evicted.
+   */
+  void setLazy() {
+    setFlag(Lazy);
   }
 
   void removeFromParent(Actor actor) {
@@ -116,7 +233,7 @@ public class Environment {
   }
 
   void stop() {
-    if (stopped.compareAndSet(false, true)) {
+    if (setFlag(Stopped)) {
       stopChildren();
 
 //      suspended.reset();
@@ -142,9 +259,29 @@ public class Environment {
     stowageOverrides = overrides;
   }
 
+  /**
+   * Answer whether {@code flag} is set now, being false if it already was.
+   * @param flag the int flag to set
+   * @return boolean
+   */
+  private boolean setFlag(final int flag) {
+    while (true) {
+      final int current = flags;
+      if ((current & flag) != 0) {
+        return false;
+      }
+      if (flagsUpdater.compareAndSet(this, current, current | flag)) {
+        return true;
+      }
+    }
+  }
+
   private void stopChildren() {
-    // TODO: re-implement as: children.forEach(child -> selfAs(Stoppable.class).stop());
-    children.forEach(Actor::stop);
-    children.clear();
+    final ConcurrentLinkedQueue<Actor> children = this.children;
+    if (children != null) {
+      // TODO: re-implement as: children.forEach(child -> selfAs(Stoppable.class).stop());
+      children.forEach(Actor::stop);
+      children.clear();
+    }
   }
 }
@@ -7,18 +7,15 @@
 
 package io.vlingo.xoom.actors;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-
 public class FailureMark {
-  private AtomicLong startOfPeriod;
-  private AtomicInteger timedIntensity;
+  private long startOfPeriod;
+  private int timedIntensity;
 
   public FailureMark() {
     reset();
   }
 
-  boolean failedWithExcessiveFailures(final long period, final int intensity) {
+  synchronized boolean failedWithExcessiveFailures(final long period, final int intensity) {
     if (intensity == SupervisionStrategy.ForeverIntensity) {
       return false;
     } else if (intensity == 1) {
@@ -27,16 +24,16 @@ public class FailureMark {
 
     final long currentTime = System.currentTimeMillis();
 
-    if (startOfPeriod.get() == 0) {
-      startOfPeriod.set(currentTime);
-      timedIntensity.set(1);
+    if (startOfPeriod == 0) {
+      startOfPeriod = currentTime;
+      timedIntensity = 1;
     } else {
-      timedIntensity.incrementAndGet();
+      ++timedIntensity;
     }
 
-    final boolean periodExceeded = startOfPeriod.get() - currentTime >= period;
+    final boolean periodExceeded = startOfPeriod - currentTime >= period;
 
-    if (timedIntensity.get() > intensity && !periodExceeded) {
+    if (timedIntensity > intensity && !periodExceeded) {
       return true;
     } else if (periodExceeded) {
       reset();
@@ -46,8 +43,8 @@ public class FailureMark {
     return false;
   }
 
-  void reset() {
-    startOfPeriod = new AtomicLong(0);
-    timedIntensity = new AtomicInteger(0);
+  synchronized void reset() {
+    startOfPeriod = 0;
+    timedIntensity = 0;
   }
 }
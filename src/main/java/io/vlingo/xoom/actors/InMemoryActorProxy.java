@@ -0,0 +1,282 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import io.vlingo.xoom.common.Completes;
+import io.vlingo.xoom.common.SerializableConsumer;
+
+/**
+ * An actor proxy whose class is defined in memory by {@code java.lang.reflect.Proxy},
+ * rather than generated as source and compiled, so that creating the first proxy
+ * of a protocol takes microseconds rather than seconds. Each protocol method is
+ * sent as its generated counterpart would be: to dead letters when the actor is
+ * stopped, through the preallocated or {@code LocalMessage} path of the mailbox
+ * otherwise, and answering a {@code Completes<T>} or {@code Future<T>} if declared.
+ * <p>
+ * The saving is in startup only. Each send allocates a consumer capturing its
+ * arguments and delivers it by reflection, so sending costs more than through
+ * a compiled proxy; protocols on a hot path should be compiled.
+ * <p>
+ * Such proxies are not {@code ActorProxyBase} instances, and so cannot be
+ * serialized to remote actors; protocols used that way should be compiled.
+ */
+final class InMemoryActorProxy<T> implements InvocationHandler {
+  private static final ClassValue<Map<Method, ProtocolMethod>> protocolMethods =
+          new ClassValue<Map<Method, ProtocolMethod>>() {
+            @Override
+            protected Map<Method, ProtocolMethod> computeValue(final Class<?> protocol) {
+              return protocolMethodsOf(protocol);
+            }
+          };
+
+  private final Actor actor;
+  private final Mailbox mailbox;
+  private final Map<Method, ProtocolMethod> methods;
+  private final Class<T> protocol;
+
+  /**
+   * Answer a new in-memory proxy of {@code protocol} for {@code actor}.
+   * @param protocol the {@code Class<T>} protocol of the proxy
+   * @param actor the Actor to which messages are sent
+   * @param mailbox the Mailbox through which messages are sent
+   * @param <T> the protocol type
+   * @return T
+   * @throws InvalidProtocolException if any of the methods of protocol cannot be proxied
+   */
+  static <T> T createFor(final Class<T> protocol, final Actor actor, final Mailbox mailbox) {
+    final InMemoryActorProxy<T> handler = new InMemoryActorProxy<>(protocol, actor, mailbox);
+
+    final Object proxy =
+            java.lang.reflect.Proxy.newProxyInstance(
+                    classLoaderOf(protocol),
+                    new Class<?>[] { protocol, Proxy.class, BatchableProxy.class },
+                    handler);
+
+    return protocol.cast(proxy);
+  }
+
+  /**
+   * Answer the {@code (Actor, Mailbox)} constructor of the in-memory proxies of
+   * {@code protocol}, after validating protocol.
+   * @param protocol the {@code Class<?>} protocol of the proxies
+   * @return MethodHandle
+   * @throws InvalidProtocolException if any of the methods of protocol cannot be proxied
+   * @throws ReflectiveOperationException if the constructor cannot be looked up
+   */
+  static MethodHandle constructorFor(final Class<?> protocol) throws ReflectiveOperationException {
+    protocolMethods.get(protocol);
+
+    final MethodHandle createFor =
+            MethodHandles.lookup().findStatic(
+                    InMemoryActorProxy.class,
+                    "createFor",
+                    MethodType.methodType(Object.class, Class.class, Actor.class, Mailbox.class));
+
+    return MethodHandles.insertArguments(createFor, 0, protocol);
+  }
+
+  @Override
+  public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+    final ProtocolMethod protocolMethod = methods.get(method);
+
+    if (protocolMethod != null) {
+      return send(protocolMethod, args == null ? new Object[0] : args);
+    }
+
+    switch (method.getName()) {
+    case "address":
+      return actor.address();
+    case "__batch":
+      return ProxyBatch.using(mailbox, (batchingMailbox) -> createFor(protocol, actor, batchingMailbox));
+    case "equals":
+      final Object other = args[0];
+      if (proxy == other) return true;
+      if (other == null) return false;
+      if (other.getClass() != proxy.getClass()) return false;
+      return actor.address().equals(Proxy.from(other).address());
+    case "hashCode":
+      return 31 + protocol.hashCode() + actor.address().hashCode();
+    case "toString":
+      return protocol.getSimpleName() + "[address=" + actor.address() + "]";
+    default:
+      throw new UnsupportedOperationException("Not a protocol method: " + method);
+    }
+  }
+
+  private InMemoryActorProxy(final Class<T> protocol, final Actor actor, final Mailbox mailbox) {
+    this.protocol = protocol;
+    this.actor = actor;
+    this.mailbox = mailbox;
+    this.methods = protocolMethods.get(protocol);
+  }
+
+  private Object send(final ProtocolMethod protocolMethod, final Object[] args) {
+    if (!actor.isStopped()) {
+      final Actor actor = this.actor;
+      final SerializableConsumer<T> consumer = (target) -> protocolMethod.invoke(target, thunked(actor, args));
+      final Object returnValue = protocolMethod.returnValue(actor);
+      final Returns<?> returns = returnsOf(returnValue);
+      if (mailbox.isPreallocated()) { mailbox.send(actor, protocol, consumer, returns, protocolMethod.representation); }
+      else if (returns == null) { mailbox.send(new LocalMessage<T>(actor, protocol, consumer, protocolMethod.representation)); }
+      else { mailbox.send(new LocalMessage<T>(actor, protocol, consumer, returns, protocolMethod.representation)); }
+      if (returnValue != null) {
+        return returnValue;
+      }
+    } else {
+      actor.deadLetters().failedDelivery(new DeadLetter(actor, protocolMethod.representation));
+    }
+    return protocolMethod.defaultValue;
+  }
+
+  private static ClassLoader classLoaderOf(final Class<?> protocol) {
+    // a protocol of the bootstrap class loader has none, but mine sees both it and my interfaces
+    final ClassLoader classLoader = protocol.getClassLoader();
+    return classLoader != null ? classLoader : InMemoryActorProxy.class.getClassLoader();
+  }
+
+  private static Returns<?> returnsOf(final Object returnValue) {
+    if (returnValue instanceof Completes) {
+      return Returns.value((Completes<?>) returnValue);
+    } else if (returnValue instanceof CompletableFuture) {
+      return Returns.value((CompletableFuture<?>) returnValue);
+    }
+    return null;
+  }
+
+  private static Object[] thunked(final Actor actor, final Object[] args) {
+    if (args.length == 0 || !actor.address().isDistributable()) {
+      return args;
+    }
+    final Stage stage = actor.lifeCycle.environment.stage;
+    final Object[] thunked = new Object[args.length];
+    for (int index = 0; index < args.length; ++index) {
+      thunked[index] = ActorProxyBase.thunk(stage, args[index]);
+    }
+    return thunked;
+  }
+
+  private static Map<Method, ProtocolMethod> protocolMethodsOf(final Class<?> protocol) {
+    final Map<Method, ProtocolMethod> methods = new HashMap<>();
+    final List<InvalidProtocolException.Failure> failures = new ArrayList<>();
+    final boolean safeGenerable = isSafeGenerable(protocol);
+
+    for (final Method method : protocol.getMethods()) {
+      if (Modifier.isStatic(method.getModifiers())) {
+        continue;
+      }
+
+      final ProtocolMethod protocolMethod = new ProtocolMethod(method);
+
+      if (!protocolMethod.hasResult
+              && method.getReturnType() != void.class
+              && !(method.getGenericReturnType() instanceof TypeVariable)
+              && !safeGenerable) {
+        failures.add(
+                new InvalidProtocolException.Failure(
+                        method.toGenericString(),
+                        "method return type should be either `void`, `Completes<T>`, `Future<T>` or `CompletableFuture<T>`. The found return type is `" + method.getGenericReturnType().getTypeName() + "`."));
+      }
+
+      methods.put(method, protocolMethod);
+    }
+
+    if (!failures.isEmpty()) {
+      throw new InvalidProtocolException(protocol.getCanonicalName(), failures);
+    }
+
+    return Collections.unmodifiableMap(methods);
+  }
+
+  private static boolean isSafeGenerable(final Class<?> protocol) {
+    if (protocol.isAnnotationPresent(SafeProxyGenerable.class)) {
+      return true;
+    }
+    return Arrays.stream(protocol.getInterfaces()).anyMatch(InMemoryActorProxy::isSafeGenerable);
+  }
+
+  private static final class ProtocolMethod {
+    final Object defaultValue;
+    final boolean hasResult;
+    final boolean isCompletes;
+    final Method method;
+    final String representation;
+
+    ProtocolMethod(final Method method) {
+      final Class<?> returnType = method.getReturnType();
+      this.method = method;
+      this.isCompletes = returnType == Completes.class;
+      this.hasResult = isCompletes || returnType == Future.class || returnType == CompletableFuture.class;
+      this.defaultValue = defaultValueOf(returnType);
+      this.representation =
+              method.getName() +
+              Arrays.stream(method.getGenericParameterTypes())
+                .map(Type::getTypeName)
+                .map(name -> name.replace('$', '.'))
+                .collect(Collectors.joining(", ", "(", ")"));
+
+      if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+        method.setAccessible(true);
+      }
+    }
+
+    void invoke(final Object target, final Object[] args) {
+      try {
+        method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        rethrow(e.getCause());
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException("Cannot deliver " + representation + " because: " + e.getMessage(), e);
+      }
+    }
+
+    Object returnValue(final Actor actor) {
+      if (isCompletes) {
+        return Completes.using(actor.scheduler());
+      } else if (hasResult) {
+        return new CompletableFuture<>();
+      }
+      return null;
+    }
+
+    private static Object defaultValueOf(final Class<?> returnType) {
+      if (!returnType.isPrimitive() || returnType == void.class) return null;
+      if (returnType == boolean.class) return false;
+      if (returnType == char.class) return '\0';
+      if (returnType == byte.class) return (byte) 0;
+      if (returnType == short.class) return (short) 0;
+      if (returnType == int.class) return 0;
+      if (returnType == long.class) return 0L;
+      if (returnType == float.class) return 0.0f;
+      return 0.0d;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void rethrow(final Throwable throwable) throws E {
+      throw (E) throwable;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@code SnapshotStore} that holds the snapshots on the heap as they are,
+ * which saves the actors and their mailboxes, but not their state.
+ */
+public class InMemorySnapshotStore implements SnapshotStore {
+  private final Map<Address, Object> snapshots = new ConcurrentHashMap<>();
+
+  @Override
+  public void save(final Address address, final Object snapshot) {
+    snapshots.put(address, snapshot);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <S> S take(final Address address) {
+    return (S) snapshots.remove(address);
+  }
+
+  @Override
+  public int size() {
+    return snapshots.size();
+  }
+}
@@ -0,0 +1,128 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The proxy of an actor that is registered with its {@code Stage} lazily, by
+ * {@code Address} and {@code Definition} only. Each message sent through me is
+ * forwarded to the proxy of the actor at my address, which is created from my
+ * definition if it is not in the directory, so that the {@code Actor}, its
+ * {@code Mailbox}, and its {@code Environment} exist only while it is in use,
+ * and again after it was evicted. The actor found is kept until it stops, so
+ * that the directory is searched only to find or create it again.
+ */
+final class LazyActorProxy<T> implements InvocationHandler {
+  // the methods of each protocol, made accessible once if declared by a non-public type
+  private static final ClassValue<Map<Method, Method>> AccessibleMethods =
+          new ClassValue<Map<Method, Method>>() {
+            @Override
+            protected Map<Method, Method> computeValue(final Class<?> protocol) {
+              final Map<Method, Method> methods = new HashMap<>();
+              for (final Method method : protocol.getMethods()) {
+                if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                  method.setAccessible(true);
+                }
+                methods.put(method, method);
+              }
+              return methods;
+            }
+          };
+
+  private final Address address;
+  private final Definition definition;
+  private final Class<T> protocol;
+  private final Stage stage;
+  private volatile Started<T> started;
+
+  /**
+   * Answer a new lazy proxy of {@code protocol} for the actor at {@code address}.
+   * @param protocol the {@code Class<T>} protocol of the proxy
+   * @param stage the Stage on which the actor is created
+   * @param definition the Definition from which the actor is created
+   * @param address the Address of the actor
+   * @param <T> the protocol type
+   * @return T
+   */
+  static <T> T createFor(final Class<T> protocol, final Stage stage, final Definition definition, final Address address) {
+    final LazyActorProxy<T> handler = new LazyActorProxy<>(protocol, stage, definition, address);
+
+    final Object proxy =
+            java.lang.reflect.Proxy.newProxyInstance(
+                    protocol.getClassLoader(),
+                    new Class<?>[] { protocol, Proxy.class },
+                    handler);
+
+    return protocol.cast(proxy);
+  }
+
+  @Override
+  public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+    final Class<?> declaringClass = method.getDeclaringClass();
+
+    if (declaringClass == Object.class || declaringClass == Proxy.class) {
+      switch (method.getName()) {
+      case "address":
+        return address;
+      case "equals":
+        final Object other = args[0];
+        if (proxy == other) return true;
+        if (other == null) return false;
+        if (other.getClass() != proxy.getClass()) return false;
+        return address.equals(Proxy.from(other).address());
+      case "hashCode":
+        return 31 + protocol.hashCode() + address.hashCode();
+      case "toString":
+        return protocol.getSimpleName() + "[address=" + address + "]";
+      default:
+        throw new UnsupportedOperationException("Not a protocol method: " + method);
+      }
+    }
+
+    final Method accessible = AccessibleMethods.get(protocol).get(method);
+
+    try {
+      return accessible.invoke(target(), args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private T target() {
+    Started<T> current = started;
+    if (current == null || current.actor.isStopped()) {
+      final Actor actor = stage.actorLookupOrStart(definition, address);
+      current = new Started<>(actor, stage.actorAs(actor, protocol));
+      started = current;
+    }
+    return current.target;
+  }
+
+  private LazyActorProxy(final Class<T> protocol, final Stage stage, final Definition definition, final Address address) {
+    this.protocol = protocol;
+    this.stage = stage;
+    this.definition = definition;
+    this.address = address;
+  }
+
+  private static final class Started<T> {
+    final Actor actor;
+    final T target;
+
+    Started(final Actor actor, final T target) {
+      this.actor = actor;
+      this.target = target;
+    }
+  }
+}
@@ -11,11 +11,12 @@ import io.vlingo.xoom.common.SerializableConsumer;
 
 final class LifeCycle {
   final Environment environment;
-  final Evictable evictable;
 
-  LifeCycle(final Environment environment, Evictable evictable) {
+  private long activeOn;
+
+  LifeCycle(final Environment environment) {
     this.environment = environment;
-    this.evictable = evictable;
+    this.activeOn = System.currentTimeMillis();
   }
 
   @Override
@@ -51,6 +52,10 @@ final class LifeCycle {
   }
 
   void stop(final Actor actor) {
+    if (environment.isPassivating()) {
+      environment.stage.passivate(actor);
+    }
+
     environment.stop();
     environment.removeFromParent(actor);
 
@@ -107,6 +112,9 @@ final class LifeCycle {
   }
 
   void sendStart(final Actor targetActor) {
+    // restored before start() is sent, so that start() sees the state
+    environment.stage.reactivate(targetActor);
+
     try {
       final SerializableConsumer<Startable> consumer = (actor) -> actor.start();
       if (!environment.mailbox.isPreallocated()) {
@@ -121,6 +129,50 @@ final class LifeCycle {
     }
   }
 
+  //=======================================
+  // eviction
+  //=======================================
+
+  void receivedMessage() {
+    activeOn(System.currentTimeMillis());
+  }
+
+  void activeOn(final long activeOn) {
+    this.activeOn = activeOn;
+  }
+
+  /**
+   * Answer whether {@code actor} is evicted, by passivating and stopping it, because
+   * it is evictable, has no pending messages, and is stale at {@code referenceMillis}.
+   * @param actor the Actor to evict
+   * @param referenceMillis the long current time in milliseconds
+   * @param thresholdMillis the long milliseconds since its last message after which it is stale
+   * @return boolean
+   */
+  boolean evict(final Actor actor, final long referenceMillis, final long thresholdMillis) {
+    if (environment.isPassivating() || !actor.definition().evictable) { return false; }
+
+    final int pendingMessageCount = environment.mailbox.pendingMessages();
+    if (isStale(referenceMillis, thresholdMillis)) {
+      if (pendingMessageCount == 0) {
+        if (environment.setPassivating()) {
+          actor.selfAs(Stoppable.class).stop();
+          return true;
+        }
+      }
+      else {
+        actor.logger().warn(
+            "Inactive Actor at {} failed to evict because it has {} undelivered messages in its mailbox",
+            actor.address(), pendingMessageCount);
+      }
+    }
+    return false;
+  }
+
+  boolean isStale(final long referenceMillis, final long thresholdMillis) {
+    return activeOn < referenceMillis - thresholdMillis;
+  }
+
   //=======================================
   // supervisor/suspending/resuming
   //=======================================
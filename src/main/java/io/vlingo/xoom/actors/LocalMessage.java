@@ -16,6 +16,8 @@ public class LocalMessage<T> implements Message {
   Class<T> protocol;
   String representation;
 
+  private volatile LocalMessage<?> nextMessage;
+
   @SuppressWarnings("unchecked")
   public LocalMessage(final Actor actor, final Class<T> protocol, final SerializableConsumer<T> consumer, final Returns<?> returns, final String representation) {
     this.actor = actor;
@@ -31,6 +33,10 @@ public class LocalMessage<T> implements Message {
 
   public LocalMessage(final LocalMessage<T> message) {
     this(message.actor, message.protocol, message.consumer, message.returns, message.representation);
+    if (message instanceof ProxyMessage) {
+      // the copy consumes through the original, which must no longer be recycled
+      ((ProxyMessage<T>) message).retain();
+    }
   }
 
   public LocalMessage(final Mailbox mailbox) {
@@ -92,6 +98,24 @@ public class LocalMessage<T> implements Message {
     this.returns = (Returns<Object>) returns;
   }
 
+  /**
+   * Answer my link to the next message of an intrusive mailbox queue.
+   * For use by mailbox implementations only.
+   * @return {@code LocalMessage<?>}
+   */
+  public LocalMessage<?> __internal__nextMessage() {
+    return nextMessage;
+  }
+
+  /**
+   * Set my link to the next message of an intrusive mailbox queue.
+   * For use by mailbox implementations only.
+   * @param nextMessage the {@code LocalMessage<?>} following me, which may be null
+   */
+  public void __internal__nextMessage(final LocalMessage<?> nextMessage) {
+    this.nextMessage = nextMessage;
+  }
+
   @Override
   public String toString() {
     return "LocalMessage[" + representation() + "]";
@@ -119,12 +143,12 @@ public class LocalMessage<T> implements Message {
       try {
         actor.returns.reset(returns);
         consumer.accept((T) actor);
-        actor.lifeCycle.evictable.receivedMessage();
+        actor.lifeCycle.receivedMessage();
         if (actor.returns.__internal__outcomeSet) {
           // USE THE FOLLOWING. this forces the same ce actor to be used for
           // all completes outcomes such that completes outcomes cannot be
           // delivered to the client out of order from the original ordered causes.
-          actor.lifeCycle.environment.completesEventually(actor.returns).with(actor.returns.__internal__outcome);
+          actor.lifeCycle.environment.completeEventually(actor.returns, actor.returns.__internal__outcome);
           // DON'T USE THE FOLLOWING. it selects ce actors in round-robin order which
           // can easily cause clients to see outcomes of messages delivered later to
           // an actor before outcomes of messages delivered earlier to the same actor.
@@ -58,6 +58,39 @@ public interface Mailbox extends Runnable {
    */
   void send(final Message message);
 
+  /**
+   * Arrange for all {@code messages} to be sent in their given order. An
+   * implementation may publish them together and schedule their delivery
+   * once rather than once per message. By default each is sent individually,
+   * and for a preallocated mailbox the content of each is copied into it.
+   * @param messages the Message[] to send
+   */
+  default void sendAll(final Message[] messages) {
+    if (isPreallocated()) {
+      for (final Message message : messages) {
+        final LocalMessage<?> local = (LocalMessage<?>) message;
+        send(local.actor(), local.protocol(), local.consumer(), local.returns(), local.representation());
+      }
+    } else {
+      for (final Message message : messages) {
+        send(message);
+      }
+    }
+  }
+
+  /**
+   * Answer whether or not {@code message} was accepted to be sent. Unlike
+   * {@code send()} this neither waits for nor applies the overflow policy of
+   * a full bounded mailbox, but leaves the sender to decide what to do with a
+   * message that was not accepted. By default the message is always sent.
+   * @param message the Message to send
+   * @return boolean
+   */
+  default boolean trySend(final Message message) {
+    send(message);
+    return true;
+  }
+
   /**
    * Suspend message deliver but allow any of the given {@code overrides}
    * to pass through, essentially giving these priority. Note that the
@@ -12,12 +12,21 @@ import java.util.Properties;
 import io.vlingo.xoom.actors.plugin.Plugin;
 import io.vlingo.xoom.actors.plugin.PluginConfiguration;
 import io.vlingo.xoom.actors.plugin.PluginProperties;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
 import io.vlingo.xoom.actors.plugin.mailbox.agronampscarrayqueue.ManyToOneConcurrentArrayQueuePlugin;
 import io.vlingo.xoom.actors.plugin.mailbox.agronampscarrayqueue.ManyToOneConcurrentArrayQueuePlugin.ManyToOneConcurrentArrayQueuePluginConfiguration;
 import io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin;
 import io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin.ConcurrentQueueMailboxPluginConfiguration;
+import io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.PriorityQueueMailboxPlugin;
+import io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.PriorityQueueMailboxPlugin.PriorityQueueMailboxPluginConfiguration;
+import io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.VirtualThreadMailboxPlugin;
+import io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.VirtualThreadMailboxPlugin.VirtualThreadMailboxPluginConfiguration;
+import io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer.RingBufferWaitStrategy;
 import io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMailboxPlugin;
 import io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMailboxPlugin.SharedRingBufferMailboxPluginConfiguration;
+import io.vlingo.xoom.actors.plugin.mailbox.workstealing.WorkStealingMailboxPlugin;
+import io.vlingo.xoom.actors.plugin.mailbox.workstealing.WorkStealingMailboxPlugin.WorkStealingMailboxPluginConfiguration;
 
 /**
  * Basic Mailbox configuration.
@@ -28,7 +37,10 @@ import io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMai
  * <ul>
  *   <li>{@code ArrayQueueConfiguration configuration = MailboxConfiguration.arrayQueueConfiguration();}</li>
  *   <li>{@code ConcurrentQueueConfiguration configuration = MailboxConfiguration.concurrentQueueConfiguration();}</li>
+ *   <li>{@code PriorityQueueConfiguration configuration = MailboxConfiguration.priorityQueueConfiguration();}</li>
  *   <li>{@code SharedRingBufferConfiguration configuration = MailboxConfiguration.sharedRingBufferConfiguration();}</li>
+ *   <li>{@code VirtualThreadConfiguration configuration = MailboxConfiguration.virtualThreadConfiguration();}</li>
+ *   <li>{@code WorkStealingConfiguration configuration = MailboxConfiguration.workStealingConfiguration();}</li>
  * </ul>
  * 
  * @param <T> the T typed full configuration type
@@ -51,6 +63,14 @@ public interface MailboxConfiguration<T> {
     return new BasicConcurrentQueueConfiguration();
   }
 
+  /**
+   * Answer a new instance of {@code PriorityQueueConfiguration}.
+   * @return PriorityQueueConfiguration
+   */
+  static PriorityQueueConfiguration priorityQueueConfiguration() {
+    return new BasicPriorityQueueConfiguration();
+  }
+
   /**
    * Answer a new instance of {@code SharedRingBufferConfiguration}.
    * @return SharedRingBufferConfiguration
@@ -59,6 +79,22 @@ public interface MailboxConfiguration<T> {
     return new BasicSharedRingBufferConfiguration();
   }
 
+  /**
+   * Answer a new instance of {@code VirtualThreadConfiguration}.
+   * @return VirtualThreadConfiguration
+   */
+  static VirtualThreadConfiguration virtualThreadConfiguration() {
+    return new BasicVirtualThreadConfiguration();
+  }
+
+  /**
+   * Answer a new instance of {@code WorkStealingConfiguration}.
+   * @return WorkStealingConfiguration
+   */
+  static WorkStealingConfiguration workStealingConfiguration() {
+    return new BasicWorkStealingConfiguration();
+  }
+
   /**
    * Answer my {@code Configuration}, which is independent
    * of the {@code World} registered {@code Configuration}.
@@ -169,6 +205,21 @@ public interface MailboxConfiguration<T> {
      * @return ArrayQueue
      */
     ArrayQueueConfiguration sendRetires(final int sendRetires);
+
+    /**
+     * Answer myself after setting my overflowPolicy, which is one of dropNewest,
+     * dropOldest, park, or reject. If not set the value is reject.
+     * @param overflowPolicy the String name of the overflow policy
+     * @return ArrayQueue
+     */
+    ArrayQueueConfiguration overflowPolicy(final String overflowPolicy);
+
+    /**
+     * Answer myself after setting my overflowParkTimeout, where 0 parks without a timeout.
+     * @param overflowParkTimeout the long milliseconds that the park overflow policy waits
+     * @return ArrayQueue
+     */
+    ArrayQueueConfiguration overflowParkTimeout(final long overflowParkTimeout);
   }
 
   /**
@@ -197,6 +248,78 @@ public interface MailboxConfiguration<T> {
      * @return ConcurrentQueue
      */
     ConcurrentQueueConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount);
+
+    /**
+     * Answer myself after selecting adaptive dispatcher throttling, which replaces a fixed
+     * dispatcherThrottlingCount with one that grows while a mailbox has a backlog and
+     * shrinks while other mailboxes wait too long to be delivered.
+     * @return ConcurrentQueue
+     */
+    ConcurrentQueueConfiguration adaptiveDispatcherThrottling();
+
+    /**
+     * Answer myself after setting my lockFreeDispatcher, which when true uses per-thread
+     * lock-free run queues with work stealing rather than a shared blocking queue.
+     * If not set the value is false.
+     * @param lockFreeDispatcher the boolean on or off
+     * @return ConcurrentQueue
+     */
+    ConcurrentQueueConfiguration lockFreeDispatcher(final boolean lockFreeDispatcher);
+
+    /**
+     * Answer myself after setting my intrusiveQueue, which when true links messages through
+     * themselves rather than through allocated queue nodes, and counts pending messages.
+     * If not set the value is false.
+     * @param intrusiveQueue the boolean on or off
+     * @return ConcurrentQueue
+     */
+    ConcurrentQueueConfiguration intrusiveQueue(final boolean intrusiveQueue);
+  }
+
+  /**
+   * Configuration for a kind of PriorityQueueMailbox, which delivers messages
+   * in the order of their protocol and method {@code Priority}.
+   * 
+   * <p>See the <a href="https://docs.vlingo.io/xoom-actors#plugins">XOOM Actors Plugins</a> documentation.
+   */
+  static interface PriorityQueueConfiguration extends MailboxConfiguration<PriorityQueueConfiguration> {
+    /**
+     * Answer myself after setting my numberOfDispatchersFactor.
+     * @param numberOfDispatchersFactor the double number of dispatchers factor
+     * @return PriorityQueue
+     */
+    PriorityQueueConfiguration numberOfDispatchersFactor(final double numberOfDispatchersFactor);
+
+    /**
+     * Answer myself after setting my numberOfDispatchers.
+     * @param numberOfDispatchers the int number of dispatchers
+     * @return PriorityQueue
+     */
+    PriorityQueueConfiguration numberOfDispatchers(final int numberOfDispatchers);
+
+    /**
+     * Answer myself after setting my dispatcherThrottlingCount.
+     * @param dispatcherThrottlingCount the int dispatcher throttling count
+     * @return PriorityQueue
+     */
+    PriorityQueueConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount);
+
+    /**
+     * Answer myself after selecting adaptive dispatcher throttling, which replaces a fixed
+     * dispatcherThrottlingCount with one that grows while a mailbox has a backlog and
+     * shrinks while other mailboxes wait too long to be delivered.
+     * @return PriorityQueue
+     */
+    PriorityQueueConfiguration adaptiveDispatcherThrottling();
+
+    /**
+     * Answer myself after setting my lockFreeDispatcher, which when true uses per-thread
+     * lock-free run queues with work stealing rather than a shared blocking queue.
+     * If not set the value is false.
+     * @param lockFreeDispatcher the boolean on or off
+     * @return PriorityQueue
+     */
+    PriorityQueueConfiguration lockFreeDispatcher(final boolean lockFreeDispatcher);
   }
 
   /**
@@ -232,6 +355,119 @@ public interface MailboxConfiguration<T> {
      * @return SharedRingBuffer
      */
     SharedRingBufferConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount);
+
+    /**
+     * Answer myself after setting my waitStrategy, which is one of busySpin, yield,
+     * park, blocking, or backoff. If not set the value is backoff.
+     * @param waitStrategy the String name of the wait strategy
+     * @return SharedRingBuffer
+     */
+    SharedRingBufferConfiguration waitStrategy(final String waitStrategy);
+
+    /**
+     * Answer myself after setting my overflowPolicy, which is one of dropNewest,
+     * park, or reject. If not set the value is park.
+     * @param overflowPolicy the String name of the overflow policy
+     * @return SharedRingBuffer
+     */
+    SharedRingBufferConfiguration overflowPolicy(final String overflowPolicy);
+
+    /**
+     * Answer myself after setting my overflowParkTimeout, where 0 parks without a timeout.
+     * If not set the value is 0.
+     * @param overflowParkTimeout the long milliseconds that the park overflow policy waits
+     * @return SharedRingBuffer
+     */
+    SharedRingBufferConfiguration overflowParkTimeout(final long overflowParkTimeout);
+  }
+
+  /**
+   * Configuration for a kind of ConcurrentQueueMailbox that delivers on virtual
+   * threads, or on per-delivery platform threads where those are not available.
+   * 
+   * <p>See the <a href="https://docs.vlingo.io/xoom-actors#plugins">XOOM Actors Plugins</a> documentation.
+   */
+  static interface VirtualThreadConfiguration extends MailboxConfiguration<VirtualThreadConfiguration> {
+    /**
+     * Answer myself after setting my dispatcherThrottlingCount.
+     * @param dispatcherThrottlingCount the int dispatcher throttling count
+     * @return VirtualThreadConfiguration
+     */
+    VirtualThreadConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount);
+
+    /**
+     * Answer myself after selecting adaptive dispatcher throttling, which replaces a fixed
+     * dispatcherThrottlingCount with one that grows while a mailbox has a backlog and
+     * shrinks while other mailboxes wait too long to be delivered.
+     * @return VirtualThreadConfiguration
+     */
+    VirtualThreadConfiguration adaptiveDispatcherThrottling();
+  }
+
+  /**
+   * Configuration for a kind of WorkStealingMailbox, which has a bounded
+   * queue per actor that is delivered by a shared pool of carrier threads.
+   * 
+   * <p>See the <a href="https://docs.vlingo.io/xoom-actors#plugins">XOOM Actors Plugins</a> documentation.
+   */
+  static interface WorkStealingConfiguration extends MailboxConfiguration<WorkStealingConfiguration> {
+    /**
+     * Answer myself after setting my size.
+     * @param size the int size of each mailbox's internal array
+     * @return WorkStealingConfiguration
+     */
+    WorkStealingConfiguration size(final int size);
+
+    /**
+     * Answer myself after setting my numberOfDispatchersFactor.
+     * @param numberOfDispatchersFactor the double number of carrier threads factor
+     * @return WorkStealingConfiguration
+     */
+    WorkStealingConfiguration numberOfDispatchersFactor(final double numberOfDispatchersFactor);
+
+    /**
+     * Answer myself after setting my numberOfDispatchers.
+     * @param numberOfDispatchers the int number of carrier threads
+     * @return WorkStealingConfiguration
+     */
+    WorkStealingConfiguration numberOfDispatchers(final int numberOfDispatchers);
+
+    /**
+     * Answer myself after setting my dispatcherThrottlingCount.
+     * @param dispatcherThrottlingCount the int dispatcher throttling count
+     * @return WorkStealingConfiguration
+     */
+    WorkStealingConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount);
+
+    /**
+     * Answer myself after selecting adaptive dispatcher throttling, which replaces a fixed
+     * dispatcherThrottlingCount with one that grows while a mailbox has a backlog and
+     * shrinks while other mailboxes wait too long to be delivered.
+     * @return WorkStealingConfiguration
+     */
+    WorkStealingConfiguration adaptiveDispatcherThrottling();
+
+    /**
+     * Answer myself after setting my sendRetires.
+     * @param sendRetires the int number of retries on send
+     * @return WorkStealingConfiguration
+     */
+    WorkStealingConfiguration sendRetires(final int sendRetires);
+
+    /**
+     * Answer myself after setting my overflowPolicy, which is one of dropNewest,
+     * dropOldest, park, or reject. If not set the value is reject.
+     * @param overflowPolicy the String name of the overflow policy
+     * @return WorkStealingConfiguration
+     */
+    WorkStealingConfiguration overflowPolicy(final String overflowPolicy);
+
+    /**
+     * Answer myself after setting my overflowParkTimeout, where 0 parks without a timeout.
+     * @param overflowParkTimeout the long milliseconds that the park overflow policy waits
+     * @return WorkStealingConfiguration
+     */
+    WorkStealingConfiguration overflowParkTimeout(final long overflowParkTimeout);
   }
 
   //=========================================
@@ -342,6 +578,8 @@ public interface MailboxConfiguration<T> {
     private boolean notifyOnSend;
     private int sendRetires;
     private int size;
+    private String overflowPolicy = MailboxOverflowPolicy.Reject;
+    private long overflowParkTimeout = 100L;
     private int dispatcherThrottlingCount;
 
     @Override
@@ -379,6 +617,20 @@ public interface MailboxConfiguration<T> {
       return this;
     }
 
+    @Override
+    public ArrayQueueConfiguration overflowPolicy(final String overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+
+      return this;
+    }
+
+    @Override
+    public ArrayQueueConfiguration overflowParkTimeout(final long overflowParkTimeout) {
+      this.overflowParkTimeout = overflowParkTimeout;
+
+      return this;
+    }
+
     @Override
     public Plugin plugin() {
       if (plugin == null) {
@@ -407,13 +659,18 @@ public interface MailboxConfiguration<T> {
       properties.setProperty(pluginName() + ".notifyOnSend", Boolean.toString(notifyOnSend));
       properties.setProperty(pluginName() + ".dispatcherThrottlingCount", Integer.toString(dispatcherThrottlingCount));
       properties.setProperty(pluginName() + ".sendRetires", Integer.toString(sendRetires));
+      properties.setProperty(pluginName() + ".overflowPolicy", overflowPolicy);
+      properties.setProperty(pluginName() + ".overflowParkTimeout", Long.toString(overflowParkTimeout));
 
       return properties;
     }
   }
   
   static final class BasicConcurrentQueueConfiguration extends BaseMailboxConfiguration<ConcurrentQueueConfiguration> implements ConcurrentQueueConfiguration {
+    private boolean adaptiveDispatcherThrottling;
     private int dispatcherThrottlingCount;
+    private boolean intrusiveQueue;
+    private boolean lockFreeDispatcher;
     private int numberOfDispatchers;
     private double numberOfDispatchersFactor;
 
@@ -438,6 +695,27 @@ public interface MailboxConfiguration<T> {
       return this;
     }
 
+    @Override
+    public ConcurrentQueueConfiguration adaptiveDispatcherThrottling() {
+      this.adaptiveDispatcherThrottling = true;
+
+      return this;
+    }
+
+    @Override
+    public ConcurrentQueueConfiguration intrusiveQueue(final boolean intrusiveQueue) {
+      this.intrusiveQueue = intrusiveQueue;
+
+      return this;
+    }
+
+    @Override
+    public ConcurrentQueueConfiguration lockFreeDispatcher(final boolean lockFreeDispatcher) {
+      this.lockFreeDispatcher = lockFreeDispatcher;
+
+      return this;
+    }
+
     @Override
     public Plugin plugin() {
       if (plugin == null) {
@@ -463,7 +741,83 @@ public interface MailboxConfiguration<T> {
 
       properties.setProperty(pluginName() + ".numberOfDispatchersFactor", Double.toString(numberOfDispatchersFactor));
       properties.setProperty(pluginName() + ".numberOfDispatchers", Integer.toString(numberOfDispatchers));
-      properties.setProperty(pluginName() + ".dispatcherThrottlingCount", Integer.toString(dispatcherThrottlingCount));
+      properties.setProperty(pluginName() + ".dispatcherThrottlingCount", adaptiveDispatcherThrottling ? DeliveryThrottle.Adaptive : Integer.toString(dispatcherThrottlingCount));
+      properties.setProperty(pluginName() + ".lockFreeDispatcher", Boolean.toString(lockFreeDispatcher));
+      properties.setProperty(pluginName() + ".intrusiveQueue", Boolean.toString(intrusiveQueue));
+
+      return properties;
+    }
+  }
+
+  static final class BasicPriorityQueueConfiguration extends BaseMailboxConfiguration<PriorityQueueConfiguration> implements PriorityQueueConfiguration {
+    private boolean adaptiveDispatcherThrottling;
+    private int dispatcherThrottlingCount;
+    private boolean lockFreeDispatcher;
+    private int numberOfDispatchers;
+    private double numberOfDispatchersFactor;
+
+    @Override
+    public PriorityQueueConfiguration numberOfDispatchersFactor(final double numberOfDispatchersFactor) {
+      this.numberOfDispatchersFactor = numberOfDispatchersFactor;
+
+      return this;
+    }
+
+    @Override
+    public PriorityQueueConfiguration numberOfDispatchers(final int numberOfDispatchers) {
+      this.numberOfDispatchers = numberOfDispatchers;
+
+      return this;
+    }
+
+    @Override
+    public PriorityQueueConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount) {
+      this.dispatcherThrottlingCount = dispatcherThrottlingCount;
+
+      return this;
+    }
+
+    @Override
+    public PriorityQueueConfiguration adaptiveDispatcherThrottling() {
+      this.adaptiveDispatcherThrottling = true;
+
+      return this;
+    }
+
+    @Override
+    public PriorityQueueConfiguration lockFreeDispatcher(final boolean lockFreeDispatcher) {
+      this.lockFreeDispatcher = lockFreeDispatcher;
+
+      return this;
+    }
+
+    @Override
+    public Plugin plugin() {
+      if (plugin == null) {
+        plugin = new PriorityQueueMailboxPlugin(typedPluginConfiguration());
+      }
+
+      return plugin;
+    }
+
+    @Override
+    public PluginConfiguration pluginConfiguration() {
+      if (pluginConfiguration == null) {
+        pluginConfiguration = PriorityQueueMailboxPluginConfiguration.define();
+        pluginConfiguration.buildWith(configuration(), pluginProperties());
+      }
+
+      return pluginConfiguration;
+    }
+
+    @Override
+    public Properties toProperties() {
+      final Properties properties = super.toProperties();
+
+      properties.setProperty(pluginName() + ".numberOfDispatchersFactor", Double.toString(numberOfDispatchersFactor));
+      properties.setProperty(pluginName() + ".numberOfDispatchers", Integer.toString(numberOfDispatchers));
+      properties.setProperty(pluginName() + ".dispatcherThrottlingCount", adaptiveDispatcherThrottling ? DeliveryThrottle.Adaptive : Integer.toString(dispatcherThrottlingCount));
+      properties.setProperty(pluginName() + ".lockFreeDispatcher", Boolean.toString(lockFreeDispatcher));
 
       return properties;
     }
@@ -473,7 +827,10 @@ public interface MailboxConfiguration<T> {
     private int fixedBackoff;
     private boolean notifyOnSend;
     private int size;
+    private String overflowPolicy = MailboxOverflowPolicy.Park;
+    private long overflowParkTimeout = 0L;
     private int dispatcherThrottlingCount;
+    private String waitStrategy = RingBufferWaitStrategy.Backoff;
 
     @Override
     public SharedRingBufferConfiguration size(final int size) {
@@ -503,6 +860,27 @@ public interface MailboxConfiguration<T> {
       return this;
     }
 
+    @Override
+    public SharedRingBufferConfiguration waitStrategy(final String waitStrategy) {
+      this.waitStrategy = waitStrategy;
+
+      return this;
+    }
+
+    @Override
+    public SharedRingBufferConfiguration overflowPolicy(final String overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+
+      return this;
+    }
+
+    @Override
+    public SharedRingBufferConfiguration overflowParkTimeout(final long overflowParkTimeout) {
+      this.overflowParkTimeout = overflowParkTimeout;
+
+      return this;
+    }
+
     @Override
     public Plugin plugin() {
       if (plugin == null) {
@@ -530,6 +908,157 @@ public interface MailboxConfiguration<T> {
       properties.setProperty(pluginName() + ".fixedBackoff", Integer.toString(fixedBackoff));
       properties.setProperty(pluginName() + ".notifyOnSend", Boolean.toString(notifyOnSend));
       properties.setProperty(pluginName() + ".dispatcherThrottlingCount", Integer.toString(dispatcherThrottlingCount));
+      properties.setProperty(pluginName() + ".waitStrategy", waitStrategy);
+      properties.setProperty(pluginName() + ".overflowPolicy", overflowPolicy);
+      properties.setProperty(pluginName() + ".overflowParkTimeout", Long.toString(overflowParkTimeout));
+
+      return properties;
+    }
+  }
+
+  static final class BasicVirtualThreadConfiguration extends BaseMailboxConfiguration<VirtualThreadConfiguration> implements VirtualThreadConfiguration {
+    private boolean adaptiveDispatcherThrottling;
+    private int dispatcherThrottlingCount;
+
+    @Override
+    public VirtualThreadConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount) {
+      this.dispatcherThrottlingCount = dispatcherThrottlingCount;
+
+      return this;
+    }
+
+    @Override
+    public VirtualThreadConfiguration adaptiveDispatcherThrottling() {
+      this.adaptiveDispatcherThrottling = true;
+
+      return this;
+    }
+
+    @Override
+    public Plugin plugin() {
+      if (plugin == null) {
+        plugin = new VirtualThreadMailboxPlugin(typedPluginConfiguration());
+      }
+
+      return plugin;
+    }
+
+    @Override
+    public PluginConfiguration pluginConfiguration() {
+      if (pluginConfiguration == null) {
+        pluginConfiguration = VirtualThreadMailboxPluginConfiguration.define();
+        pluginConfiguration.buildWith(configuration(), pluginProperties());
+      }
+
+      return pluginConfiguration;
+    }
+
+    @Override
+    public Properties toProperties() {
+      final Properties properties = super.toProperties();
+
+      properties.setProperty(pluginName() + ".dispatcherThrottlingCount", adaptiveDispatcherThrottling ? DeliveryThrottle.Adaptive : Integer.toString(dispatcherThrottlingCount));
+
+      return properties;
+    }
+  }
+
+  static final class BasicWorkStealingConfiguration extends BaseMailboxConfiguration<WorkStealingConfiguration> implements WorkStealingConfiguration {
+    private boolean adaptiveDispatcherThrottling;
+    private int dispatcherThrottlingCount;
+    private int numberOfDispatchers;
+    private double numberOfDispatchersFactor;
+    private int sendRetires;
+    private int size;
+    private String overflowPolicy = MailboxOverflowPolicy.Reject;
+    private long overflowParkTimeout = 100L;
+
+    @Override
+    public WorkStealingConfiguration size(final int size) {
+      this.size = size;
+
+      return this;
+    }
+
+    @Override
+    public WorkStealingConfiguration numberOfDispatchersFactor(final double numberOfDispatchersFactor) {
+      this.numberOfDispatchersFactor = numberOfDispatchersFactor;
+
+      return this;
+    }
+
+    @Override
+    public WorkStealingConfiguration numberOfDispatchers(final int numberOfDispatchers) {
+      this.numberOfDispatchers = numberOfDispatchers;
+
+      return this;
+    }
+
+    @Override
+    public WorkStealingConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount) {
+      this.dispatcherThrottlingCount = dispatcherThrottlingCount;
+
+      return this;
+    }
+
+    @Override
+    public WorkStealingConfiguration adaptiveDispatcherThrottling() {
+      this.adaptiveDispatcherThrottling = true;
+
+      return this;
+    }
+
+    @Override
+    public WorkStealingConfiguration sendRetires(final int sendRetires) {
+      this.sendRetires = sendRetires;
+
+      return this;
+    }
+
+    @Override
+    public WorkStealingConfiguration overflowPolicy(final String overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+
+      return this;
+    }
+
+    @Override
+    public WorkStealingConfiguration overflowParkTimeout(final long overflowParkTimeout) {
+      this.overflowParkTimeout = overflowParkTimeout;
+
+      return this;
+    }
+
+    @Override
+    public Plugin plugin() {
+      if (plugin == null) {
+        plugin = new WorkStealingMailboxPlugin(typedPluginConfiguration());
+      }
+
+      return plugin;
+    }
+
+    @Override
+    public PluginConfiguration pluginConfiguration() {
+      if (pluginConfiguration == null) {
+        pluginConfiguration = WorkStealingMailboxPluginConfiguration.define();
+        pluginConfiguration.buildWith(configuration(), pluginProperties());
+      }
+
+      return pluginConfiguration;
+    }
+
+    @Override
+    public Properties toProperties() {
+      final Properties properties = super.toProperties();
+
+      properties.setProperty(pluginName() + ".size", Integer.toString(size));
+      properties.setProperty(pluginName() + ".numberOfDispatchersFactor", Double.toString(numberOfDispatchersFactor));
+      properties.setProperty(pluginName() + ".numberOfDispatchers", Integer.toString(numberOfDispatchers));
+      properties.setProperty(pluginName() + ".dispatcherThrottlingCount", adaptiveDispatcherThrottling ? DeliveryThrottle.Adaptive : Integer.toString(dispatcherThrottlingCount));
+      properties.setProperty(pluginName() + ".sendRetires", Integer.toString(sendRetires));
+      properties.setProperty(pluginName() + ".overflowPolicy", overflowPolicy);
+      properties.setProperty(pluginName() + ".overflowParkTimeout", Long.toString(overflowParkTimeout));
 
       return properties;
     }
@@ -0,0 +1,207 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@code SnapshotStore} that serializes the snapshots into a memory-mapped file,
+ * so that the state of passivated actors is held outside of the heap. Snapshots
+ * must be {@code java.io.Serializable}. The file is truncated when I am created,
+ * the space of taken snapshots is reclaimed by compaction when the file is full,
+ * and the file grows by doubling when compaction does not free enough space.
+ */
+public class MappedFileSnapshotStore implements SnapshotStore {
+  public static final int DefaultInitialCapacity = 1024 * 1024;
+
+  private static final int MaximumCapacity = Integer.MAX_VALUE - 8;
+
+  private MappedByteBuffer buffer;
+  private int capacity;
+  private final FileChannel channel;
+  private int position;
+  private final Map<Address, Slot> slots;
+
+  /**
+   * Constructs my default state with the {@code DefaultInitialCapacity}.
+   * @param file the File to map
+   */
+  public MappedFileSnapshotStore(final File file) {
+    this(file, DefaultInitialCapacity);
+  }
+
+  /**
+   * Constructs my default state.
+   * @param file the File to map
+   * @param initialCapacity the int number of bytes to map initially
+   */
+  public MappedFileSnapshotStore(final File file, final int initialCapacity) {
+    this.slots = new HashMap<>();
+
+    try {
+      this.channel =
+              FileChannel.open(
+                      file.toPath(),
+                      StandardOpenOption.CREATE,
+                      StandardOpenOption.READ,
+                      StandardOpenOption.WRITE,
+                      StandardOpenOption.TRUNCATE_EXISTING);
+
+      map(Math.max(initialCapacity, 1));
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot map snapshot store file " + file + " because: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public synchronized void save(final Address address, final Object snapshot) {
+    final byte[] bytes = serialized(snapshot);
+
+    slots.remove(address);
+
+    ensureCapacityFor(bytes.length);
+
+    buffer.position(position);
+    buffer.put(bytes);
+
+    slots.put(address, new Slot(position, bytes.length));
+
+    position += bytes.length;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized <S> S take(final Address address) {
+    final Slot slot = slots.remove(address);
+
+    if (slot == null) {
+      return null;
+    }
+
+    final byte[] bytes = new byte[slot.length];
+    buffer.position(slot.offset);
+    buffer.get(bytes);
+
+    if (slots.isEmpty()) {
+      position = 0;
+    }
+
+    return (S) deserialized(bytes);
+  }
+
+  @Override
+  public synchronized int size() {
+    return slots.size();
+  }
+
+  /**
+   * Close my file, after which I must not be used.
+   */
+  public synchronized void close() {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      // ignore
+    }
+  }
+
+  private void compact() {
+    final List<Map.Entry<Address, Slot>> ordered = new ArrayList<>(slots.entrySet());
+    ordered.sort(Comparator.comparingInt(entry -> entry.getValue().offset));
+
+    int next = 0;
+
+    for (final Map.Entry<Address, Slot> entry : ordered) {
+      final Slot slot = entry.getValue();
+      if (slot.offset != next) {
+        final byte[] bytes = new byte[slot.length];
+        buffer.position(slot.offset);
+        buffer.get(bytes);
+        buffer.position(next);
+        buffer.put(bytes);
+        entry.setValue(new Slot(next, slot.length));
+      }
+      next += slot.length;
+    }
+
+    position = next;
+  }
+
+  private void ensureCapacityFor(final int length) {
+    if (position + length <= capacity) {
+      return;
+    }
+
+    compact();
+
+    if (position + length <= capacity) {
+      return;
+    }
+
+    if (position + (long) length > MaximumCapacity) {
+      throw new IllegalStateException("Snapshot store is full at " + position + " bytes; cannot save " + length + " more.");
+    }
+
+    long newCapacity = capacity;
+    while (newCapacity < position + length) {
+      newCapacity *= 2;
+    }
+
+    try {
+      map((int) Math.min(newCapacity, MaximumCapacity));
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot grow snapshot store because: " + e.getMessage(), e);
+    }
+  }
+
+  private void map(final int capacity) throws IOException {
+    this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    this.capacity = capacity;
+  }
+
+  private static Object deserialized(final byte[] bytes) {
+    try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return input.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new IllegalStateException("Cannot read snapshot because: " + e.getMessage(), e);
+    }
+  }
+
+  private static byte[] serialized(final Object snapshot) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(snapshot);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot write snapshot because: " + e.getMessage(), e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static final class Slot {
+    final int length;
+    final int offset;
+
+    Slot(final int offset, final int length) {
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+}
@@ -0,0 +1,227 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+
+/**
+ * Defines the signal of memory pressure on which the {@code DirectoryEvictor}
+ * evicts actors. It is probed at each {@code lruProbeInterval()}, and may also
+ * signal as soon as pressure is high, so that eviction starts without waiting
+ * for the next interval.
+ */
+public interface MemoryPressure {
+  /**
+   * Answer a {@code MemoryPressure} that is high when the used heap is at least
+   * {@code highMark} of the maximum heap.
+   * @param highMark the float ratio of used to maximum heap, from 0.0 to 1.0
+   * @return MemoryPressure
+   */
+  static MemoryPressure heap(final float highMark) {
+    return new HeapMemoryPressure(highMark);
+  }
+
+  /**
+   * Answer a {@code MemoryPressure} that is high when the heap that is still used
+   * after garbage collection is at least {@code highMark} of its maximum, and that
+   * signals when a collection leaves it so. The collection usage thresholds of the
+   * heap memory pools of the JVM are set to {@code highMark}.
+   * @param highMark the float ratio of used to maximum heap after collection, from 0.0 to 1.0
+   * @return MemoryPressure
+   */
+  static MemoryPressure afterCollection(final float highMark) {
+    return new CollectionMemoryPressure(highMark);
+  }
+
+  /**
+   * Answer a {@code MemoryPressure} that is high when the directory holds at
+   * least {@code highMark} actors.
+   * @param highMark the int number of actors
+   * @return MemoryPressure
+   */
+  static MemoryPressure actorCount(final int highMark) {
+    return new ActorCountMemoryPressure(highMark);
+  }
+
+  /**
+   * Answer a {@code MemoryPressure} that is high when any of {@code pressures} is high,
+   * and that signals when any of them signals.
+   * @param pressures the MemoryPressure[] to combine
+   * @return MemoryPressure
+   */
+  static MemoryPressure anyOf(final MemoryPressure... pressures) {
+    return new AnyMemoryPressure(Arrays.asList(pressures));
+  }
+
+  /**
+   * Answer whether memory pressure is high.
+   * @param actorCount the int number of actors in the directory
+   * @return boolean
+   */
+  boolean isHigh(final int actorCount);
+
+  /**
+   * Register {@code signal} to be run whenever pressure becomes high between probes,
+   * if I can detect that. Does nothing by default.
+   * @param signal the Runnable to run
+   */
+  default void register(final Runnable signal) { }
+
+  /**
+   * Unregister the {@code signal} that was registered. Does nothing by default.
+   * @param signal the Runnable to unregister
+   */
+  default void unregister(final Runnable signal) { }
+
+
+  final class HeapMemoryPressure implements MemoryPressure {
+    private final float highMark;
+
+    HeapMemoryPressure(final float highMark) {
+      this.highMark = highMark;
+    }
+
+    @Override
+    public boolean isHigh(final int actorCount) {
+      final Runtime runtime = Runtime.getRuntime();
+      final long used = runtime.totalMemory() - runtime.freeMemory();
+      return used >= highMark * runtime.maxMemory();
+    }
+
+    @Override
+    public String toString() {
+      return "HeapMemoryPressure(highMark=" + highMark + ")";
+    }
+  }
+
+  final class CollectionMemoryPressure implements MemoryPressure, NotificationListener {
+    private final float highMark;
+    private final List<MemoryPoolMXBean> pools;
+    private final List<Runnable> signals;
+
+    CollectionMemoryPressure(final float highMark) {
+      this.highMark = highMark;
+      this.pools = new ArrayList<>();
+      this.signals = new CopyOnWriteArrayList<>();
+
+      for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+        final long max = pool.getUsage().getMax();
+        if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported() && max > 0) {
+          pool.setCollectionUsageThreshold((long) (max * highMark));
+          pools.add(pool);
+        }
+      }
+    }
+
+    @Override
+    public boolean isHigh(final int actorCount) {
+      for (final MemoryPoolMXBean pool : pools) {
+        final MemoryUsage usage = pool.getCollectionUsage();
+        if (usage != null && usage.getUsed() >= pool.getCollectionUsageThreshold()) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public synchronized void register(final Runnable signal) {
+      if (signals.isEmpty()) {
+        ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener(this, null, null);
+      }
+      signals.add(signal);
+    }
+
+    @Override
+    public synchronized void unregister(final Runnable signal) {
+      signals.remove(signal);
+      if (signals.isEmpty()) {
+        try {
+          ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(this);
+        } catch (Exception e) {
+          // not registered
+        }
+      }
+    }
+
+    @Override
+    public void handleNotification(final Notification notification, final Object handback) {
+      if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+        signals.forEach(Runnable::run);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "CollectionMemoryPressure(highMark=" + highMark + ")";
+    }
+  }
+
+  final class ActorCountMemoryPressure implements MemoryPressure {
+    private final int highMark;
+
+    ActorCountMemoryPressure(final int highMark) {
+      this.highMark = highMark;
+    }
+
+    @Override
+    public boolean isHigh(final int actorCount) {
+      return actorCount >= highMark;
+    }
+
+    @Override
+    public String toString() {
+      return "ActorCountMemoryPressure(highMark=" + highMark + ")";
+    }
+  }
+
+  final class AnyMemoryPressure implements MemoryPressure {
+    private final List<MemoryPressure> pressures;
+
+    AnyMemoryPressure(final List<MemoryPressure> pressures) {
+      this.pressures = pressures;
+    }
+
+    @Override
+    public boolean isHigh(final int actorCount) {
+      for (final MemoryPressure pressure : pressures) {
+        if (pressure.isHigh(actorCount)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public void register(final Runnable signal) {
+      pressures.forEach(pressure -> pressure.register(signal));
+    }
+
+    @Override
+    public void unregister(final Runnable signal) {
+      pressures.forEach(pressure -> pressure.unregister(signal));
+    }
+
+    @Override
+    public String toString() {
+      return "AnyMemoryPressure(" + pressures + ")";
+    }
+  }
+}
@@ -7,20 +7,85 @@
 
 package io.vlingo.xoom.actors;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The carrier of an outcome to the {@code CompletesEventually} actor that completes
+ * its {@code clientReturns}. A carrier without a {@code Pool} may be completed any
+ * number of times. A carrier of a {@code Pool} is recycled into it once its outcome
+ * is delivered, so it is used only on the internal reply path, which completes it
+ * once and keeps no reference to it; a second outcome is rejected.
+ */
 public class PooledCompletes implements CompletesEventually {
-  public final Returns<Object> clientReturns;
   public final CompletesEventually completesEventually;
   public final long id;
+  private Returns<Object> clientReturns;
+  private final AtomicBoolean completed;
+  private final int index;
   private Object outcome;
+  private final Pool pool;
 
-  @SuppressWarnings("unchecked")
   public PooledCompletes(
           final long id,
           final Returns<?> clientReturns,
           final CompletesEventually completesEventually) {
+    this(id, clientReturns, completesEventually, null, 0);
+  }
+
+  /**
+   * Constructs my default state.
+   * @param id the long id of me, unique among the carriers of pool
+   * @param clientReturns the {@code Returns<?>} that I complete
+   * @param completesEventually the CompletesEventually to which I carry my outcome
+   * @param pool the Pool into which I am recycled, which may be null
+   * @param index the int index of my completesEventually in pool
+   */
+  @SuppressWarnings("unchecked")
+  public PooledCompletes(
+          final long id,
+          final Returns<?> clientReturns,
+          final CompletesEventually completesEventually,
+          final Pool pool,
+          final int index) {
     this.id = id;
     this.clientReturns = (Returns<Object>) clientReturns;
     this.completesEventually = completesEventually;
+    this.completed = new AtomicBoolean(false);
+    this.pool = pool;
+    this.index = index;
+  }
+
+  /**
+   * Answer the {@code Returns<Object>} that I complete.
+   * @return {@code Returns<Object>}
+   */
+  public Returns<Object> clientReturns() {
+    return clientReturns;
+  }
+
+  /**
+   * Answer me, recycled to complete {@code clientReturns}.
+   * @param clientReturns the {@code Returns<?>} that I complete
+   * @return PooledCompletes
+   */
+  @SuppressWarnings("unchecked")
+  public PooledCompletes reuseFor(final Returns<?> clientReturns) {
+    this.clientReturns = (Returns<Object>) clientReturns;
+    completed.set(false);
+    return this;
+  }
+
+  /**
+   * Recycle me into my pool after my outcome was delivered. For use by the
+   * {@code CompletesEventually} actor only, once it no longer references me.
+   */
+  public void recycle() {
+    if (pool != null) {
+      this.clientReturns = null;
+      this.outcome = null;
+      pool.offer(index, this);
+    }
   }
 
   @Override
@@ -32,8 +97,23 @@ public class PooledCompletes implements CompletesEventually {
     return outcome;
   }
 
+  /**
+   * Carry {@code outcome} to my {@code completesEventually}, once only if I am recycled.
+   * A later outcome of a carrier that is not recycled is carried by a copy of me, so
+   * that it does not replace an earlier outcome that is not yet delivered.
+   * @param outcome the Object outcome of my clientReturns
+   * @throws IllegalStateException if I am recycled and was already completed
+   */
   @Override
   public void with(final Object outcome) {
+    if (!completed.compareAndSet(false, true)) {
+      if (pool != null) {
+        throw new IllegalStateException("PooledCompletes[id=" + id + "] is already completed; a recycled CompletesEventually completes only one outcome.");
+      }
+      final PooledCompletes copy = new PooledCompletes(id, clientReturns, completesEventually);
+      copy.with(outcome);
+      return;
+    }
     this.outcome = outcome;
     completesEventually.with(this);
   }
@@ -66,4 +146,49 @@ public class PooledCompletes implements CompletesEventually {
   public String toString() {
     return "PooledCompletes[id=" + id + " address=" + address() + "]";
   }
+
+  /**
+   * The recycled carriers of the {@code CompletesEventually} actors of a pool, a
+   * few per actor, taken by any sender and offered by the delivering actor.
+   */
+  public static final class Pool {
+    private static final int CarriersPerIndex = 4;
+
+    private final AtomicReferenceArray<PooledCompletes> carriers;
+
+    /**
+     * Constructs my default state.
+     * @param indexes the int number of CompletesEventually actors
+     */
+    public Pool(final int indexes) {
+      this.carriers = new AtomicReferenceArray<>(indexes * CarriersPerIndex);
+    }
+
+    /**
+     * Answer a recycled carrier of the actor at {@code index}, or null if none.
+     * @param index the int index of the actor
+     * @return PooledCompletes
+     */
+    public PooledCompletes take(final int index) {
+      final int first = index * CarriersPerIndex;
+      for (int slot = first; slot < first + CarriersPerIndex; ++slot) {
+        if (carriers.get(slot) != null) {
+          final PooledCompletes carrier = carriers.getAndSet(slot, null);
+          if (carrier != null) {
+            return carrier;
+          }
+        }
+      }
+      return null;
+    }
+
+    void offer(final int index, final PooledCompletes carrier) {
+      final int first = index * CarriersPerIndex;
+      for (int slot = first; slot < first + CarriersPerIndex; ++slot) {
+        if (carriers.compareAndSet(slot, null, carrier)) {
+          return;
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,39 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the delivery priority of the messages of an actor protocol, or of
+ * one of its methods, which overrides that of its protocol. Only a priority
+ * mailbox reorders messages by priority; all other mailboxes ignore it. Messages
+ * of the same priority are delivered in the order sent. Overloaded methods
+ * share the highest priority declared on any of them.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface Priority {
+  /** The priority of control messages that must not wait behind others. */
+  static final int High = 0;
+
+  /** The priority of messages that declare none. */
+  static final int Normal = 1;
+
+  /** The priority of messages that may wait behind all others. */
+  static final int Low = 2;
+
+  /**
+   * Answer my priority, which is one of {@code High}, {@code Normal}, or {@code Low}.
+   * @return int
+   */
+  int value();
+}
@@ -0,0 +1,96 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.function.Function;
+
+/**
+ * A batch of messages to a single actor. Messages sent through my {@code view()}
+ * are recorded rather than sent, and are all sent by {@code send()} with one
+ * {@code Mailbox#sendAll(Message[])}, which publishes them together and schedules
+ * delivery at most once for mailboxes that support it. A {@code ProxyBatch} may
+ * be reused after it is sent, but must be used by only one thread at a time.
+ * <p>
+ * Usage:
+ * <pre>
+ *   final ProxyBatch&lt;Ingest&gt; batch = ProxyBatch.of(ingest);
+ *   for (final Command command : commands) {
+ *     batch.view().accept(command);
+ *   }
+ *   batch.send();
+ * </pre>
+ *
+ * @param <T> the protocol type
+ */
+public final class ProxyBatch<T> {
+  private final BatchingMailbox mailbox;
+  private final T view;
+
+  /**
+   * Answer a new {@code ProxyBatch<T>} for the {@code proxy} of an actor.
+   * @param proxy the T actor proxy, which must be a {@code BatchableProxy<T>}
+   * @param <T> the protocol type
+   * @return {@code ProxyBatch<T>}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> ProxyBatch<T> of(final T proxy) {
+    if (!(proxy instanceof BatchableProxy)) {
+      throw new IllegalArgumentException("Proxy does not support batching: " + proxy);
+    }
+    return ((BatchableProxy<T>) proxy).__batch();
+  }
+
+  /**
+   * Answer a new {@code ProxyBatch<T>} that records into a view of a proxy
+   * created by {@code viewFactory} for the actor's {@code mailbox}. For use
+   * by generated proxies.
+   * @param mailbox the Mailbox of the actor
+   * @param viewFactory the {@code Function<Mailbox, T>} that creates the recording proxy
+   * @param <T> the protocol type
+   * @return {@code ProxyBatch<T>}
+   */
+  public static <T> ProxyBatch<T> using(final Mailbox mailbox, final Function<Mailbox, T> viewFactory) {
+    return new ProxyBatch<>(mailbox, viewFactory);
+  }
+
+  /**
+   * Answer the T protocol view through which messages are recorded.
+   * @return T
+   */
+  public T view() {
+    return view;
+  }
+
+  /**
+   * Answer whether or not I have no recorded messages.
+   * @return boolean
+   */
+  public boolean isEmpty() {
+    return mailbox.size() == 0;
+  }
+
+  /**
+   * Answer the number of recorded messages.
+   * @return int
+   */
+  public int size() {
+    return mailbox.size();
+  }
+
+  /**
+   * Send all recorded messages and clear them.
+   */
+  public void send() {
+    mailbox.flush();
+  }
+
+  private ProxyBatch(final Mailbox mailbox, final Function<Mailbox, T> viewFactory) {
+    this.mailbox = new BatchingMailbox(mailbox);
+    this.view = viewFactory.apply(this.mailbox);
+  }
+}
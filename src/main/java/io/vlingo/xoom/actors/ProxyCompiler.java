@@ -0,0 +1,185 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static io.vlingo.xoom.common.compiler.DynaFile.RootOfMainClasses;
+import static io.vlingo.xoom.common.compiler.DynaFile.RootOfTestClasses;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import io.vlingo.xoom.common.compiler.DynaFile;
+import io.vlingo.xoom.common.compiler.DynaType;
+
+/**
+ * Compiles the source of a generated proxy and loads every class that it
+ * compiles to, being the proxy and its nested {@code ProxyMessage} classes.
+ * The {@code DynaCompiler} keeps only one class per compilation, so it cannot
+ * load a proxy whose source declares more than one.
+ */
+final class ProxyCompiler {
+  private final JavaCompiler compiler;
+
+  ProxyCompiler() {
+    this.compiler = ToolProvider.getSystemJavaCompiler();
+
+    if (compiler == null) {
+      throw new IllegalStateException("No Java compiler is available for generating actor proxies.");
+    }
+  }
+
+  /**
+   * Answer the class {@code fullyQualifiedClassname} after compiling {@code source}
+   * and loading all of its classes by a new child of {@code parent}.
+   * @param fullyQualifiedClassname the String name of the class to answer
+   * @param source the String source of the class and its nested classes
+   * @param parent the ClassLoader of the classes that source depends on
+   * @param type the DynaType that selects where the classes are persisted
+   * @param persist the boolean indicating whether to persist the compiled classes
+   * @return {@code Class<?>}
+   * @throws Exception if source does not compile or its class cannot be loaded
+   */
+  Class<?> compile(
+          final String fullyQualifiedClassname,
+          final String source,
+          final ClassLoader parent,
+          final DynaType type,
+          final boolean persist)
+  throws Exception {
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    try (final ClassesFileManager fileManager = new ClassesFileManager(compiler.getStandardFileManager(diagnostics, null, null))) {
+      final JavaFileObject sourceFile = new SourceFile(fullyQualifiedClassname, source);
+
+      final boolean compiled =
+              compiler.getTask(null, fileManager, diagnostics, null, null, Collections.singletonList(sourceFile)).call();
+
+      if (!compiled) {
+        throw new IllegalArgumentException(
+                "Dynamically generated class source did not compile: " + fullyQualifiedClassname + " because: " +
+                diagnostics.getDiagnostics().stream()
+                  .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                  .map(diagnostic -> diagnostic.getMessage(null))
+                  .collect(Collectors.joining("; ")));
+      }
+
+      final Map<String, byte[]> classes = fileManager.classes();
+
+      if (persist) {
+        persist(classes, type);
+      }
+
+      return new ProxyClassLoader(parent, classes).loadClass(fullyQualifiedClassname);
+    }
+  }
+
+  private void persist(final Map<String, byte[]> classes, final DynaType type) throws Exception {
+    final String root = type == DynaType.Main ? RootOfMainClasses : RootOfTestClasses;
+
+    for (final Map.Entry<String, byte[]> entry : classes.entrySet()) {
+      final File classFile = new File(root + entry.getKey().replace('.', '/') + Kind.CLASS.extension);
+      classFile.getParentFile().mkdirs();
+      DynaFile.persistDynaClass(classFile.getPath(), entry.getValue());
+    }
+  }
+
+  /**
+   * Collects the bytes of every class that is compiled, by binary name.
+   */
+  private static final class ClassesFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+    private final Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+
+    ClassesFileManager(final JavaFileManager fileManager) {
+      super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(final Location location, final String className, final Kind kind, final FileObject sibling) {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      classes.put(className, bytes);
+
+      return new SimpleJavaFileObject(URI.create("bytes:///" + className.replace('.', '/') + kind.extension), kind) {
+        @Override
+        public OutputStream openOutputStream() {
+          return bytes;
+        }
+      };
+    }
+
+    Map<String, byte[]> classes() {
+      final Map<String, byte[]> classes = new HashMap<>(this.classes.size());
+      this.classes.forEach((className, bytes) -> classes.put(className, bytes.toByteArray()));
+      return classes;
+    }
+  }
+
+  /**
+   * Defines the compiled classes itself, rather than delegating to its parent,
+   * so that a proxy and its nested classes are always of the same loader even
+   * when earlier persisted copies of them are visible to the parent.
+   */
+  private static final class ProxyClassLoader extends ClassLoader {
+    private final Map<String, byte[]> classes;
+
+    ProxyClassLoader(final ClassLoader parent, final Map<String, byte[]> classes) {
+      super(parent);
+      this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+      final byte[] bytes = classes.get(name);
+
+      if (bytes == null) {
+        return super.loadClass(name, resolve);
+      }
+
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> loaded = findLoadedClass(name);
+        if (loaded == null) {
+          loaded = defineClass(name, bytes, 0, bytes.length);
+        }
+        if (resolve) {
+          resolveClass(loaded);
+        }
+        return loaded;
+      }
+    }
+  }
+
+  private static final class SourceFile extends SimpleJavaFileObject {
+    private final String source;
+
+    SourceFile(final String fullyQualifiedClassname, final String source) {
+      super(URI.create("string:///" + fullyQualifiedClassname.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+      return source;
+    }
+  }
+}
@@ -39,6 +39,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import io.vlingo.xoom.actors.ProxyTemplate.ProxyMethod;
 import io.vlingo.xoom.common.Tuple2;
 import io.vlingo.xoom.common.compiler.DynaFile;
 import io.vlingo.xoom.common.compiler.DynaType;
@@ -124,108 +125,10 @@ public class ProxyGenerator implements AutoCloseable {
     this.urlClassLoader = initializeClassLoader(classLoader, rootOfClasses);
   }
 
-  private String classStatement(final Class<?> protocolInterface) {
-    final StringBuilder builder = new StringBuilder();
-
-    builder
-      .append(GenericParser.implementsInterfaceTemplateOf(classnameFor(protocolInterface, "__Proxy"), protocolInterface))
-      .append(", ")
-      .append(Proxy.class.getSimpleName())
-      .append(" {\n");
-
-    return builder.toString();
-  }
-
-  private String constructor(final Class<?> protocolInterface) {
-    final StringBuilder builder = new StringBuilder();
-
-    final String signature = MessageFormat.format("  public {0}(final Actor actor, final Mailbox mailbox)", classnameFor(protocolInterface, "__Proxy"));
-
-    builder
-      .append(signature).append(" {\n")
-      .append("    super(")
-        .append(protocolInterface.getCanonicalName()).append(".class")
-        .append(", SerializationProxy.from(actor.definition()), actor.address());").append("\n")
-      .append("    this.actor = actor;").append("\n")
-      .append("    this.mailbox = mailbox;").append("\n")
-      .append("  }\n");
-
-    return builder.toString();
-  }
-
-  private void defineAddress(final StringBuilder builder) {
-    builder
-      .append("\n  public Address address() {")
-      .append("\n    return actor.address();")
-      .append("\n  }\n");
-  }
-
-  private void defineEquals(final String protocolInterface, final StringBuilder builder) {
-    builder
-      .append("\n  public boolean equals(final Object other) {")
-      .append("\n    if (this == other) return true;")
-      .append("\n    if (other == null) return false;")
-      .append("\n    if (other.getClass() != getClass()) return false;")
-      .append("\n    return address().equals(Proxy.from(other).address());")
-      .append("\n  }\n");
-  }
-
-  private void defineHashCode(final StringBuilder builder) {
-    builder
-      .append("\n  public int hashCode() {")
-      .append("\n    return 31 + getClass().hashCode() + actor.address().hashCode();")
-      .append("\n  }\n");
-  }
-
-  private String defineObjectInterface(final String protocolInterface) {
-    final StringBuilder builder = new StringBuilder();
-
-    defineAddress(builder);
-    defineEquals(protocolInterface, builder);
-    defineHashCode(builder);
-    defineToString(protocolInterface, builder);
-
-    return builder.toString();
-  }
-
-  private void defineToString(final String protocolInterface, final StringBuilder builder) {
-    builder
-      .append("\n  public String toString() {")
-      .append("\n    return ").append("\"").append(protocolInterface).append("[address=\"").append(" + actor.address() + ").append("\"]\";")
-      .append("\n  }\n");
-  }
-
-  private String emptyConstructor(final Class<?> protocolInterface) {
-    final StringBuilder builder = new StringBuilder();
-
-    final String signature = MessageFormat.format("  public {0}()", classnameFor(protocolInterface, "__Proxy"));
-
-    builder
-      .append(signature).append(" {\n")
-      .append("    super();").append("\n")
-      .append("    this.actor = null;").append("\n")
-      .append("    this.mailbox = null;").append("\n")
-      .append("  }\n");
-
-    return builder.toString();
-  }
-
   private String importStatements(final Class<?> protocolInterface) {
     final StringBuilder builder = new StringBuilder();
 
-    builder
-      .append("import io.vlingo.xoom.actors.Actor;").append("\n")
-      .append("import io.vlingo.xoom.actors.ActorProxyBase;").append("\n")
-      .append("import io.vlingo.xoom.actors.Address;").append("\n")
-      .append("import io.vlingo.xoom.actors.DeadLetter;").append("\n")
-      .append("import io.vlingo.xoom.actors.Definition.SerializationProxy;").append("\n")
-      .append("import io.vlingo.xoom.actors.LocalMessage;").append("\n")
-      .append("import io.vlingo.xoom.actors.Mailbox;").append("\n")
-      .append("import io.vlingo.xoom.actors.Proxy;").append("\n")
-      .append("import io.vlingo.xoom.actors.Returns;").append("\n")
-      .append("import io.vlingo.xoom.common.Completes;").append("\n")
-      .append("import io.vlingo.xoom.common.SerializableConsumer;").append("\n")
-      .append("import ").append(protocolInterface.getCanonicalName()).append(";\n");
+    builder.append("import ").append(protocolInterface.getCanonicalName()).append(";\n");
 
     GenericParser.dependenciesOf(protocolInterface)
             .filter(d -> !d.startsWith(GENERICS_WILDCARD))
@@ -244,40 +147,14 @@ public class ProxyGenerator implements AutoCloseable {
     return urlClassLoader;
   }
 
-  private String instanceVariables(final Class<?> protocolInterface) {
-    final StringBuilder builder = new StringBuilder();
-
-    builder
-      .append("  private final Actor actor;").append("\n")
-      .append("  private final Mailbox mailbox;").append("\n");
-
-    return builder.toString();
-  }
-
-  private Tuple2<InvalidProtocolException.Failure, String> methodDefinition(final Class<?> protocolInterface, final Method method, final int count) {
-    final StringBuilder builder = new StringBuilder();
-
+  private Tuple2<InvalidProtocolException.Failure, ProxyMethod> methodDefinition(final Class<?> protocolInterface, final Method method) {
     final String genericTemplate = GenericParser.genericTemplateOf(method);
     final String parameterTemplate = GenericParser.parametersTemplateOf(method);
     final String signatureReturnType = GenericParser.returnTypeOf(method);
     final boolean isACompletes = signatureReturnType.startsWith("io.vlingo.xoom.common.Completes");
     final boolean isAFuture = signatureReturnType.startsWith("java.util.concurrent.Future") || signatureReturnType.startsWith("java.util.concurrent.CompletableFuture");
     final boolean hasResult = isACompletes || isAFuture;
-
-    final String methodSignature = MessageFormat.format("  public {0}{1} {2}{3}", genericTemplate, signatureReturnType, method.getName(), parameterTemplate);
-    final String throwsExceptions = throwsExceptions(method);
-    final String ifNotStopped = "    if (!actor.isStopped()) {";
-    final String bindSelfStatement = MessageFormat.format("      ActorProxyBase<{0}> self = this;", protocolInterface.getSimpleName());
-    final String consumerStatement = MessageFormat.format("      final SerializableConsumer<{0}> consumer = (actor) -> actor.{1}{2};", protocolInterface.getSimpleName(), method.getName(), parameterNamesFor(method));
-    final String completesStatement = isACompletes ? MessageFormat.format("      final {0} returnValue = Completes.using(actor.scheduler());\n", signatureReturnType) : "";
-    final String futureStatement = isAFuture ? MessageFormat.format("      final {0} returnValue = new java.util.concurrent.CompletableFuture<>();\n", signatureReturnType) : "";
-    final String representationName = MessageFormat.format("{0}Representation{1}", method.getName(), count);
-    final String preallocatedMailbox =  MessageFormat.format("      if (mailbox.isPreallocated()) '{' mailbox.send(actor, {0}.class, {1}, {2}{3}); '}'", protocolInterface.getSimpleName(), "consumer", hasResult ? "Returns.value(returnValue), ":"null, ", representationName);
-    final String mailboxSendStatement = MessageFormat.format("      else '{' mailbox.send(new LocalMessage<{0}>(actor, {0}.class, {1}, {2}{3})); '}'", protocolInterface.getSimpleName(), "consumer", hasResult ? "Returns.value(returnValue), ":"", representationName);
-    final String completesReturnStatement = hasResult ? "      return returnValue;\n" : "";
-    final String elseDead = MessageFormat.format("      actor.deadLetters().failedDelivery(new DeadLetter(actor, {0}));", representationName);
     final String returnValue = returnValue(method.getReturnType());
-    final String returnStatement = returnValue.isEmpty() ? "" : MessageFormat.format("    return {0};\n", returnValue);
 
     if (!isACompletes
             && !returnValue.isEmpty()
@@ -285,6 +162,7 @@ public class ProxyGenerator implements AutoCloseable {
             && !genericTemplate.contains(parameterTemplate)
             && !isSafeGenerable(protocolInterface)
             && !isAFuture) {
+        final String methodSignature = MessageFormat.format("  public {0}{1} {2}{3}", genericTemplate, signatureReturnType, method.getName(), parameterTemplate);
         return Tuple2.from(
                 new InvalidProtocolException.Failure(
                         methodSignature,
@@ -292,37 +170,33 @@ public class ProxyGenerator implements AutoCloseable {
                 ), null
         );
     }
-    builder
-      .append("\n")
-      .append(methodSignature).append(throwsExceptions).append(" {\n")
-      .append(ifNotStopped).append("\n")
-      .append(bindSelfStatement).append("\n")
-      .append(consumerStatement).append("\n")
-      .append(completesStatement)
-      .append(futureStatement)
-      .append(preallocatedMailbox).append("\n")
-      .append(mailboxSendStatement).append("\n")
-      .append(completesReturnStatement)
-      .append("    } else {\n")
-      .append(elseDead).append("\n")
-      .append("    }\n")
-      .append(returnStatement)
-      .append("  }\n");
-
-    return Tuple2.from(null, builder.toString());
-  }
 
-  private Tuple2<List<InvalidProtocolException.Failure>, String> methodDefinitions(final Class<?> protocolInterface, final Method[] methods) {
-    final StringBuilder builder = new StringBuilder();
+    final ProxyMethod proxyMethod =
+            new ProxyMethod(
+                    method.getName(),
+                    genericTemplate,
+                    signatureReturnType,
+                    parameterTemplate,
+                    Arrays.stream(method.getParameters()).map(Parameter::getName).collect(Collectors.toList()),
+                    Arrays.stream(method.getParameterTypes()).map(this::erasedTypeNameOf).collect(Collectors.toList()),
+                    parameterTypesFor(method),
+                    throwsExceptions(method),
+                    isACompletes,
+                    hasResult,
+                    returnValue);
+
+    return Tuple2.from(null, proxyMethod);
+  }
+
+  private Tuple2<List<InvalidProtocolException.Failure>, List<ProxyMethod>> methodDefinitions(final Class<?> protocolInterface, final Method[] methods) {
+    final List<ProxyMethod> proxyMethods = new ArrayList<>();
     final List<InvalidProtocolException.Failure> failures = new ArrayList<>();
 
-    int count = 0;
-
     for (final Method method : methods) {
       if (!Modifier.isStatic(method.getModifiers())) {
-          final Tuple2<InvalidProtocolException.Failure, String> result = methodDefinition(protocolInterface, method, ++count);
+          final Tuple2<InvalidProtocolException.Failure, ProxyMethod> result = methodDefinition(protocolInterface, method);
           if (result._1 == null) {
-              builder.append(result._2);
+              proxyMethods.add(result._2);
           } else {
               failures.add(result._1);
           }
@@ -330,21 +204,15 @@ public class ProxyGenerator implements AutoCloseable {
     }
 
     if (failures.isEmpty()) {
-        return Tuple2.from(null, builder.toString());
+        return Tuple2.from(null, proxyMethods);
     } else {
         return Tuple2.from(failures, null);
     }
   }
 
-  private String packageStatement(final Class<?> protocolInterface) {
-    return MessageFormat.format("package {0};", protocolInterface.getPackage().getName());
-  }
-
-  private String parameterNamesFor(final Method method) {
-    return Arrays.stream(method.getParameters())
-        .map(p -> "ActorProxyBase.thunk(self, (Actor)actor, "+p.getName()+")")
-        .collect(Collectors
-            .joining(", ", "(", ")"));
+  private String erasedTypeNameOf(final Class<?> type) {
+    final String canonicalName = type.getCanonicalName();
+    return canonicalName == null ? type.getName().replace('$', '.') : canonicalName;
   }
 
   private String parameterTypesFor(final Method method) {
@@ -374,55 +242,32 @@ public class ProxyGenerator implements AutoCloseable {
   }
 
   private String proxyClassSource(final Class<?> protocolInterface) {
-    final Method[] methods = protocolInterface.getMethods();
-
-    final StringBuilder builder = new StringBuilder();
-
-    final Tuple2<List<InvalidProtocolException.Failure>, String> methodDefs = methodDefinitions(protocolInterface, methods);
+    final Tuple2<List<InvalidProtocolException.Failure>, List<ProxyMethod>> methodDefs = methodDefinitions(protocolInterface, protocolInterface.getMethods());
     if (methodDefs._1 != null) {
         throw new InvalidProtocolException(protocolInterface.getCanonicalName(), methodDefs._1);
     }
 
-    builder
-      .append(packageStatement(protocolInterface)).append("\n\n")
-      .append(importStatements(protocolInterface)).append("\n")
-      .append(classStatement(protocolInterface)).append("\n")
-      .append(representationStatements(methods)).append("\n")
-      .append(instanceVariables(protocolInterface)).append("\n")
-      .append(constructor(protocolInterface)).append("\n")
-      .append(emptyConstructor(protocolInterface)).append("\n")
-      .append(defineObjectInterface(protocolInterface.getSimpleName())).append("\n")
-      .append(methodDefs._2)
-      .append("}").append("\n");
+    final String proxyClassname = classnameFor(protocolInterface, PROXY_POSTFIX);
 
-    return builder.toString();
+    final ProxyTemplate template =
+            new ProxyTemplate(
+                    protocolInterface.getPackage().getName(),
+                    importStatements(protocolInterface),
+                    GenericParser.implementsInterfaceTemplateOf(proxyClassname, protocolInterface),
+                    proxyClassname,
+                    protocolInterface.getCanonicalName(),
+                    protocolInterface.getSimpleName(),
+                    protocolInterface.getSimpleName(),
+                    GenericParser.protocolTypeOf(protocolInterface),
+                    methodDefs._2);
+
+    return template.source();
   }
 
   private Class<?> readProtocolInterface(final String actorProtocol) throws Exception {
     return urlClassLoader.loadClass(actorProtocol);
   }
 
-  private String representationStatements(final Method[] methods) {
-    final StringBuilder builder = new StringBuilder();
-
-    int count = 0;
-
-    for (final Method method : methods) {
-      if (!Modifier.isStatic(method.getModifiers())) {
-        final String statement =
-                MessageFormat.format(
-                        "  private static final String {0}Representation{1} = \"{0}({2})\";\n",
-                        method.getName(),
-                        ++count,
-                        parameterTypesFor(method));
-
-        builder.append(statement);
-      }
-    }
-
-    return builder.toString();
-  }
-
   private String returnValue(final Class<?> returnType) {
     if (returnType.getName().equals("void")) {
       return "";
@@ -590,6 +435,14 @@ public class ProxyGenerator implements AutoCloseable {
         return template.toString();
     }
 
+    public static String protocolTypeOf(final Class<?> protocolInterface) {
+        return protocolInterface.getCanonicalName() +
+                Arrays.stream(protocolInterface.getTypeParameters())
+                        .flatMap(GenericParser::genericReferencesOf)
+                        .collect(Collectors.joining(", ", "<", ">"))
+                        .replace("<>", "");
+    }
+
     public static String returnTypeOf(final Method method) {
         return normalizeTypeName(method.getGenericReturnType().getTypeName());
     }
@@ -0,0 +1,115 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.vlingo.xoom.common.SerializableConsumer;
+
+/**
+ * A {@code LocalMessage} that is its own consumer, generated per protocol method
+ * with typed fields for the method arguments, so that a proxy send does not
+ * allocate a capturing consumer. A delivered message may be recycled by its
+ * mailbox into the {@code Pool} of its proxy, so that the next send of the same
+ * method allocates no message at all.
+ *
+ * @param <T> the protocol type
+ */
+public abstract class ProxyMessage<T> extends LocalMessage<T> implements SerializableConsumer<T> {
+  private static final long serialVersionUID = 1L;
+
+  private final int index;
+  private final transient Pool pool;
+  protected final ActorProxyBase<?> proxy;
+  private volatile boolean retained;
+
+  /**
+   * Constructs my default state.
+   * @param actor the Actor to which I am sent
+   * @param protocol the {@code Class<T>} protocol of my method
+   * @param representation the String representation of my method
+   * @param proxy the {@code ActorProxyBase<?>} that sends me, used to thunk my arguments
+   * @param pool the Pool into which I am recycled, which may be null
+   * @param index the int index of my method in pool
+   */
+  protected ProxyMessage(
+          final Actor actor,
+          final Class<T> protocol,
+          final String representation,
+          final ActorProxyBase<?> proxy,
+          final Pool pool,
+          final int index) {
+    super(actor, protocol, null, representation);
+    this.consumer = this;
+    this.proxy = proxy;
+    this.pool = pool;
+    this.index = index;
+  }
+
+  /**
+   * Set the {@code returns} of my next send, which is null for a void method.
+   * @param returns the {@code Returns<?>} of my next send
+   */
+  @SuppressWarnings("unchecked")
+  public void prepare(final Returns<?> returns) {
+    this.returns = (Returns<Object>) returns;
+  }
+
+  /**
+   * Recycle me into the pool of my proxy after I was delivered. For use by
+   * mailbox implementations only, once they no longer reference me.
+   */
+  public void recycle() {
+    if (pool != null && !retained) {
+      clear();
+      this.returns = null;
+      pool.offer(index, this);
+    }
+  }
+
+  /**
+   * Clear my argument fields so that a pooled message does not hold them.
+   */
+  protected abstract void clear();
+
+  /**
+   * Prevent my recycling, because I am the consumer of a copy of me.
+   */
+  void retain() {
+    retained = true;
+  }
+
+  /**
+   * The recycled messages of a proxy, one per protocol method, taken by any
+   * sender and offered by the single delivering mailbox consumer.
+   */
+  public static final class Pool {
+    private final AtomicReferenceArray<ProxyMessage<?>> messages;
+
+    /**
+     * Constructs my default state.
+     * @param methods the int number of protocol methods
+     */
+    public Pool(final int methods) {
+      this.messages = new AtomicReferenceArray<>(methods);
+    }
+
+    /**
+     * Answer the recycled message of the method at {@code index}, or null if none.
+     * @param index the int index of the method
+     * @return {@code ProxyMessage<?>}
+     */
+    public ProxyMessage<?> take(final int index) {
+      return messages.get(index) == null ? null : messages.getAndSet(index, null);
+    }
+
+    void offer(final int index, final ProxyMessage<?> message) {
+      messages.compareAndSet(index, null, message);
+    }
+  }
+}
@@ -0,0 +1,340 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The source of an actor proxy, being its class and a {@code ProxyMessage} class
+ * per method. It is shared by the {@code ProxyGenerator}, which describes a protocol
+ * by reflection, and the {@code ActorProxyProcessor}, which describes it by the
+ * compiler's type mirrors, so that the proxies of both are the same.
+ */
+final class ProxyTemplate {
+  static final String ProxyPostfix = "__Proxy";
+
+  private static final Set<String> Primitives =
+          new HashSet<>(Arrays.asList("boolean", "byte", "char", "double", "float", "int", "long", "short"));
+
+  private final String packageName;
+  private final String imports;
+  private final String classDeclaration;
+  private final String proxyClassname;
+  private final String protocolClassname;
+  private final String protocolReference;
+  private final String protocolSimpleName;
+  private final String protocolType;
+  private final List<ProxyMethod> methods;
+
+  /**
+   * Constructs my state.
+   * @param packageName the String package of the proxy, which may be empty
+   * @param imports the String import statements needed by the protocol, which may be empty
+   * @param classDeclaration the String declaration of the proxy class up to its {@code implements} of the protocol
+   * @param proxyClassname the String simple name of the proxy class
+   * @param protocolClassname the String fully qualified name of the protocol
+   * @param protocolReference the String name by which the message classes refer to the protocol
+   * @param protocolSimpleName the String simple name of the protocol
+   * @param protocolType the String type of the protocol, with its type parameters
+   * @param methods the {@code List<ProxyMethod>} of the protocol's instance methods
+   */
+  ProxyTemplate(
+          final String packageName,
+          final String imports,
+          final String classDeclaration,
+          final String proxyClassname,
+          final String protocolClassname,
+          final String protocolReference,
+          final String protocolSimpleName,
+          final String protocolType,
+          final List<ProxyMethod> methods) {
+    this.packageName = packageName;
+    this.imports = imports;
+    this.classDeclaration = classDeclaration;
+    this.proxyClassname = proxyClassname;
+    this.protocolClassname = protocolClassname;
+    this.protocolReference = protocolReference;
+    this.protocolSimpleName = protocolSimpleName;
+    this.protocolType = protocolType;
+    this.methods = methods;
+  }
+
+  /**
+   * Answer the source of my proxy.
+   * @return String
+   */
+  String source() {
+    final StringBuilder builder = new StringBuilder();
+
+    if (!packageName.isEmpty()) {
+      builder.append("package ").append(packageName).append(";\n\n");
+    }
+
+    builder
+      .append(importStatements()).append("\n")
+      .append(classDeclaration).append(", Proxy, BatchableProxy<").append(protocolType).append("> {\n").append("\n")
+      .append(representationStatements()).append("\n")
+      .append(instanceVariables()).append("\n")
+      .append(constructor()).append("\n")
+      .append(emptyConstructor()).append("\n")
+      .append(objectInterface()).append("\n");
+
+    int count = 0;
+    for (final ProxyMethod method : methods) {
+      builder.append(methodDefinition(method, ++count));
+    }
+
+    builder.append("}").append("\n");
+
+    return builder.toString();
+  }
+
+  private String importStatements() {
+    return new StringBuilder()
+      .append("import io.vlingo.xoom.actors.Actor;").append("\n")
+      .append("import io.vlingo.xoom.actors.ActorProxyBase;").append("\n")
+      .append("import io.vlingo.xoom.actors.Address;").append("\n")
+      .append("import io.vlingo.xoom.actors.BatchableProxy;").append("\n")
+      .append("import io.vlingo.xoom.actors.DeadLetter;").append("\n")
+      .append("import io.vlingo.xoom.actors.Definition.SerializationProxy;").append("\n")
+      .append("import io.vlingo.xoom.actors.LocalMessage;").append("\n")
+      .append("import io.vlingo.xoom.actors.Mailbox;").append("\n")
+      .append("import io.vlingo.xoom.actors.Proxy;").append("\n")
+      .append("import io.vlingo.xoom.actors.ProxyBatch;").append("\n")
+      .append("import io.vlingo.xoom.actors.ProxyMessage;").append("\n")
+      .append("import io.vlingo.xoom.actors.Returns;").append("\n")
+      .append("import io.vlingo.xoom.common.Completes;").append("\n")
+      .append("import io.vlingo.xoom.common.SerializableConsumer;").append("\n")
+      .append(imports)
+      .toString();
+  }
+
+  private String representationStatements() {
+    final StringBuilder builder = new StringBuilder();
+
+    int count = 0;
+    for (final ProxyMethod method : methods) {
+      builder.append(MessageFormat.format("  private static final String {0}Representation{1} = \"{0}({2})\";\n",
+              method.name, ++count, method.representation));
+    }
+
+    return builder.toString();
+  }
+
+  private String instanceVariables() {
+    return new StringBuilder()
+      .append("  private final Actor actor;").append("\n")
+      .append("  private final Mailbox mailbox;").append("\n")
+      .append("  private final ProxyMessage.Pool pool;").append("\n")
+      .toString();
+  }
+
+  private String constructor() {
+    return new StringBuilder()
+      .append("  public ").append(proxyClassname).append("(final Actor actor, final Mailbox mailbox) {\n")
+      .append("    super(").append(protocolClassname).append(".class, SerializationProxy.from(actor.definition()), actor.address());").append("\n")
+      .append("    this.actor = actor;").append("\n")
+      .append("    this.mailbox = mailbox;").append("\n")
+      .append("    this.pool = new ProxyMessage.Pool(").append(methods.size()).append(");").append("\n")
+      .append("  }\n")
+      .toString();
+  }
+
+  private String emptyConstructor() {
+    return new StringBuilder()
+      .append("  public ").append(proxyClassname).append("() {\n")
+      .append("    super();").append("\n")
+      .append("    this.actor = null;").append("\n")
+      .append("    this.mailbox = null;").append("\n")
+      .append("    this.pool = null;").append("\n")
+      .append("  }\n")
+      .toString();
+  }
+
+  private String objectInterface() {
+    return new StringBuilder()
+      .append("\n  public Address address() {")
+      .append("\n    return actor.address();")
+      .append("\n  }\n")
+      .append("\n  @SuppressWarnings({ \"rawtypes\", \"unchecked\" })")
+      .append("\n  public ProxyBatch<").append(protocolType).append("> __batch() {")
+      .append("\n    return ProxyBatch.using(mailbox, (batchingMailbox) -> new ").append(proxyClassname).append("(actor, batchingMailbox));")
+      .append("\n  }\n")
+      .append("\n  public boolean equals(final Object other) {")
+      .append("\n    if (this == other) return true;")
+      .append("\n    if (other == null) return false;")
+      .append("\n    if (other.getClass() != getClass()) return false;")
+      .append("\n    return address().equals(Proxy.from(other).address());")
+      .append("\n  }\n")
+      .append("\n  public int hashCode() {")
+      .append("\n    return 31 + getClass().hashCode() + actor.address().hashCode();")
+      .append("\n  }\n")
+      .append("\n  public String toString() {")
+      .append("\n    return \"").append(protocolSimpleName).append("[address=\" + actor.address() + \"]\";")
+      .append("\n  }\n")
+      .toString();
+  }
+
+  private String methodDefinition(final ProxyMethod method, final int count) {
+    final String representationName = method.name + "Representation" + count;
+    final String messageClassname = method.name + "Message" + count;
+
+    final StringBuilder builder = new StringBuilder();
+
+    builder
+      .append("\n")
+      .append("  public ").append(method.typeParameters.isEmpty() ? "" : method.typeParameters + " ")
+      .append(method.returnType).append(" ").append(method.name).append(method.parameters)
+      .append(method.throwsClause).append(" {\n")
+      .append("    if (!actor.isStopped()) {").append("\n");
+
+    if (method.isACompletes) {
+      builder.append("      final ").append(method.returnType).append(" returnValue = Completes.using(actor.scheduler());\n");
+    } else if (method.hasResult) {
+      builder.append("      final ").append(method.returnType).append(" returnValue = new java.util.concurrent.CompletableFuture<>();\n");
+    }
+
+    builder
+      .append(MessageFormat.format("      {0} __message = ({0}) this.pool.take({1});", messageClassname, count - 1)).append("\n")
+      .append(MessageFormat.format("      if (__message == null) '{' __message = new {0}(actor, this, this.pool); '}'", messageClassname)).append("\n");
+
+    for (int index = 0; index < method.parameterNames.size(); ++index) {
+      builder.append("      __message.arg").append(index).append(" = ").append(method.parameterNames.get(index)).append(";\n");
+    }
+
+    builder
+      .append("      __message.prepare(").append(method.hasResult ? "Returns.value(returnValue)" : "null").append(");").append("\n")
+      .append("      if (mailbox.isPreallocated()) { mailbox.send(actor, ").append(protocolReference).append(".class, __message, __message.returns(), ")
+        .append(representationName).append("); }").append("\n")
+      .append("      else { mailbox.send(__message); }").append("\n");
+
+    if (method.hasResult) {
+      builder.append("      return returnValue;\n");
+    }
+
+    builder
+      .append("    } else {\n")
+      .append("      actor.deadLetters().failedDelivery(new DeadLetter(actor, ").append(representationName).append("));").append("\n")
+      .append("    }\n");
+
+    if (!method.defaultReturnValue.isEmpty()) {
+      builder.append("    return ").append(method.defaultReturnValue).append(";\n");
+    }
+
+    builder
+      .append("  }\n")
+      .append(messageClassOf(method, messageClassname, representationName, count - 1));
+
+    return builder.toString();
+  }
+
+  /*
+   * Answer the message class of method, whose fields are erased so that
+   * it needs none of the type parameters of the protocol or method.
+   */
+  private String messageClassOf(final ProxyMethod method, final String messageClassname, final String representationName, final int index) {
+    final List<String> erasedTypes = method.erasedParameterTypes;
+
+    final StringBuilder builder = new StringBuilder();
+
+    builder
+      .append("\n  private static final class ").append(messageClassname).append(" extends ProxyMessage<").append(protocolReference).append("> {\n")
+      .append("    private static final long serialVersionUID = 1L;\n");
+
+    for (int parameter = 0; parameter < erasedTypes.size(); ++parameter) {
+      builder.append("    ").append(erasedTypes.get(parameter)).append(" arg").append(parameter).append(";\n");
+    }
+
+    builder
+      .append("\n    ").append(messageClassname).append("(final Actor actor, final ActorProxyBase<?> proxy, final ProxyMessage.Pool pool) {\n")
+      .append("      super(actor, ").append(protocolReference).append(".class, ").append(representationName).append(", proxy, pool, ").append(index).append(");\n")
+      .append("    }\n")
+      .append("\n    public void accept(final ").append(protocolReference).append(" actor) {\n")
+      .append("      actor.").append(method.name)
+      .append(IntStream.range(0, erasedTypes.size())
+              .mapToObj(parameter -> "ActorProxyBase.thunk(proxy, (Actor)actor, arg" + parameter + ")")
+              .collect(Collectors.joining(", ", "(", ")")))
+      .append(";\n")
+      .append("    }\n")
+      .append("\n    protected void clear() {\n");
+
+    for (int parameter = 0; parameter < erasedTypes.size(); ++parameter) {
+      if (!Primitives.contains(erasedTypes.get(parameter))) {
+        builder.append("      arg").append(parameter).append(" = null;\n");
+      }
+    }
+
+    builder
+      .append("    }\n")
+      .append("  }\n");
+
+    return builder.toString();
+  }
+
+  /**
+   * An instance method of a protocol, by the names and types that its proxy declares.
+   */
+  static final class ProxyMethod {
+    final String name;
+    final String typeParameters;
+    final String returnType;
+    final String parameters;
+    final List<String> parameterNames;
+    final List<String> erasedParameterTypes;
+    final String representation;
+    final String throwsClause;
+    final boolean isACompletes;
+    final boolean hasResult;
+    final String defaultReturnValue;
+
+    /**
+     * Constructs my state.
+     * @param name the String name of the method
+     * @param typeParameters the String type parameters of the method, such as {@code <T>}, or empty
+     * @param returnType the String return type
+     * @param parameters the String parenthesized parameter declarations
+     * @param parameterNames the {@code List<String>} names of the declared parameters
+     * @param erasedParameterTypes the {@code List<String>} erased types of the parameters
+     * @param representation the String parameter types of the method's representation
+     * @param throwsClause the String {@code throws} clause, or empty
+     * @param isACompletes the boolean indicating whether the return type is {@code Completes}
+     * @param hasResult the boolean indicating whether the return type is {@code Completes} or a {@code Future}
+     * @param defaultReturnValue the String value returned when the actor is stopped, or empty for {@code void}
+     */
+    ProxyMethod(
+            final String name,
+            final String typeParameters,
+            final String returnType,
+            final String parameters,
+            final List<String> parameterNames,
+            final List<String> erasedParameterTypes,
+            final String representation,
+            final String throwsClause,
+            final boolean isACompletes,
+            final boolean hasResult,
+            final String defaultReturnValue) {
+      this.name = name;
+      this.typeParameters = typeParameters;
+      this.returnType = returnType;
+      this.parameters = parameters;
+      this.parameterNames = parameterNames;
+      this.erasedParameterTypes = erasedParameterTypes;
+      this.representation = representation;
+      this.throwsClause = throwsClause;
+      this.isACompletes = isACompletes;
+      this.hasResult = hasResult;
+      this.defaultReturnValue = defaultReturnValue;
+    }
+  }
+}
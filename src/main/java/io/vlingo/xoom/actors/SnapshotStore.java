@@ -0,0 +1,38 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+/**
+ * Defines the store of the state snapshots of passivated actors, which are
+ * evicted by the {@code DirectoryEvictor}. The snapshot of an actor is saved
+ * from its {@code Relocatable#stateSnapshot()} when it is evicted, and taken
+ * into its {@code Relocatable#stateSnapshot(Object)} when it is reactivated,
+ * before it is started.
+ */
+public interface SnapshotStore {
+  /**
+   * Save the {@code snapshot} of the actor at {@code address}, replacing any previous one.
+   * @param address the Address of the passivated actor
+   * @param snapshot the Object state snapshot of the actor
+   */
+  void save(final Address address, final Object snapshot);
+
+  /**
+   * Answer and remove the snapshot of the actor at {@code address}, or {@code null} if none.
+   * @param address the Address of the reactivated actor
+   * @param <S> the type of the state snapshot
+   * @return S
+   */
+  <S> S take(final Address address);
+
+  /**
+   * Answer the number of snapshots that I hold.
+   * @return int
+   */
+  int size();
+}
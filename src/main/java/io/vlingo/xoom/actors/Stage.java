@@ -7,10 +7,13 @@
 
 package io.vlingo.xoom.actors;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.vlingo.xoom.actors.plugin.mailbox.testkit.TestMailbox;
@@ -23,9 +26,11 @@ public class Stage implements Stoppable {
   private final AddressFactory addressFactory;
   private final Map<Class<?>, Supervisor> commonSupervisors;
   protected final Directory directory;
-  private DirectoryScanner directoryScanner;
+  private DirectoryScanner[] directoryScanners;
+  private final Map<Address, Definition> lazyDefinitions;
   private final String name;
   private final Scheduler scheduler;
+  private volatile SnapshotStore snapshotStore;
   private AtomicBoolean stopped;
   private boolean supportsEvictions;
   protected final World world;
@@ -47,7 +52,7 @@ public class Stage implements Stoppable {
    * @param world the {@code World} parent of this {@code Stage}
    * @param addressFactory the AddressFactory to be used
    * @param name the {@code String} name of this {@code Stage}
-   * @param directoryBuckets the int number of buckets
+   * @param directoryBuckets the int number of buckets, of which the product with {@code directoryInitialCapacity} is the initial capacity
    * @param directoryInitialCapacity the int initial number of elements in each bucket
    */
   public Stage(final World world, final AddressFactory addressFactory, final String name, final int directoryBuckets, final int directoryInitialCapacity) {
@@ -56,6 +61,7 @@ public class Stage implements Stoppable {
     this.name = name;
     this.directory = new Directory(addressFactory.none(), directoryBuckets, directoryInitialCapacity);
     this.commonSupervisors = new HashMap<>();
+    this.lazyDefinitions = new ConcurrentHashMap<>();
     this.scheduler = new Scheduler();
     this.stopped = new AtomicBoolean(false);
   }
@@ -234,6 +240,95 @@ public class Stage implements Stoppable {
     return actorFor(protocols, Definition.has(type, Arrays.asList(parameters)));
   }
 
+  /**
+   * Answers the {@code List<T>} of {@code count} protocols of newly created {@code Actor}s that
+   * implement the {@code protocol}, each initialized by the same {@code definition}. The addresses
+   * are allocated together, and the parent, supervisor, logger, actor constructor, and proxy
+   * constructor are resolved only once for all of them, which makes this suited to creating
+   * large populations of actors, such as the entities of a shard. The {@code Directory} is grown
+   * once for all of them. As with {@link Stage#actorFor(Class, Definition)}, if any one of them
+   * fails to be created the failure is logged and an empty {@code List<T>} is answered, but only
+   * after those already created are stopped, so that no partial population is left behind.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol
+   * @param definition the {@code Definition} used to initialize each newly created {@code Actor}
+   * @param count the int number of {@code Actor}s to create, which must be 0 or greater
+   * @return {@code List<T>}
+   * @throws IllegalArgumentException if {@code count} is negative
+   */
+  public <T> List<T> actorsFor(final Class<T> protocol, final Definition definition, final int count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("The count of actors must be 0 or greater: " + count);
+    }
+
+    assertProtocolCompliance(protocol);
+
+    final Actor parent = definition.parentOr(world.defaultParent());
+    final Supervisor maybeSupervisor = definition.supervisor();
+    final Logger logger = definition.loggerOr(world.defaultLogger());
+
+    final Address[] addresses = allocateAddresses(definition, count);
+    final List<Actor> actors = new ArrayList<>(count);
+    final List<T> protocolActors = new ArrayList<>(count);
+
+    directory.reserve(addresses);
+
+    try {
+      for (final Address address : addresses) {
+        final Mailbox mailbox = allocateMailbox(definition, address, null);
+        final Actor actor = createRawActor(definition, parent, address, mailbox, maybeSupervisor, logger);
+        actors.add(actor);
+        protocolActors.add(actorProxyFor(protocol, actor, mailbox));
+      }
+    }
+    catch (Directory.ActorAddressAlreadyRegistered e) {
+      stopAll(actors);
+      throw e;
+    }
+    catch (Exception e) {
+      world.defaultLogger().error("XOOM: FAILED: " + e.getMessage(), e);
+      stopAll(actors);
+      return new ArrayList<>(0);
+    }
+
+    return protocolActors;
+  }
+
+  /**
+   * Answers the {@code T} protocol of a lazy {@code Actor} that implements the {@code protocol},
+   * and that is registered by a newly allocated {@code Address} and the {@code definition} only.
+   * See {@link Stage#lazyActorFor(Class, Definition, Address)}.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol
+   * @param definition the {@code Definition} used to initialize the {@code Actor} when it is created
+   * @return T
+   */
+  public <T> T lazyActorFor(final Class<T> protocol, final Definition definition) {
+    return lazyActorFor(protocol, definition, allocateAddress(definition, null));
+  }
+
+  /**
+   * Answers the {@code T} protocol of a lazy {@code Actor} that implements the {@code protocol},
+   * and that is registered by its {@code address} and the {@code definition} only. The {@code Actor},
+   * its {@code Mailbox}, and its {@code Environment} are created when the first message is sent
+   * to it, and created again when a message is sent after it was evicted. Many addresses
+   * may share one {@code definition}, so that a population of mostly idle actors costs little more
+   * than its addresses. If {@code address} is already registered lazily its original
+   * {@code Definition} is retained.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol
+   * @param definition the {@code Definition} used to initialize the {@code Actor} when it is created
+   * @param address the {@code Address} of the {@code Actor}
+   * @return T
+   */
+  public <T> T lazyActorFor(final Class<T> protocol, final Definition definition, final Address address) {
+    assertProtocolCompliance(protocol);
+
+    final Definition previous = lazyDefinitions.putIfAbsent(address, definition);
+
+    return LazyActorProxy.createFor(protocol, this, previous == null ? definition : previous, address);
+  }
+
   /**
    * Answers the {@code Completes<T>} that will eventually complete with the {@code T} protocol
    * of the backing {@code Actor} of the given {@code address}, or {@code null} if not found.
@@ -243,7 +338,38 @@ public class Stage implements Stoppable {
    * @return {@code Completes<T>}
    */
   public <T> Completes<T> actorOf(final Class<T> protocol, final Address address) {
-    return directoryScanner.actorOf(protocol, address).andThen(null, proxy -> proxy);
+    return directoryScannerOf(address).actorOf(protocol, address).andThen(null, proxy -> proxy);
+  }
+
+  /**
+   * Answers the {@code T} protocol of the backing {@code Actor} of the given {@code address},
+   * its lazy protocol if it is registered lazily but not created, or {@code null} if not found.
+   * Unlike {@code actorOf(protocol, address)} the lookup is made directly on the calling
+   * thread, without a message to a {@code DirectoryScanner}.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol supported by the backing {@code Actor}
+   * @param address the {@code Address} of the {@code Actor} to find
+   * @return T
+   */
+  public <T> T actorOfNow(final Class<T> protocol, final Address address) {
+    final Actor actor = directory.actorOf(address);
+
+    try {
+      if (actor != null) {
+        return actorAs(actor, protocol);
+      }
+
+      final T lazy = lazyActorOf(protocol, address);
+
+      if (lazy != null) {
+        return lazy;
+      } else {
+        world.defaultLogger().debug("Actor with address: " + address + " not found; protocol is: " + protocol.getName());
+      }
+    } catch (Exception e) {
+      world.defaultLogger().error("Error providing protocol: " + protocol.getName() + " for actor with address: " + address, e);
+    }
+    return null;
   }
 
   /**
@@ -288,7 +414,7 @@ public class Stage implements Stoppable {
    * @return {@code Completes<T>}
    */
   public <T> Completes<T> actorOf(final Class<T> protocol, final Address address, final Definition definition) {
-    return directoryScanner.actorOf(protocol, address, definition);
+    return directoryScannerOf(address).actorOf(protocol, address, definition);
   }
 
   /**
@@ -309,7 +435,20 @@ public class Stage implements Stoppable {
    * @return {@code Completes<Optional<T>>}
    */
   public <T> Completes<Optional<T>> maybeActorOf(final Class<T> protocol, final Address address) {
-    return directoryScanner.maybeActorOf(protocol, address).andThen(proxy -> proxy);
+    return directoryScannerOf(address).maybeActorOf(protocol, address).andThen(proxy -> proxy);
+  }
+
+  /**
+   * Answer the {@code protocol} reference of the actor with {@code address} as a non-empty
+   * {@code Optional<T>}, or an empty {@code Optional<T>} if not found, looked up directly
+   * on the calling thread as by {@code actorOfNow(protocol, address)}.
+   * @param protocol the {@code Class<T>} of the protocol that the actor must support
+   * @param address the {@code Address} of the actor to find
+   * @param <T> the protocol type
+   * @return {@code Optional<T>}
+   */
+  public <T> Optional<T> maybeActorOfNow(final Class<T> protocol, final Address address) {
+    return Optional.ofNullable(actorOfNow(protocol, address));
   }
 
   public final <T> TestActor<T> testActorFor(final Class<T> protocol, final Class<? extends Actor> type, final Object...parameters) {
@@ -662,9 +801,14 @@ public class Stage implements Stoppable {
    * @param forceEvictionEnabled the boolean that if true forces the DirectoryEvictor into action
    */
   void startDirectoryScanner(final boolean forceEvictionEnabled) {
-    this.directoryScanner = actorFor(DirectoryScanner.class,
-        Definition.has(DirectoryScannerActor.class, () -> new DirectoryScannerActor(directory)),
-        world().addressFactory().uniqueWith("DirectoryScanner::"+name()));
+    // one scanner unless configured otherwise, because each is an actor of every stage
+    final DirectoryScanner[] directoryScanners = new DirectoryScanner[world.configuration().directoryScanners()];
+    for (int shard = 0; shard < directoryScanners.length; ++shard) {
+      directoryScanners[shard] = actorFor(DirectoryScanner.class,
+          Definition.has(DirectoryScannerActor.class, () -> new DirectoryScannerActor(directory)),
+          world().addressFactory().uniqueWith("DirectoryScanner::"+name()+"::"+shard));
+    }
+    this.directoryScanners = directoryScanners;
 
     final DirectoryEvictionConfiguration evictionConfiguration =
         evictionConfiguration(world.configuration().directoryEvictionConfiguration(), forceEvictionEnabled);
@@ -678,6 +822,8 @@ public class Stage implements Stoppable {
           Definition.has(DirectoryEvictor.class, () -> new DirectoryEvictor(evictionConfiguration, directory)),
           world().addressFactory().uniqueWith("EvictorActor::"+name()));
 
+      snapshotStore(evictionConfiguration.snapshotStore());
+
       this.scheduler()
           .schedule(
               directoryEvictor,
@@ -689,6 +835,71 @@ public class Stage implements Stoppable {
     }
   }
 
+  /**
+   * Remove the evicted {@code actor} from my directory. If I have a {@code SnapshotStore},
+   * also save its state snapshot and register it lazily by its {@code Address} and
+   * {@code Definition}, so that it is reactivated by the next message sent through a
+   * proxy answered by {@code actorOf()}. Without one, only an {@code actor} started from
+   * a lazy registration is registered lazily again. (INTERNAL ONLY)
+   * @param actor the Actor being stopped by its eviction
+   */
+  void passivate(final Actor actor) {
+    final Address address = actor.address();
+    final SnapshotStore snapshotStore = this.snapshotStore;
+
+    if (snapshotStore == null) {
+      if (directory.remove(address, actor) && actor.lifeCycle.environment.isLazy()) {
+        lazyDefinitions.putIfAbsent(address, actor.lifeCycle.environment.definition);
+      }
+    } else {
+      try {
+        final Object snapshot = actor.stateSnapshot();
+        if (snapshot != null) {
+          snapshotStore.save(address, snapshot);
+        }
+      } catch (Exception e) {
+        actor.logger().error("Passivation of the state of actor at " + address + " failed because: " + e.getMessage(), e);
+      }
+
+      if (directory.remove(address, actor)) {
+        lazyDefinitions.putIfAbsent(address, actor.lifeCycle.environment.definition);
+      }
+    }
+  }
+
+  /**
+   * Restore the state snapshot of the newly created {@code actor} from my {@code SnapshotStore},
+   * if it was passivated, and replace its lazy registration by its directory entry, marking
+   * it to be registered lazily again once it is evicted. (INTERNAL ONLY)
+   * @param actor the Actor being started
+   */
+  void reactivate(final Actor actor) {
+    if (!lazyDefinitions.isEmpty() && lazyDefinitions.remove(actor.address()) != null) {
+      actor.lifeCycle.environment.setLazy();
+    }
+
+    final SnapshotStore snapshotStore = this.snapshotStore;
+
+    if (snapshotStore != null) {
+      try {
+        final Object snapshot = snapshotStore.take(actor.address());
+        if (snapshot != null) {
+          actor.stateSnapshot(snapshot);
+        }
+      } catch (Exception e) {
+        actor.logger().error("Reactivation of the state of actor at " + actor.address() + " failed because: " + e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * Sets the {@code SnapshotStore} of passivated actors, which may be {@code null}. (INTERNAL ONLY)
+   * @param snapshotStore the SnapshotStore to use
+   */
+  void snapshotStore(final SnapshotStore snapshotStore) {
+    this.snapshotStore = snapshotStore;
+  }
+
   /**
    * Stop the given Actor and all its children. The Actor instance is first removed from
    * the Directory of this Stage. (INTERNAL ONLY)
@@ -702,6 +913,16 @@ public class Stage implements Stoppable {
     }
   }
 
+  /**
+   * Stop each of the given actors, such as a partially created population. (INTERNAL ONLY)
+   * @param actors the {@code List<Actor>} to stop
+   */
+  private void stopAll(final List<Actor> actors) {
+    for (final Actor actor : actors) {
+      stop(actor);
+    }
+  }
+
   protected <T> T actorThunkFor(Class<T> protocol, Definition definition, Address address) {
     final Mailbox actorMailbox = this.allocateMailbox(definition, address, null);
     final ActorProtocolActor<T> actor =
@@ -754,6 +975,17 @@ public class Stage implements Stoppable {
     return address;
   }
 
+  /**
+   * Answers {@code count} newly allocated Addresses for Actors of the same
+   * Definition. (INTERNAL ONLY)
+   * @param definition the Definition of the newly created Actors
+   * @param count the int number of Addresses to allocate
+   * @return Address[]
+   */
+  protected Address[] allocateAddresses(final Definition definition, final int count) {
+    return this.addressFactory().uniqueWith(definition.actorName(), count);
+  }
+
   /**
    * Answers a Mailbox for an Actor. If maybeMailbox is allocated answer it; otherwise
    * answer a newly allocated Mailbox. (INTERNAL ONLY)
@@ -885,7 +1117,11 @@ public class Stage implements Stoppable {
           evictionConfiguration.excludedStageNames(),
           evictionConfiguration.lruProbeInterval(),
           evictionConfiguration.lruThreshold(),
-          evictionConfiguration.fullRatioHighMark());
+          evictionConfiguration.fullRatioHighMark())
+        .probeBudget(evictionConfiguration.probeBudget())
+        .evictionBudget(evictionConfiguration.evictionBudget())
+        .snapshotStore(evictionConfiguration.snapshotStore())
+        .memoryPressure(evictionConfiguration.memoryPressure());
     }
 
     return maybeEvictionConfiguration;
@@ -927,6 +1163,30 @@ public class Stage implements Stoppable {
     return redefinition;
   }
 
+  /**
+   * Answers the {@code T} lazy protocol of the {@code Actor} registered lazily at {@code address},
+   * or {@code null} if it is not registered lazily. (INTERNAL ONLY)
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol
+   * @param address the {@code Address} of the {@code Actor}
+   * @return T
+   */
+  <T> T lazyActorOf(final Class<T> protocol, final Address address) {
+    final Definition definition = lazyDefinitions.get(address);
+    return definition == null ? null : LazyActorProxy.createFor(protocol, this, definition, address);
+  }
+
+  /**
+   * Answer the {@code DirectoryScanner} of {@code address}, which is always the same one,
+   * so that the lookups of the stage are spread over its scanners while those of a given
+   * address, including any that create its actor, are serialized. (INTERNAL ONLY)
+   * @param address the {@code Address} of the {@code Actor} to find
+   * @return DirectoryScanner
+   */
+  private DirectoryScanner directoryScannerOf(final Address address) {
+    return directoryScanners[Math.floorMod(address.hashCode(), directoryScanners.length)];
+  }
+
   Actor rawLookupOrStart(Definition definition, Address address) {
     Actor actor = directory.actorOf(address);
     if (actor != null) {
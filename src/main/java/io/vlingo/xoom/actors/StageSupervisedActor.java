@@ -80,7 +80,7 @@ public class StageSupervisedActor implements Supervised {
   }
 
   private Collection<Actor> selfWithSiblings() {
-    return environmentOf(environmentOf(actor).parent).children;
+    return environmentOf(environmentOf(actor).parent).children();
   }
 
   private Environment environmentOf(final Actor actor) {
@@ -88,7 +88,7 @@ public class StageSupervisedActor implements Supervised {
   }
 
   private boolean failureThresholdReached(final long period, final int intensity) {
-    return environmentOf(actor).failureMark.failedWithExcessiveFailures(period, intensity);
+    return environmentOf(actor).failureMark().failedWithExcessiveFailures(period, intensity);
   }
 
   private void restartWithin(final Actor actor, final long period, final int intensity) {
@@ -40,5 +40,6 @@ public interface Stoppable {
    * cause stop(). In essence the conclude() marks the mailbox for ending
    * operations, but allows messages already queued to first be delivered.
    */
+  @Priority(Priority.High)
   void stop();
 }
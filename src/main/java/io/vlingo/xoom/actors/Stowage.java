@@ -28,21 +28,23 @@ public class Stowage {
   }
 
   int count() {
-    return stowedMessages.size();
+    return stowedMessages == null ? 0 : stowedMessages.size();
   }
 
   void dump(final Logger logger) {
-    for (final Message message : stowedMessages) {
-      logger.debug("STOWED: " + message);
+    if (stowedMessages != null) {
+      for (final Message message : stowedMessages) {
+        logger.debug("STOWED: " + message);
+      }
     }
   }
 
   boolean hasMessages() {
-    return !stowedMessages.isEmpty();
+    return stowedMessages != null && !stowedMessages.isEmpty();
   }
 
   Message head() {
-    if (stowedMessages.isEmpty()) {
+    if (!hasMessages()) {
       reset();
       return null;
     }
@@ -50,7 +52,8 @@ public class Stowage {
   }
 
   void reset() {
-    this.stowedMessages = new LinkedList<>();
+    // allocated by the next stow, if any
+    this.stowedMessages = null;
     this.stowing = false;
     this.dispersing = false;
   }
@@ -88,19 +91,26 @@ public class Stowage {
       } else {
         toStow = new StowedLocalMessage((LocalMessage) message);
       }
-      stowedMessages.add(toStow);
+      stowed().add(toStow);
     }
   }
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
   Message swapWith(final Message newerMessage) {
-    if (stowedMessages.isEmpty()) {
+    if (!hasMessages()) {
       reset();
       return newerMessage;
     }
     
     final Message olderMessage = head();
-    stowedMessages.add(new StowedLocalMessage((LocalMessage) newerMessage));
+    stowed().add(new StowedLocalMessage((LocalMessage) newerMessage));
     return olderMessage;
   }
+
+  private Queue<Message> stowed() {
+    if (stowedMessages == null) {
+      stowedMessages = new LinkedList<>();
+    }
+    return stowedMessages;
+  }
 }
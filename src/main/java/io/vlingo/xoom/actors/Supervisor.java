@@ -8,6 +8,7 @@
 package io.vlingo.xoom.actors;
 
 public interface Supervisor {
+  @Priority(Priority.High)
   void inform(final Throwable throwable, final Supervised supervised);
   SupervisionStrategy supervisionStrategy();
   
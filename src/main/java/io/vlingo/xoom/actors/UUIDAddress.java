@@ -9,34 +9,40 @@ package io.vlingo.xoom.actors;
 
 import java.util.UUID;
 
+/**
+ * An {@code Address} of a {@code UUID} identity, held as its two {@code long}
+ * halves rather than as a {@code UUID} object, so that each address is a single
+ * object.
+ */
 public class UUIDAddress implements Address {
-  private final UUID id;
+  private final long leastSignificantBits;
+  private final long mostSignificantBits;
   private final String name;
 
   @Override
   public long id() {
-    return id.getLeastSignificantBits();
+    return leastSignificantBits;
   }
 
   @Override
   public long idSequence() {
-    return id.timestamp();
+    return idTyped().timestamp();
   }
 
   @Override
   public String idSequenceString() {
-    return "" + id.timestamp();
+    return "" + idSequence();
   }
 
   @Override
   public String idString() {
-    return id.toString();
+    return idTyped().toString();
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public UUID idTyped() {
-    return id;
+    return new UUID(mostSignificantBits, leastSignificantBits);
   }
 
   @Override
@@ -54,22 +60,28 @@ public class UUIDAddress implements Address {
     if (other == null || other.getClass() != this.getClass()) {
       return false;
     }
-    return id.equals(((UUIDAddress) other).id);
+    final UUIDAddress otherAddress = (UUIDAddress) other;
+    return leastSignificantBits == otherAddress.leastSignificantBits && mostSignificantBits == otherAddress.mostSignificantBits;
   }
 
   @Override
   public int hashCode() {
-    return id.hashCode();
+    // same as UUID#hashCode()
+    final long bits = mostSignificantBits ^ leastSignificantBits;
+    return ((int) (bits >> 32)) ^ (int) bits;
   }
 
   @Override
   public String toString() {
-    return this.getClass().getSimpleName() + "[id=" + id + ", name=" + (name == null ? "(none)" : name) + "]";
+    return this.getClass().getSimpleName() + "[id=" + idString() + ", name=" + (name == null ? "(none)" : name) + "]";
   }
 
   @Override
   public int compareTo(final Address other) {
-    return id.compareTo(((UUIDAddress) other).id);
+    // same order as UUID#compareTo(UUID)
+    final UUIDAddress otherAddress = (UUIDAddress) other;
+    final int comparison = Long.compare(mostSignificantBits, otherAddress.mostSignificantBits);
+    return comparison != 0 ? comparison : Long.compare(leastSignificantBits, otherAddress.leastSignificantBits);
   }
 
   protected UUIDAddress(final UUID reservedId) {
@@ -81,7 +93,8 @@ public class UUIDAddress implements Address {
   }
 
   protected UUIDAddress(final UUID reservedId, final String name, final boolean prefixName) {
-    this.id = reservedId;
-    this.name = name == null ? null : prefixName ? (name + id) : name;
+    this.mostSignificantBits = reservedId == null ? 0 : reservedId.getMostSignificantBits();
+    this.leastSignificantBits = reservedId == null ? 0 : reservedId.getLeastSignificantBits();
+    this.name = name == null ? null : prefixName ? (name + reservedId) : name;
   }
 }
@@ -20,11 +20,13 @@ public class UUIDAddressFactory implements AddressFactory {
   private final IdentityGeneratorType type;
 
   private final AtomicLong highId;
+  private final AddressNames names;
 
   public UUIDAddressFactory(final IdentityGeneratorType type) {
     this.type = type;
     this.generator = this.type.generator();
     this.highId = new AtomicLong(World.HIGH_ROOT_ID);
+    this.names = new AddressNames();
   }
 
   @Override
@@ -34,7 +36,7 @@ public class UUIDAddressFactory implements AddressFactory {
 
   @Override
   public Address from(final long reservedId, final String name) {
-    return new UUIDAddress(uuidFrom(reservedId), name);
+    return new UUIDAddress(uuidFrom(reservedId), names.shared(name));
   }
 
   @Override
@@ -44,7 +46,7 @@ public class UUIDAddressFactory implements AddressFactory {
 
   @Override
   public Address from(final String idString, final String name) {
-    return new UUIDAddress(UUID.fromString(idString), name);
+    return new UUIDAddress(UUID.fromString(idString), names.shared(name));
   }
 
   @Override
@@ -64,7 +66,7 @@ public class UUIDAddressFactory implements AddressFactory {
 
   @Override
   public Address uniqueWith(final String name) {
-    return new UUIDAddress(generator.generate(name), name);
+    return new UUIDAddress(generator.generate(name), names.shared(name));
   }
 
   @Override
@@ -75,7 +77,7 @@ public class UUIDAddressFactory implements AddressFactory {
   @Override
   public Address withHighId(final String name) {
     // WARNING: Uniqueness not guaranteed
-    return new UUIDAddress(uuidFrom(highId.decrementAndGet()), name);
+    return new UUIDAddress(uuidFrom(highId.decrementAndGet()), names.shared(name));
   }
 
   @Override
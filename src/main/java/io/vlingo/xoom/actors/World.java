@@ -39,6 +39,7 @@ public final class World implements Registrar {
   private final String name;
   private final Map<String, Stage> stages;
   private final Map<String, Object> dynamicDependencies;
+  private final ActorProxy.ProxyConstructors proxyConstructors;
 
   private ClassLoader classLoader;
   private CompletesEventuallyProviderKeeper completesProviderKeeper;
@@ -231,6 +232,39 @@ public final class World implements Registrar {
     return completesProviderKeeper.findDefault().provideCompletesFor(address, clientReturns);
   }
 
+  /**
+   * Answers a {@code CompletesEventually} instance of the {@code index} that backs the
+   * {@code clientReturns}, the {@code index} being assigned by {@code completesIndex()}.
+   * @param index the int index of the CompletesEventually actor to reuse
+   * @param clientReturns the {@code CompletesEventually} allocated for eventual completion of {@code clientReturns}
+   * @return CompletesEventually
+   */
+  public CompletesEventually completesFor(final int index, final Returns<Object> clientReturns) {
+    return completesProviderKeeper.findDefault().provideCompletesFor(index, clientReturns);
+  }
+
+  /**
+   * Answers a {@code CompletesEventually} instance of the {@code index} that backs the
+   * {@code clientReturns} and that may be recycled once its outcome is delivered. The
+   * caller must complete it once, immediately, and keep no reference to it. (INTERNAL ONLY)
+   * @param index the int index of the CompletesEventually actor to reuse
+   * @param clientReturns the {@code CompletesEventually} allocated for eventual completion of {@code clientReturns}
+   * @return CompletesEventually
+   */
+  CompletesEventually recyclableCompletesFor(final int index, final Returns<Object> clientReturns) {
+    return completesProviderKeeper.findDefault().provideRecyclableCompletesFor(index, clientReturns);
+  }
+
+  /**
+   * Answers the {@code int} index of the {@code CompletesEventually} actor that is assigned
+   * to a new user of {@code completesFor(index, clientReturns)}, or {@code -1} if the plugin
+   * does not assign them.
+   * @return int
+   */
+  public int completesIndex() {
+    return completesProviderKeeper.findDefault().assignIndex();
+  }
+
   /**
    * Answers the default {@code Logger} that is registered with this {@code World}. The
    * {@code Logger} protocol is implemented by an {@code Actor} such that all logging is
@@ -546,6 +580,14 @@ public final class World implements Registrar {
     this.classLoader = classLoader;
   }
 
+  /**
+   * Answer my {@code proxyConstructors}, which are resolved by my {@code classLoader}.
+   * @return {@code ActorProxy.ProxyConstructors}
+   */
+  ActorProxy.ProxyConstructors proxyConstructors() {
+    return proxyConstructors;
+  }
+
   /**
    * Answers a {@code name} for a {@code Mailbox} given a {@code candidateMailboxName}, which if non-existing
    * the {@code name} of the default {@code Mailbox} is answered. (INTERNAL ONLY)
@@ -651,6 +693,7 @@ public final class World implements Registrar {
     this.mailboxProviderKeeper = new DefaultMailboxProviderKeeper();
     this.stages = new ConcurrentHashMap<>();
     this.dynamicDependencies = new ConcurrentHashMap<>();
+    this.proxyConstructors = new ActorProxy.ProxyConstructors();
 
     final Stage defaultStage = stageNamed(DEFAULT_STAGE);
 
@@ -7,19 +7,31 @@
 
 package io.vlingo.xoom.actors.plugin.completes;
 
-import io.vlingo.xoom.actors.*;
-
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
+import io.vlingo.xoom.actors.*;
+
+/**
+ * A {@code CompletesEventuallyProvider} of a pool of {@code CompletesEventually}
+ * actors. Each user is assigned the index of one actor, which it keeps, so that
+ * the actor of its later outcomes is found in O(1), and the {@code PooledCompletes}
+ * carriers of each actor are recycled once delivered.
+ */
 public class CompletesEventuallyPool implements CompletesEventuallyProvider {
-  private final AtomicLong completesEventuallyId;
+  private final PooledCompletes.Pool carriers;
+  private final AtomicLong carrierIds;
+  private final Map<Address, Integer> indexes;
   private final String mailboxName;
   private final CompletesEventually[] pool;
   private final AtomicLong poolIndex;
-  private final long poolSize;
+  private final int poolSize;
 
   CompletesEventuallyPool(final int poolSize, final String mailboxName) {
-    this.completesEventuallyId = new AtomicLong(0);
+    this.carriers = new PooledCompletes.Pool(poolSize);
+    this.carrierIds = new AtomicLong(0);
+    this.indexes = new HashMap<>(poolSize * 2);
     this.poolSize = poolSize;
     this.mailboxName = mailboxName;
     this.poolIndex = new AtomicLong(0);
@@ -35,8 +47,12 @@ public class CompletesEventuallyPool implements CompletesEventuallyProvider {
 
   @Override
   public CompletesEventually completesEventually() {
-    final int index = (int)(poolIndex.incrementAndGet() % poolSize);
-    return pool[index];
+    return pool[assignIndex()];
+  }
+
+  @Override
+  public int assignIndex() {
+    return (int)(poolIndex.incrementAndGet() % poolSize);
   }
 
   @Override
@@ -50,31 +66,44 @@ public class CompletesEventuallyPool implements CompletesEventuallyProvider {
                               CompletesEventuallyActor::new,
                               mailboxName,
                               "completes-eventually-" + (idx + 1)));
+      indexes.put(pool[idx].address(), idx);
     }
   }
 
   @Override
   public CompletesEventually provideCompletesFor(final Returns<?> clientReturns) {
-    return new PooledCompletes(
-            completesEventuallyId.getAndIncrement(),
-            clientReturns,
-            completesEventually());
+    return provideCompletesFor(assignIndex(), clientReturns);
   }
 
   @Override
   public CompletesEventually provideCompletesFor(final Address address, final Returns<?> clientReturns) {
-    return new PooledCompletes(
-            completesEventuallyId.getAndIncrement(),
-            clientReturns,
-            completesEventuallyOf(address));
+    final Integer index = indexes.get(address);
+    return provideCompletesFor(index == null ? assignIndex() : index, clientReturns);
   }
 
-  private CompletesEventually completesEventuallyOf(final Address address) {
-    for (final CompletesEventually completesEventually : pool) {
-      if (completesEventually.address().equals(address)) {
-        return completesEventually;
-      }
+  @Override
+  public CompletesEventually provideCompletesFor(final int index, final Returns<?> clientReturns) {
+    if (index < 0 || index >= poolSize) {
+      return provideCompletesFor(clientReturns);
     }
-    return completesEventually();
+
+    // may be kept and completed more than once, so it is never recycled
+    return new PooledCompletes(carrierIds.getAndIncrement(), clientReturns, pool[index]);
+  }
+
+  @Override
+  public CompletesEventually provideRecyclableCompletesFor(final int index, final Returns<?> clientReturns) {
+    if (index < 0 || index >= poolSize) {
+      return provideCompletesFor(clientReturns);
+    }
+
+    final PooledCompletes recycled = carriers.take(index);
+
+    if (recycled != null) {
+      return recycled.reuseFor(clientReturns);
+    }
+
+    // ids are taken only by new carriers, which recycling keeps few
+    return new PooledCompletes(carrierIds.getAndIncrement(), clientReturns, pool[index], carriers, index);
   }
 }
@@ -0,0 +1,93 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Samples the time that mailboxes wait between being scheduled on a
+ * {@code Dispatcher} and starting delivery. One sampler is shared by the
+ * mailboxes of a dispatcher, and its moving average tells each adaptive
+ * {@code DeliveryThrottle} whether other mailboxes are waiting too long.
+ * <p>
+ * The moving average is striped by delivering thread, each stripe on its own
+ * cache line, so that the threads of a dispatcher do not contend to record
+ * their samples. Each thread samples mailboxes taken from the same dispatcher,
+ * so the average of its own stripe stands for the latency of them all.
+ */
+public final class DeliveryLatencySampler {
+  /** The default target latency of 500 microseconds. */
+  public static final long DefaultTargetLatencyNanos = 500_000L;
+
+  // the longs of a 64-byte cache line
+  private static final int StripeWidth = 8;
+
+  private final long targetLatencyNanos;
+
+  // Each stripe is updated by its threads without synchronization; a lost
+  // sample only makes the moving average a little less current.
+  private final AtomicLongArray averageLatencyNanos;
+  private final int stripeMask;
+
+  /**
+   * Constructs my default state with the {@code DefaultTargetLatencyNanos}.
+   */
+  public DeliveryLatencySampler() {
+    this(DefaultTargetLatencyNanos);
+  }
+
+  /**
+   * Constructs my default state.
+   * @param targetLatencyNanos the long nanoseconds that a scheduled mailbox should wait at most
+   */
+  public DeliveryLatencySampler(final long targetLatencyNanos) {
+    if (targetLatencyNanos <= 0) {
+      throw new IllegalArgumentException("Target latency must be greater than zero.");
+    }
+    this.targetLatencyNanos = targetLatencyNanos;
+
+    final int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+    this.averageLatencyNanos = new AtomicLongArray(stripes * StripeWidth);
+    this.stripeMask = stripes - 1;
+  }
+
+  /**
+   * Answer my moving average of the scheduling latency in nanoseconds,
+   * as sampled by the stripe of the current thread.
+   * @return long
+   */
+  public long averageLatencyNanos() {
+    return averageLatencyNanos.get(stripe());
+  }
+
+  /**
+   * Answer whether or not scheduled mailboxes wait longer than my target,
+   * as sampled by the stripe of the current thread.
+   * @return boolean
+   */
+  public boolean isCongested() {
+    return averageLatencyNanos() > targetLatencyNanos;
+  }
+
+  /**
+   * Record the {@code latencyNanos} that a mailbox waited to start delivery
+   * into the stripe of the current thread.
+   * @param latencyNanos the long nanoseconds waited
+   */
+  public void sample(final long latencyNanos) {
+    final int stripe = stripe();
+    final long average = averageLatencyNanos.get(stripe);
+    // exponentially weighted with 1/8 of the new sample
+    averageLatencyNanos.lazySet(stripe, average + ((Math.max(0L, latencyNanos) - average) >> 3));
+  }
+
+  private int stripe() {
+    // thread ids are sequential, so the threads of a dispatcher mostly have their own stripes
+    return ((int) Thread.currentThread().getId() & stripeMask) * StripeWidth;
+  }
+}
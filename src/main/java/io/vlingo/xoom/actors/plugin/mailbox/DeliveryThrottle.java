@@ -0,0 +1,129 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox;
+
+/**
+ * Limits the number of messages that a mailbox delivers each time it is run
+ * by a shared {@code Dispatcher}, before it must reschedule itself. A
+ * {@code DeliveryThrottle} belongs to a single mailbox and, other than
+ * {@code scheduled()}, is used only by the thread currently delivering.
+ * <p>
+ * A fixed throttle always answers the same limit. An adaptive throttle
+ * doubles its limit while the mailbox still has a backlog after using its
+ * full limit, and halves it while the dispatcher's {@code DeliveryLatencySampler}
+ * reports that scheduled mailboxes wait too long. It times only one of every
+ * {@code SampleInterval} schedules, so that most sends read no clock.
+ */
+public abstract class DeliveryThrottle {
+  /** The property value that selects an adaptive throttle. */
+  public static final String Adaptive = "adaptive";
+
+  /** The smallest limit of an adaptive throttle. */
+  public static final int MinimumThrottlingCount = 1;
+
+  /** The largest limit of an adaptive throttle. */
+  public static final int MaximumThrottlingCount = 1024;
+
+  /** The number of schedules of an adaptive throttle per latency sample, a power of two. */
+  public static final int SampleInterval = 16;
+
+  /**
+   * Answer a new {@code DeliveryThrottle} that always answers {@code throttlingCount}.
+   * @param throttlingCount the int limit, which is at least 1
+   * @return DeliveryThrottle
+   */
+  public static DeliveryThrottle fixed(final int throttlingCount) {
+    return new FixedDeliveryThrottle(Math.max(MinimumThrottlingCount, throttlingCount));
+  }
+
+  /**
+   * Answer a new adaptive {@code DeliveryThrottle} driven by {@code sampler}.
+   * @param sampler the DeliveryLatencySampler shared by the mailboxes of a dispatcher
+   * @return DeliveryThrottle
+   */
+  public static DeliveryThrottle adaptive(final DeliveryLatencySampler sampler) {
+    return new AdaptiveDeliveryThrottle(sampler);
+  }
+
+  /**
+   * Record that my mailbox was just handed to its dispatcher.
+   */
+  public abstract void scheduled();
+
+  /**
+   * Answer the maximum number of messages to deliver in the run now starting.
+   * @return int
+   */
+  public abstract int begin();
+
+  /**
+   * Record the end of a run.
+   * @param delivered the int number of messages delivered by the run
+   * @param backlog the boolean indicating whether messages remain to be delivered
+   */
+  public abstract void end(final int delivered, final boolean backlog);
+
+  private static final class FixedDeliveryThrottle extends DeliveryThrottle {
+    private final int throttlingCount;
+
+    FixedDeliveryThrottle(final int throttlingCount) {
+      this.throttlingCount = throttlingCount;
+    }
+
+    @Override
+    public void scheduled() { }
+
+    @Override
+    public int begin() {
+      return throttlingCount;
+    }
+
+    @Override
+    public void end(final int delivered, final boolean backlog) { }
+  }
+
+  private static final class AdaptiveDeliveryThrottle extends DeliveryThrottle {
+    private int limit;
+    private final DeliveryLatencySampler sampler;
+    private volatile long scheduledAt;
+    // every sender may schedule the mailbox, so concurrent increments may be lost,
+    // which only shifts the next sample and is harmless for sampling
+    private int schedules;
+
+    AdaptiveDeliveryThrottle(final DeliveryLatencySampler sampler) {
+      this.limit = MinimumThrottlingCount;
+      this.sampler = sampler;
+    }
+
+    @Override
+    public void scheduled() {
+      if ((++schedules & (SampleInterval - 1)) == 0) {
+        scheduledAt = System.nanoTime();
+      }
+    }
+
+    @Override
+    public int begin() {
+      final long at = scheduledAt;
+      if (at != 0L) {
+        scheduledAt = 0L;
+        sampler.sample(System.nanoTime() - at);
+      }
+      return limit;
+    }
+
+    @Override
+    public void end(final int delivered, final boolean backlog) {
+      if (sampler.isCongested()) {
+        limit = Math.max(MinimumThrottlingCount, limit >> 1);
+      } else if (backlog && delivered >= limit) {
+        limit = Math.min(MaximumThrottlingCount, limit << 1);
+      }
+    }
+  }
+}
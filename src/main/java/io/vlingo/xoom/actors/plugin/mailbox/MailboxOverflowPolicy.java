@@ -0,0 +1,224 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.vlingo.xoom.actors.Actor;
+import io.vlingo.xoom.actors.DeadLetter;
+import io.vlingo.xoom.actors.DeadLetters;
+import io.vlingo.xoom.actors.LocalMessage;
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.Returns;
+
+/**
+ * What a bounded mailbox does with a sent {@code Message} that it cannot
+ * accept because it is full, after its send retries are used up:
+ * <ul>
+ *   <li>{@code dropNewest}: the sent message is dropped to {@code DeadLetters}.</li>
+ *   <li>{@code dropOldest}: the oldest pending messages are dropped to
+ *       {@code DeadLetters} until the sent message is accepted.</li>
+ *   <li>{@code park}: the sender parks until the sent message is accepted,
+ *       or until the park timeout elapses and the message is rejected. A
+ *       timeout of 0 parks until the message is accepted or the mailbox closes,
+ *       which never happens for an actor that sends to its own full mailbox.</li>
+ *   <li>{@code reject}: the sent message is rejected. This is the default.</li>
+ * </ul>
+ * A rejected message that answers a {@code Completes<T>} or
+ * {@code CompletableFuture<T>} fails it, and otherwise an
+ * {@code IllegalStateException} is thrown to the sender. When a batch is
+ * sent, the messages accepted before a rejected one are still delivered.
+ */
+public abstract class MailboxOverflowPolicy {
+  public static final String DropNewest = "dropNewest";
+  public static final String DropOldest = "dropOldest";
+  public static final String Park = "park";
+  public static final String Reject = "reject";
+
+  /**
+   * Answer a new {@code MailboxOverflowPolicy} of the given {@code name}.
+   * @param name the String name of the policy
+   * @param parkTimeout the long milliseconds that a park policy waits, where 0 means without a timeout
+   * @return MailboxOverflowPolicy
+   */
+  public static MailboxOverflowPolicy named(final String name, final long parkTimeout) {
+    switch (name) {
+    case DropNewest:
+      return new DropNewestOverflowPolicy();
+    case DropOldest:
+      return new DropOldestOverflowPolicy();
+    case Park:
+      return new ParkOverflowPolicy(parkTimeout);
+    case Reject:
+      return new RejectOverflowPolicy();
+    default:
+      throw new IllegalArgumentException("Unknown mailbox overflow policy: " + name);
+    }
+  }
+
+  /**
+   * Answer whether or not I remove pending messages, which requires that
+   * the mailbox exclude its own receiving while a sender evicts.
+   * @return boolean
+   */
+  public boolean dropsOldest() {
+    return false;
+  }
+
+  /**
+   * Answer whether or not I wait for the full mailbox without ever giving up
+   * on the sent message, other than when the mailbox is closed.
+   * @return boolean
+   */
+  public boolean waitsIndefinitely() {
+    return false;
+  }
+
+  /**
+   * Handle {@code message} that the full {@code queue} did not accept, and
+   * answer whether or not it was eventually accepted.
+   * @param message the Message that was not accepted
+   * @param queue the BoundedQueue of the mailbox
+   * @return boolean
+   */
+  public abstract boolean overflowed(final Message message, final BoundedQueue queue);
+
+  /**
+   * Drop {@code message} to the {@code DeadLetters} of its actor.
+   * @param message the Message to drop
+   */
+  protected static void deadLetter(final Message message) {
+    final Actor actor = message.actor();
+    final DeadLetter deadLetter = new DeadLetter(actor, message.representation());
+    final DeadLetters deadLetters = actor.deadLetters();
+    if (deadLetters != null) {
+      deadLetters.failedDelivery(deadLetter);
+    } else {
+      Logger.basicLogger().warn("XOOM: MISSING DEAD LETTERS FOR: " + deadLetter);
+    }
+  }
+
+  /**
+   * Reject {@code message} by failing the outcome it answers, if any, and
+   * otherwise by throwing an {@code IllegalStateException}.
+   * @param message the Message to reject
+   */
+  protected static void reject(final Message message) {
+    final IllegalStateException exception =
+            new IllegalStateException("Could not enqueue message due to full mailbox: " + message.representation());
+
+    final Returns<?> returns = message instanceof LocalMessage ? ((LocalMessage<?>) message).returns() : null;
+
+    if (returns != null && returns.isCompletes()) {
+      returns.asCompletes().failed(exception);
+    } else if (returns != null && returns.isCompletableFuture()) {
+      returns.asCompletableFuture().completeExceptionally(exception);
+    } else {
+      throw exception;
+    }
+  }
+
+  /**
+   * The operations of a bounded mailbox that I need to handle its overflow.
+   */
+  public static interface BoundedQueue {
+    /**
+     * Answer whether or not the mailbox is closed.
+     * @return boolean
+     */
+    boolean isClosed();
+
+    /**
+     * Answer whether or not {@code message} was accepted, without waiting.
+     * @param message the Message to accept
+     * @return boolean
+     */
+    boolean offer(final Message message);
+
+    /**
+     * Answer the oldest pending message after removing it, or null if there is none.
+     * Only used by policies that {@code dropsOldest()}.
+     * @return Message
+     */
+    Message evictOldest();
+  }
+
+  private static final class DropNewestOverflowPolicy extends MailboxOverflowPolicy {
+    @Override
+    public boolean overflowed(final Message message, final BoundedQueue queue) {
+      deadLetter(message);
+      return false;
+    }
+  }
+
+  private static final class DropOldestOverflowPolicy extends MailboxOverflowPolicy {
+    @Override
+    public boolean dropsOldest() {
+      return true;
+    }
+
+    @Override
+    public boolean overflowed(final Message message, final BoundedQueue queue) {
+      do {
+        if (queue.isClosed()) {
+          deadLetter(message);
+          return false;
+        }
+        final Message oldest = queue.evictOldest();
+        if (oldest != null) {
+          deadLetter(oldest);
+        }
+      } while (!queue.offer(message));
+
+      return true;
+    }
+  }
+
+  private static final class ParkOverflowPolicy extends MailboxOverflowPolicy {
+    private static final long ParkNanos = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final long parkTimeoutNanos;
+
+    ParkOverflowPolicy(final long parkTimeout) {
+      this.parkTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, parkTimeout));
+    }
+
+    @Override
+    public boolean waitsIndefinitely() {
+      return parkTimeoutNanos == 0L;
+    }
+
+    @Override
+    public boolean overflowed(final Message message, final BoundedQueue queue) {
+      final long deadline = System.nanoTime() + parkTimeoutNanos;
+
+      while (!queue.offer(message)) {
+        if (queue.isClosed()) {
+          return false;
+        }
+        if (parkTimeoutNanos > 0L && System.nanoTime() - deadline >= 0L) {
+          reject(message);
+          return false;
+        }
+        LockSupport.parkNanos(this, ParkNanos);
+      }
+
+      return true;
+    }
+  }
+
+  private static final class RejectOverflowPolicy extends MailboxOverflowPolicy {
+    @Override
+    public boolean overflowed(final Message message, final BoundedQueue queue) {
+      reject(message);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Message;
+
+/**
+ * A lock-free multi-producer run queue of mailboxes ready for delivery, based on
+ * Dmitry Vyukov's intrusive MPSC node queue. A {@code ScheduledMailbox} is linked
+ * through its own {@code nextScheduled} field, so offering one never allocates;
+ * any other {@code Mailbox}, such as a {@code ResumingMailbox}, is wrapped.
+ * <p>
+ * There is a single logical consumer at a time. The owning worker and any
+ * work-stealing workers compete for that role with {@code poll()}, which never
+ * blocks but answers {@code null} when another consumer currently holds it.
+ */
+public final class MailboxRunQueue {
+  private final AtomicBoolean consuming;
+  private final AtomicReference<ScheduledMailbox> head;
+  private final ScheduledMailbox stub;
+  private volatile ScheduledMailbox tail;
+
+  public MailboxRunQueue() {
+    this.consuming = new AtomicBoolean(false);
+    this.stub = new WrappedMailbox(null);
+    this.head = new AtomicReference<>(stub);
+    this.tail = stub;
+  }
+
+  /**
+   * Answer whether or not the {@code mailbox} was linked into me. A
+   * {@code ScheduledMailbox} that is already scheduled is not linked again.
+   * @param mailbox the Mailbox ready for delivery
+   * @return boolean
+   */
+  public boolean offer(final Mailbox mailbox) {
+    final ScheduledMailbox scheduled =
+            mailbox instanceof ScheduledMailbox ?
+                    (ScheduledMailbox) mailbox :
+                    new WrappedMailbox(mailbox);
+
+    if (!scheduled.trySchedule()) {
+      return false;
+    }
+
+    link(scheduled);
+
+    return true;
+  }
+
+  /**
+   * Answer the next {@code Mailbox} ready for delivery, or {@code null}
+   * if I am empty or another consumer is currently polling me.
+   * @return Mailbox
+   */
+  public Mailbox poll() {
+    if (!consuming.compareAndSet(false, true)) {
+      return null;
+    }
+
+    try {
+      final ScheduledMailbox next = unlink();
+
+      if (next == null) {
+        return null;
+      }
+
+      next.unschedule();
+
+      return next instanceof WrappedMailbox ? ((WrappedMailbox) next).mailbox : next;
+    } finally {
+      consuming.set(false);
+    }
+  }
+
+  /**
+   * Answer whether or not I appear empty.
+   * @return boolean
+   */
+  public boolean isEmpty() {
+    return head.get() == stub && tail == stub;
+  }
+
+  private void link(final ScheduledMailbox node) {
+    node.nextScheduled = null;
+    final ScheduledMailbox previous = head.getAndSet(node);
+    previous.nextScheduled = node;
+  }
+
+  private ScheduledMailbox unlink() {
+    ScheduledMailbox current = tail;
+    ScheduledMailbox next = current.nextScheduled;
+
+    if (current == stub) {
+      if (next == null) {
+        return null;
+      }
+      tail = next;
+      current = next;
+      next = next.nextScheduled;
+    }
+
+    if (next != null) {
+      tail = next;
+      return current;
+    }
+
+    if (current != head.get()) {
+      // a producer is between its swap and its link; try again later
+      return null;
+    }
+
+    link(stub);
+
+    next = current.nextScheduled;
+
+    if (next != null) {
+      tail = next;
+      return current;
+    }
+
+    return null;
+  }
+
+  private static final class WrappedMailbox extends ScheduledMailbox {
+    private final Mailbox mailbox;
+
+    WrappedMailbox(final Mailbox mailbox) {
+      this.mailbox = mailbox;
+    }
+
+    @Override
+    public void run() { mailbox.run(); }
+
+    @Override
+    public void close() { mailbox.close(); }
+
+    @Override
+    public boolean isClosed() { return mailbox.isClosed(); }
+
+    @Override
+    public boolean isDelivering() { return mailbox.isDelivering(); }
+
+    @Override
+    public int concurrencyCapacity() { return mailbox.concurrencyCapacity(); }
+
+    @Override
+    public void resume(final String name) { mailbox.resume(name); }
+
+    @Override
+    public void send(final Message message) { mailbox.send(message); }
+
+    @Override
+    public void suspendExceptFor(final String name, final Class<?>... overrides) { mailbox.suspendExceptFor(name, overrides); }
+
+    @Override
+    public boolean isSuspended() { return mailbox.isSuspended(); }
+
+    @Override
+    public Message receive() { return mailbox.receive(); }
+
+    @Override
+    public int pendingMessages() { return mailbox.pendingMessages(); }
+  }
+}
@@ -0,0 +1,99 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.Priority;
+
+/**
+ * Answers the {@code Priority} of messages, as declared on their protocols
+ * and protocol methods. The declarations of each protocol are read once, and
+ * the priority of each message representation is cached, so that answering
+ * the priority of a message neither reflects nor allocates after its first.
+ */
+public final class MessagePriorities {
+  private static final ClassValue<ProtocolPriorities> protocolPriorities =
+          new ClassValue<ProtocolPriorities>() {
+            @Override
+            protected ProtocolPriorities computeValue(final Class<?> protocol) {
+              return new ProtocolPriorities(protocol);
+            }
+          };
+
+  /**
+   * Answer the priority of {@code message}, which is always
+   * within {@code Priority.High} and {@code Priority.Low}.
+   * @param message the Message for which the priority is answered
+   * @return int
+   */
+  public static int priorityOf(final Message message) {
+    final Class<?> protocol = message.protocol();
+    if (protocol == null) {
+      return Priority.Normal;
+    }
+    return protocolPriorities.get(protocol).priorityOf(message.representation());
+  }
+
+  private MessagePriorities() { }
+
+  private static int bounded(final int priority) {
+    return Math.max(Priority.High, Math.min(Priority.Low, priority));
+  }
+
+  private static final class ProtocolPriorities {
+    private final Map<String, Integer> methodPriorities;
+    private final int protocolPriority;
+    private final Map<String, Integer> representationPriorities;
+
+    ProtocolPriorities(final Class<?> protocol) {
+      final Priority priority = protocol.getAnnotation(Priority.class);
+      this.protocolPriority = priority == null ? Priority.Normal : bounded(priority.value());
+      this.methodPriorities = methodPrioritiesOf(protocol);
+      this.representationPriorities = new ConcurrentHashMap<>();
+    }
+
+    int priorityOf(final String representation) {
+      if (methodPriorities.isEmpty() || representation == null) {
+        return protocolPriority;
+      }
+
+      final Integer priority = representationPriorities.get(representation);
+      if (priority != null) {
+        return priority;
+      }
+
+      // representations are of the form method(parameters)
+      final int parameters = representation.indexOf('(');
+      final String methodName = parameters < 0 ? representation : representation.substring(0, parameters);
+      final int resolved = methodPriorities.getOrDefault(methodName, protocolPriority);
+      representationPriorities.put(representation, resolved);
+
+      return resolved;
+    }
+
+    private Map<String, Integer> methodPrioritiesOf(final Class<?> protocol) {
+      final Map<String, Integer> priorities = new HashMap<>();
+
+      for (final Method method : protocol.getMethods()) {
+        final Priority priority = method.getAnnotation(Priority.class);
+        if (priority != null && !Modifier.isStatic(method.getModifiers())) {
+          priorities.merge(method.getName(), bounded(priority.value()), Math::min);
+        }
+      }
+
+      return priorities.isEmpty() ? Collections.emptyMap() : priorities;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import io.vlingo.xoom.actors.Mailbox;
+
+/**
+ * A {@code Mailbox} that carries its own intrusive link and scheduled
+ * state, so that a {@code MailboxRunQueue} can schedule it for delivery
+ * without allocating a queue node. A mailbox is linked into at most one
+ * {@code MailboxRunQueue} at a time.
+ */
+public abstract class ScheduledMailbox implements Mailbox {
+  private static final AtomicIntegerFieldUpdater<ScheduledMailbox> ScheduledUpdater =
+          AtomicIntegerFieldUpdater.newUpdater(ScheduledMailbox.class, "scheduled");
+
+  volatile ScheduledMailbox nextScheduled;
+  private volatile int scheduled;
+
+  /**
+   * Answer whether or not I am currently linked into a {@code MailboxRunQueue}.
+   * @return boolean
+   */
+  public boolean isScheduled() {
+    return scheduled == 1;
+  }
+
+  /**
+   * Answer whether or not I transitioned from unscheduled to scheduled.
+   * @return boolean
+   */
+  boolean trySchedule() {
+    return ScheduledUpdater.compareAndSet(this, 0, 1);
+  }
+
+  /**
+   * Mark me as no longer scheduled, which must happen only after I am unlinked.
+   */
+  void unschedule() {
+    scheduled = 0;
+  }
+}
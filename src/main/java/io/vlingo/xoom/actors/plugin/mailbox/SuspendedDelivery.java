@@ -0,0 +1,188 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides.Overrides;
+
+/**
+ * Suspension and stowage for a mailbox that is received from by a single
+ * dedicated thread. Any thread may suspend or resume, but only the
+ * receiving thread may stow and disperse. While suspended, the receiver
+ * delivers only messages of the overriding protocols and stows all others,
+ * and once resumed it disperses the stowed messages before any newer ones.
+ * <p>
+ * Stowage holds at most its limit of messages, so that a suspended mailbox
+ * is still bounded. Once it is full the receiver leaves newer messages in
+ * the mailbox, which then fills and applies its overflow policy to senders.
+ * So that an overriding message is not queued behind those, senders hand it
+ * to me while suspended, as the {@code ConcurrentQueueMailbox} does, and the
+ * receiver takes it before any other.
+ */
+public final class SuspendedDelivery {
+  private final Queue<Message> overriding;
+  private final SuspendedDeliveryOverrides overrides;
+  private final Queue<Message> stowed;
+  private final int stowageLimit;
+  private volatile int stowedCount;
+
+  /**
+   * Construct my state with at most {@code stowageLimit} stowed messages,
+   * usually the size of the mailbox.
+   * @param stowageLimit the int maximum of stowed messages
+   */
+  public SuspendedDelivery(final int stowageLimit) {
+    if (stowageLimit < 1) {
+      throw new IllegalArgumentException("Stowage limit must be 1 or greater.");
+    }
+    this.overriding = new ConcurrentLinkedQueue<>();
+    this.overrides = new SuspendedDeliveryOverrides();
+    this.stowed = new ArrayDeque<>();
+    this.stowageLimit = stowageLimit;
+  }
+
+  /**
+   * Suspend delivery of all but the {@code overrides} protocols.
+   * @param name the String name of the suspension
+   * @param overrides the {@code Class<?>[]} protocols that are still delivered
+   */
+  public void suspendExceptFor(final String name, final Class<?>... overrides) {
+    this.overrides.push(new Overrides(name, overrides));
+  }
+
+  /**
+   * Answer whether or not the suspension {@code name} was ended.
+   * @param name the String name of the suspension
+   * @return boolean
+   */
+  public boolean resume(final String name) {
+    return overrides.pop(name);
+  }
+
+  /**
+   * Answer whether or not delivery is suspended.
+   * @return boolean
+   */
+  public boolean isSuspended() {
+    return !overrides.isEmpty();
+  }
+
+  /**
+   * Answer whether or not delivery is suspended by {@code name}.
+   * @param name the String name of the suspension
+   * @return boolean
+   */
+  public boolean isSuspendedFor(final String name) {
+    return !overrides.find(name).isEmpty();
+  }
+
+  /**
+   * Answer whether or not {@code message} is delivered despite suspension.
+   * @param message the Message to check
+   * @return boolean
+   */
+  public boolean isOverride(final Message message) {
+    return overrides.matchesTop(message.protocol());
+  }
+
+  /**
+   * Answer whether or not a message of {@code protocol} is delivered despite
+   * suspension, so that its sender hands it to {@code override(message)} rather
+   * than to the mailbox. Any sender.
+   * @param protocol the {@code Class<?>} protocol of the message
+   * @return boolean
+   */
+  public boolean isOverriding(final Class<?> protocol) {
+    return isSuspended() && overrides.matchesTop(protocol);
+  }
+
+  /**
+   * Hold the overriding {@code message} apart from the mailbox for the receiver.
+   * Any sender.
+   * @param message the Message to deliver despite suspension
+   */
+  public void override(final Message message) {
+    overriding.add(message);
+  }
+
+  /**
+   * Answer the next overriding Message, or null if there is none. Receiver only.
+   * @return Message
+   */
+  public Message receiveOverride() {
+    return overriding.poll();
+  }
+
+  /**
+   * Answer whether or not an overriding message is held for the receiver.
+   * @return boolean
+   */
+  public boolean hasOverride() {
+    return !overriding.isEmpty();
+  }
+
+  /**
+   * Answer whether or not my stowage is full, so that no message may be stowed.
+   * @return boolean
+   */
+  public boolean isStowageFull() {
+    return stowedCount >= stowageLimit;
+  }
+
+  /**
+   * Stow {@code message} until delivery is resumed, unless my stowage is full,
+   * which the receiver checks first. Receiver only.
+   * @param message the Message to stow
+   */
+  public void stow(final Message message) {
+    stowed.add(message);
+    stowedCount = stowed.size();
+  }
+
+  /**
+   * Answer the next stowed Message, or null if there is none. Receiver only.
+   * @return Message
+   */
+  public Message disperse() {
+    if (stowedCount == 0) {
+      return null;
+    }
+    final Message message = stowed.poll();
+    stowedCount = stowed.size();
+    return message;
+  }
+
+  /**
+   * Answer the number of stowed messages.
+   * @return int
+   */
+  public int stowedCount() {
+    return stowedCount;
+  }
+
+  /**
+   * Answer the number of stowed and overriding messages.
+   * @return int
+   */
+  public int pendingCount() {
+    return stowedCount + overriding.size();
+  }
+
+  /**
+   * Discard all stowed and overriding messages. Receiver only, or after the receiver stops.
+   */
+  public void clear() {
+    overriding.clear();
+    stowed.clear();
+    stowedCount = 0;
+  }
+}
@@ -13,18 +13,23 @@ import io.vlingo.xoom.actors.Backoff;
 import io.vlingo.xoom.actors.Dispatcher;
 import io.vlingo.xoom.actors.Mailbox;
 import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
 
 public class ManyToOneConcurrentArrayQueueDispatcher extends Thread implements Dispatcher {
   private final Backoff backoff;
-  private final Mailbox mailbox;
+  private final ManyToOneConcurrentArrayQueueMailbox mailbox;
   private final boolean requiresExecutionNotification;
   private final int throttlingCount;
   private final AtomicBoolean closed = new AtomicBoolean(false);
 
   protected ManyToOneConcurrentArrayQueueDispatcher(final int mailboxSize, final long fixedBackoff, final boolean notifyOnSend, final int throttlingCount, final int totalSendRetries) {
+    this(mailboxSize, fixedBackoff, notifyOnSend, throttlingCount, totalSendRetries, MailboxOverflowPolicy.named(MailboxOverflowPolicy.Reject, 0L));
+  }
+
+  protected ManyToOneConcurrentArrayQueueDispatcher(final int mailboxSize, final long fixedBackoff, final boolean notifyOnSend, final int throttlingCount, final int totalSendRetries, final MailboxOverflowPolicy overflowPolicy) {
     this.backoff = fixedBackoff == 0L ? null : new Backoff(fixedBackoff);
     this.requiresExecutionNotification = fixedBackoff == 0L;
-    this.mailbox = new ManyToOneConcurrentArrayQueueMailbox(this, mailboxSize, totalSendRetries, notifyOnSend);
+    this.mailbox = new ManyToOneConcurrentArrayQueueMailbox(this, mailboxSize, totalSendRetries, notifyOnSend, overflowPolicy);
     this.throttlingCount = throttlingCount;
   }
 
@@ -72,14 +77,20 @@ public class ManyToOneConcurrentArrayQueueDispatcher extends Thread implements D
    * @return boolean if at least one message was delivered.
    */
   private boolean deliver() {
-    for (int idx = 0; idx < throttlingCount; ++idx) {
-      final Message message = mailbox.receive();
-      if (message == null) {
-        return idx > 0; // we delivered at least one message
-      } else {
+    Message message = mailbox.receive();
+    if (message == null) {
+      return false;
+    }
+
+    mailbox.delivering(true);
+    try {
+      int delivered = 0;
+      do {
         message.deliver();
-      }
+      } while (++delivered < throttlingCount && (message = mailbox.receive()) != null);
+    } finally {
+      mailbox.delivering(false);
     }
-    return true;
+    return true; // we delivered at least one message
   }
 }
@@ -12,11 +12,19 @@ import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import io.vlingo.xoom.actors.Dispatcher;
 import io.vlingo.xoom.actors.Mailbox;
 import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy.BoundedQueue;
+import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDelivery;
 
 public class ManyToOneConcurrentArrayQueueMailbox implements Mailbox {
+  private volatile boolean delivering;
   private final Dispatcher dispatcher;
+  private final boolean dropsOldest;
   private final boolean notifyOnSend;
+  private final MailboxOverflowPolicy overflowPolicy;
+  private final BoundedQueue overflowQueue;
   private final ManyToOneConcurrentArrayQueue<Message> queue;
+  private final SuspendedDelivery suspendedDelivery;
   private final int totalSendRetries;
 
   @Override
@@ -32,7 +40,7 @@ public class ManyToOneConcurrentArrayQueueMailbox implements Mailbox {
 
   @Override
   public boolean isDelivering() {
-    throw new UnsupportedOperationException("ManyToOneConcurrentArrayQueueMailbox does not support this operation.");
+    return delivering;
   }
 
   @Override
@@ -47,53 +55,153 @@ public class ManyToOneConcurrentArrayQueueMailbox implements Mailbox {
 
   @Override
   public void resume(final String name) {
-    // TODO: Consider supporting Stowage here
-    System.out.println("WARNING: ManyToOneConcurrentArrayQueueMailbox does not support resume(): " + name);
+    if (suspendedDelivery.resume(name) && notifyOnSend) {
+      dispatcher.execute(this);
+    }
   }
 
   @Override
   public void send(final Message message) {
-    // This code causes a deadlock when (1) the queue is full and (2) the actor tries to send a message to itself.
-    // To avoid this, any write to full queue needs to raise an exception.
-    for (int tries = 0; tries < totalSendRetries; tries++) {
-      if (queue.offer(message)) {
-        if (notifyOnSend) {
-          dispatcher.execute(this);
-        }
-        return;
+    if (offer(message) && notifyOnSend) {
+      dispatcher.execute(this);
+    }
+  }
+
+  @Override
+  public void sendAll(final Message[] messages) {
+    boolean accepted = false;
+    try {
+      for (final Message message : messages) {
+        accepted |= offer(message);
+      }
+    } finally {
+      // a rejected message may throw, but those accepted before it are delivered
+      if (notifyOnSend && accepted) {
+        dispatcher.execute(this);
       }
     }
-    throw new IllegalStateException("Count not enqueue message due to busy mailbox.");
   }
 
   @Override
-  public void suspendExceptFor(final String name, final Class<?>... overrides) {
-    // TODO: Consider supporting Stowage here
-    if (!name.equals(Mailbox.Stopping)) {
-      System.out.println("WARNING: ManyToOneConcurrentArrayQueueMailbox does not support suspendExceptFor(): " + name + " overrides: " + overrides);
+  public boolean trySend(final Message message) {
+    if (suspendedDelivery.isOverriding(message.protocol())) {
+      return offer(message);
     }
+    if (!queue.offer(message)) {
+      return false;
+    }
+    if (notifyOnSend) {
+      dispatcher.execute(this);
+    }
+    return true;
+  }
+
+  @Override
+  public void suspendExceptFor(final String name, final Class<?>... overrides) {
+    suspendedDelivery.suspendExceptFor(name, overrides);
   }
 
   @Override
   public boolean isSuspended() {
-    return false;
+    return suspendedDelivery.isSuspended();
+  }
+
+  @Override
+  public boolean isSuspendedFor(final String name) {
+    return suspendedDelivery.isSuspendedFor(name);
   }
 
   @Override
   public final Message receive() {
-    return queue.poll();
+    final Message override = suspendedDelivery.receiveOverride();
+    if (override != null) {
+      return override;
+    }
+
+    if (!suspendedDelivery.isSuspended()) {
+      final Message stowed = suspendedDelivery.disperse();
+      return stowed != null ? stowed : poll();
+    }
+
+    // only my dispatcher receives, so it alone stows, and leaves
+    // messages queued once stowage is full so that I stay bounded
+    Message message;
+    while (!suspendedDelivery.isStowageFull() && (message = poll()) != null) {
+      if (suspendedDelivery.isOverride(message)) {
+        return message;
+      }
+      suspendedDelivery.stow(message);
+    }
+    return null;
   }
 
   /* @see io.vlingo.xoom.actors.Mailbox#pendingMessages() */
   @Override
   public int pendingMessages() {
-    return queue.size();
+    return queue.size() + suspendedDelivery.pendingCount();
   }
 
   protected ManyToOneConcurrentArrayQueueMailbox(final Dispatcher dispatcher, final int mailboxSize, final int totalSendRetries, final boolean notifyOnSend) {
+    this(dispatcher, mailboxSize, totalSendRetries, notifyOnSend, MailboxOverflowPolicy.named(MailboxOverflowPolicy.Reject, 0L));
+  }
+
+  protected ManyToOneConcurrentArrayQueueMailbox(final Dispatcher dispatcher, final int mailboxSize, final int totalSendRetries, final boolean notifyOnSend, final MailboxOverflowPolicy overflowPolicy) {
     this.dispatcher = dispatcher;
+    this.dropsOldest = overflowPolicy.dropsOldest();
+    this.overflowPolicy = overflowPolicy;
+    this.overflowQueue = new OverflowQueue();
     this.queue = new ManyToOneConcurrentArrayQueue<>(mailboxSize);
+    this.suspendedDelivery = new SuspendedDelivery(mailboxSize);
     this.totalSendRetries = totalSendRetries;
     this.notifyOnSend = notifyOnSend;
   }
+
+  void delivering(final boolean delivering) {
+    this.delivering = delivering;
+  }
+
+  private boolean offer(final Message message) {
+    if (suspendedDelivery.isOverriding(message.protocol())) {
+      // not queued behind messages that full stowage leaves in the queue
+      suspendedDelivery.override(message);
+      return true;
+    }
+    // Waiting indefinitely on a full queue deadlocks an actor that sends a message to itself.
+    // To avoid this, any write to full queue is handled by the overflow policy after the retries.
+    for (int tries = 0; tries < totalSendRetries; tries++) {
+      if (queue.offer(message)) {
+        return true;
+      }
+    }
+    return overflowPolicy.overflowed(message, overflowQueue);
+  }
+
+  private Message poll() {
+    if (dropsOldest) {
+      // senders may evict, so they must not poll at the same time as my dispatcher
+      synchronized (queue) {
+        return queue.poll();
+      }
+    }
+    return queue.poll();
+  }
+
+  private final class OverflowQueue implements BoundedQueue {
+    @Override
+    public boolean isClosed() {
+      return ManyToOneConcurrentArrayQueueMailbox.this.isClosed();
+    }
+
+    @Override
+    public boolean offer(final Message message) {
+      return queue.offer(message);
+    }
+
+    @Override
+    public Message evictOldest() {
+      synchronized (queue) {
+        return queue.poll();
+      }
+    }
+  }
 }
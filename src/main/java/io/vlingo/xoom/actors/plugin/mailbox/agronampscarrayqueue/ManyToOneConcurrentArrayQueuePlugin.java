@@ -18,6 +18,7 @@ import io.vlingo.xoom.actors.plugin.AbstractPlugin;
 import io.vlingo.xoom.actors.plugin.Plugin;
 import io.vlingo.xoom.actors.plugin.PluginConfiguration;
 import io.vlingo.xoom.actors.plugin.PluginProperties;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
 
 public class ManyToOneConcurrentArrayQueuePlugin extends AbstractPlugin implements Plugin, MailboxProvider {
   private final ManyToOneConcurrentArrayQueuePluginConfiguration configuration;
@@ -71,7 +72,8 @@ public class ManyToOneConcurrentArrayQueuePlugin extends AbstractPlugin implemen
                     configuration.fixedBackoff(),
                     configuration.notifyOnSend(),
                     configuration.dispatcherThrottlingCount(),
-                    configuration.sendRetires());
+                    configuration.sendRetires(),
+                    MailboxOverflowPolicy.named(configuration.overflowPolicy(), configuration.overflowParkTimeout()));
 
     newDispatcher.start();
 
@@ -94,6 +96,8 @@ public class ManyToOneConcurrentArrayQueuePlugin extends AbstractPlugin implemen
     private int fixedBackoff;
     private String name = "arrayQueueMailbox";
     private boolean notifyOnSend;
+    private String overflowPolicy = MailboxOverflowPolicy.Reject;
+    private long overflowParkTimeout;
     private int ringSize;
     private int sendRetires;
 
@@ -137,6 +141,24 @@ public class ManyToOneConcurrentArrayQueuePlugin extends AbstractPlugin implemen
       return notifyOnSend;
     }
 
+    public ManyToOneConcurrentArrayQueuePluginConfiguration overflowPolicy(final String overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+      return this;
+    }
+
+    public String overflowPolicy() {
+      return overflowPolicy;
+    }
+
+    public ManyToOneConcurrentArrayQueuePluginConfiguration overflowParkTimeout(final long overflowParkTimeout) {
+      this.overflowParkTimeout = overflowParkTimeout;
+      return this;
+    }
+
+    public long overflowParkTimeout() {
+      return overflowParkTimeout;
+    }
+
     public ManyToOneConcurrentArrayQueuePluginConfiguration ringSize(final int ringSize) {
       this.ringSize = ringSize;
       return this;
@@ -157,7 +179,7 @@ public class ManyToOneConcurrentArrayQueuePlugin extends AbstractPlugin implemen
 
     @Override
     public void build(final Configuration configuration) {
-      configuration.with(ringSize(65535).dispatcherThrottlingCount(1).fixedBackoff(2).notifyOnSend(false).sendRetires(10));
+      configuration.with(ringSize(65535).dispatcherThrottlingCount(1).fixedBackoff(2).notifyOnSend(false).sendRetires(10).overflowPolicy(MailboxOverflowPolicy.Reject).overflowParkTimeout(100));
     }
 
     @Override
@@ -167,6 +189,8 @@ public class ManyToOneConcurrentArrayQueuePlugin extends AbstractPlugin implemen
       this.dispatcherThrottlingCount = properties.getInteger("dispatcherThrottlingCount", 1);
       this.fixedBackoff = properties.getInteger("fixedBackoff", 2);
       this.notifyOnSend = properties.getBoolean("notifyOnSend", false);
+      this.overflowPolicy = properties.getString("overflowPolicy", MailboxOverflowPolicy.Reject);
+      this.overflowParkTimeout = properties.getLong("overflowParkTimeout", 100L);
       this.ringSize = properties.getInteger("size", 65535);
       this.sendRetires = properties.getInteger("sendRetires", 10);
       configuration.with(this);
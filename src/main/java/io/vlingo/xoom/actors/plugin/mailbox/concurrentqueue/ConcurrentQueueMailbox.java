@@ -7,6 +7,7 @@
 
 package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
 
+import java.util.Arrays;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -15,16 +16,19 @@ import java.util.concurrent.atomic.AtomicReference;
 import io.vlingo.xoom.actors.Dispatcher;
 import io.vlingo.xoom.actors.Mailbox;
 import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.ProxyMessage;
 import io.vlingo.xoom.actors.ResumingMailbox;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
+import io.vlingo.xoom.actors.plugin.mailbox.ScheduledMailbox;
 import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides;
 import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides.Overrides;
 
-public class ConcurrentQueueMailbox implements Mailbox, Runnable {
+public class ConcurrentQueueMailbox extends ScheduledMailbox implements Mailbox, Runnable {
   private AtomicBoolean delivering;
   private final Dispatcher dispatcher;
   private AtomicReference<SuspendedDeliveryOverrides> suspendedDeliveryOverrides;
   private final Queue<Message> queue;
-  private final byte throttlingCount;
+  private final DeliveryThrottle throttle;
 
   @Override
   public void close() {
@@ -44,7 +48,7 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
   @Override
   public void resume(final String name) {
     if (suspendedDeliveryOverrides.get().pop(name)) {
-      dispatcher.execute(this);
+      schedule();
     }
   }
 
@@ -54,7 +58,7 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
       if (suspendedDeliveryOverrides.get().matchesTop(message.protocol())) {
         dispatcher.execute(new ResumingMailbox(message));
         if (!queue.isEmpty()) {
-          dispatcher.execute(this);
+          schedule();
         }
         return;
       }
@@ -62,7 +66,21 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
     } else {
       queue.add(message);
       if (!isDelivering()) {
-        dispatcher.execute(this);
+        schedule();
+      }
+    }
+  }
+
+  @Override
+  public void sendAll(final Message[] messages) {
+    if (isSuspended()) {
+      for (final Message message : messages) {
+        send(message);
+      }
+    } else {
+      queue.addAll(Arrays.asList(messages));
+      if (!isDelivering()) {
+        schedule();
       }
     }
   }
@@ -95,21 +113,26 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
   @Override
   public void run() {
     if (delivering.compareAndSet(false, true)) {
-      final int total = throttlingCount;
-      for (int count = 0; count < total; ++count) {
+      final int total = throttle.begin();
+      int count = 0;
+      for ( ; count < total; ++count) {
         if (isSuspended()) {
           break;
         }
         final Message message = receive();
         if (message != null) {
           message.deliver();
+          if (message instanceof ProxyMessage) {
+            ((ProxyMessage<?>) message).recycle();
+          }
         } else {
           break;
         }
       }
+      throttle.end(count, !queue.isEmpty());
       delivering.set(false);
       if (!queue.isEmpty()) {
-        dispatcher.execute(this);
+        schedule();
       }
     }
   }
@@ -121,10 +144,19 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
   }
 
   ConcurrentQueueMailbox(final Dispatcher dispatcher, final int throttlingCount) {
+    this(dispatcher, DeliveryThrottle.fixed(throttlingCount));
+  }
+
+  ConcurrentQueueMailbox(final Dispatcher dispatcher, final DeliveryThrottle throttle) {
     this.dispatcher = dispatcher;
     this.delivering = new AtomicBoolean(false);
     this.suspendedDeliveryOverrides = new AtomicReference<>(new SuspendedDeliveryOverrides());
     this.queue = new ConcurrentLinkedQueue<Message>();
-    this.throttlingCount = (byte) throttlingCount;
+    this.throttle = throttle;
+  }
+
+  private void schedule() {
+    throttle.scheduled();
+    dispatcher.execute(this);
   }
 }
@@ -18,17 +18,22 @@ import io.vlingo.xoom.actors.plugin.AbstractPlugin;
 import io.vlingo.xoom.actors.plugin.Plugin;
 import io.vlingo.xoom.actors.plugin.PluginConfiguration;
 import io.vlingo.xoom.actors.plugin.PluginProperties;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryLatencySampler;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
 
 public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plugin, MailboxProvider {
   private final ConcurrentQueueMailboxPluginConfiguration configuration;
   private Dispatcher executorDispatcher;
+  private final DeliveryLatencySampler latencySampler;
 
   public ConcurrentQueueMailboxPlugin() {
     this.configuration = new ConcurrentQueueMailboxPluginConfiguration();
+    this.latencySampler = new DeliveryLatencySampler();
   }
 
   public ConcurrentQueueMailboxPlugin(final PluginConfiguration configuration) {
     this.configuration = (ConcurrentQueueMailboxPluginConfiguration) configuration;
+    this.latencySampler = new DeliveryLatencySampler();
   }
 
   @Override
@@ -54,17 +59,23 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
   @Override
   public void start(final Registrar registrar) {
     executorDispatcher =
-            new ExecutorDispatcher(
-                Runtime.getRuntime().availableProcessors(),
-                configuration.numberOfDispatchers,
-                configuration.numberOfDispatchersFactor);
+            configuration.isLockFreeDispatcher() ?
+                new RunQueueDispatcher(
+                    Runtime.getRuntime().availableProcessors(),
+                    configuration.numberOfDispatchers,
+                    configuration.numberOfDispatchersFactor,
+                    RunQueueDispatcher.loggerOf(registrar)) :
+                new ExecutorDispatcher(
+                    Runtime.getRuntime().availableProcessors(),
+                    configuration.numberOfDispatchers,
+                    configuration.numberOfDispatchersFactor);
 
     registrar.register(configuration.name(), configuration.isDefaultMailbox(), this);
   }
 
   @Override
   public Mailbox provideMailboxFor(final int hashCode) {
-    return new ConcurrentQueueMailbox(executorDispatcher, configuration.dispatcherThrottlingCount());
+    return provideMailboxFor(hashCode, executorDispatcher);
   }
 
   @Override
@@ -81,7 +92,19 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
       throw new IllegalArgumentException("Dispatcher must not be null.");
     }
 
-    return new ConcurrentQueueMailbox(dispatcher, configuration.dispatcherThrottlingCount());
+    if (configuration.isIntrusiveQueue()) {
+      return new IntrusiveQueueMailbox(dispatcher, throttleFor(dispatcher));
+    }
+
+    return new ConcurrentQueueMailbox(dispatcher, throttleFor(dispatcher));
+  }
+
+  private DeliveryThrottle throttleFor(final Dispatcher dispatcher) {
+    if (!configuration.isAdaptiveDispatcherThrottling()) {
+      return DeliveryThrottle.fixed(configuration.dispatcherThrottlingCount());
+    }
+    // mailboxes of a dispatcher other than mine sample only their own latency
+    return DeliveryThrottle.adaptive(dispatcher == executorDispatcher ? latencySampler : new DeliveryLatencySampler());
   }
 
   @Override
@@ -90,8 +113,11 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
   }
 
   public static class ConcurrentQueueMailboxPluginConfiguration implements PluginConfiguration {
+    private boolean adaptiveDispatcherThrottling;
     private boolean defaultMailbox;
     private int dispatcherThrottlingCount;
+    private boolean intrusiveQueue;
+    private boolean lockFreeDispatcher;
     private String name = "queueMailbox";
     private int numberOfDispatchers;
     private float numberOfDispatchersFactor;
@@ -100,6 +126,15 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
       return new ConcurrentQueueMailboxPluginConfiguration();
     }
 
+    public ConcurrentQueueMailboxPluginConfiguration adaptiveDispatcherThrottling() {
+      this.adaptiveDispatcherThrottling = true;
+      return this;
+    }
+
+    public boolean isAdaptiveDispatcherThrottling() {
+      return adaptiveDispatcherThrottling;
+    }
+
     public ConcurrentQueueMailboxPluginConfiguration defaultMailbox() {
       this.defaultMailbox = true;
       return this;
@@ -118,6 +153,24 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
       return dispatcherThrottlingCount;
     }
 
+    public ConcurrentQueueMailboxPluginConfiguration intrusiveQueue(final boolean intrusiveQueue) {
+      this.intrusiveQueue = intrusiveQueue;
+      return this;
+    }
+
+    public boolean isIntrusiveQueue() {
+      return intrusiveQueue;
+    }
+
+    public ConcurrentQueueMailboxPluginConfiguration lockFreeDispatcher(final boolean lockFreeDispatcher) {
+      this.lockFreeDispatcher = lockFreeDispatcher;
+      return this;
+    }
+
+    public boolean isLockFreeDispatcher() {
+      return lockFreeDispatcher;
+    }
+
     public ConcurrentQueueMailboxPluginConfiguration numberOfDispatchersFactor(final float numberOfDispatchersFactor) {
       this.numberOfDispatchersFactor = numberOfDispatchersFactor;
       return this;
@@ -145,7 +198,11 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
     public void buildWith(final Configuration configuration, final PluginProperties properties) {
       this.name = properties.name;
       this.defaultMailbox = properties.getBoolean("defaultMailbox", true);
-      this.dispatcherThrottlingCount = properties.getInteger("dispatcherThrottlingCount", 1);
+      final String throttlingCount = properties.getString("dispatcherThrottlingCount", "1");
+      this.adaptiveDispatcherThrottling = DeliveryThrottle.Adaptive.equalsIgnoreCase(throttlingCount);
+      this.dispatcherThrottlingCount = adaptiveDispatcherThrottling ? DeliveryThrottle.MinimumThrottlingCount : Integer.parseInt(throttlingCount);
+      this.intrusiveQueue = properties.getBoolean("intrusiveQueue", false);
+      this.lockFreeDispatcher = properties.getBoolean("lockFreeDispatcher", false);
       this.numberOfDispatchersFactor = properties.getFloat("numberOfDispatchersFactor", 1.5f);
       this.numberOfDispatchers = properties.getInteger("numberOfDispatchers", 0);
     }
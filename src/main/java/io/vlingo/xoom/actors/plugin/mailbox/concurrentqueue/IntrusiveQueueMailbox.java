@@ -0,0 +1,274 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.LocalMessage;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.ProxyMessage;
+import io.vlingo.xoom.actors.ResumingMailbox;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
+import io.vlingo.xoom.actors.plugin.mailbox.ScheduledMailbox;
+import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides;
+import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides.Overrides;
+
+/**
+ * A dispatcher-driven {@code Mailbox} with the same delivery semantics as
+ * {@code ConcurrentQueueMailbox}, but whose queue is a Vyukov-style intrusive
+ * MPSC linked queue threaded through {@code LocalMessage} itself. Sending a
+ * {@code LocalMessage} allocates no queue node, and {@code pendingMessages()}
+ * answers a maintained count in constant time.
+ * <p>
+ * Each message instance must be enqueued in only one mailbox at a time, which
+ * holds for every message created by generated proxies.
+ */
+public class IntrusiveQueueMailbox extends ScheduledMailbox implements Mailbox, Runnable {
+  private final AtomicBoolean delivering;
+  private final Dispatcher dispatcher;
+  private final AtomicReference<LocalMessage<?>> head;
+  private final AtomicInteger pending;
+  private final LocalMessage<?> stub;
+  private final AtomicReference<SuspendedDeliveryOverrides> suspendedDeliveryOverrides;
+  private LocalMessage<?> tail;
+  private final DeliveryThrottle throttle;
+
+  @Override
+  public void close() {
+    if (delivering.compareAndSet(false, true)) {
+      while (receive() != null)
+        ;
+      delivering.set(false);
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return dispatcher.isClosed();
+  }
+
+  @Override
+  public int concurrencyCapacity() {
+    return dispatcher.concurrencyCapacity();
+  }
+
+  @Override
+  public void resume(final String name) {
+    if (suspendedDeliveryOverrides.get().pop(name)) {
+      schedule();
+    }
+  }
+
+  @Override
+  public void send(final Message message) {
+    if (isSuspended()) {
+      if (suspendedDeliveryOverrides.get().matchesTop(message.protocol())) {
+        dispatcher.execute(new ResumingMailbox(message));
+        if (hasPending()) {
+          schedule();
+        }
+        return;
+      }
+      enqueue(message);
+    } else {
+      enqueue(message);
+      if (!isDelivering()) {
+        schedule();
+      }
+    }
+  }
+
+  @Override
+  public void sendAll(final Message[] messages) {
+    if (isSuspended() || messages.length == 0) {
+      for (final Message message : messages) {
+        send(message);
+      }
+    } else {
+      enqueueAll(messages);
+      if (!isDelivering()) {
+        schedule();
+      }
+    }
+  }
+
+  @Override
+  public void suspendExceptFor(final String name, final Class<?>... overrides) {
+    suspendedDeliveryOverrides.get().push(new Overrides(name, overrides));
+  }
+
+  @Override
+  public boolean isSuspended() {
+    return !suspendedDeliveryOverrides.get().isEmpty();
+  }
+
+  @Override
+  public boolean isSuspendedFor(final String name) {
+    return !suspendedDeliveryOverrides.get().find(name).isEmpty();
+  }
+
+  /**
+   * Answer the next message, or null. Only the single delivering consumer may receive.
+   * @see io.vlingo.xoom.actors.Mailbox#receive()
+   */
+  @Override
+  public Message receive() {
+    LocalMessage<?> current = tail;
+    LocalMessage<?> next = current.__internal__nextMessage();
+
+    if (current == stub) {
+      if (next == null) {
+        return null;
+      }
+      tail = next;
+      current = next;
+      next = next.__internal__nextMessage();
+    }
+
+    if (next == null) {
+      if (current != head.get()) {
+        // a sender is between its swap and its link
+        return null;
+      }
+      link(stub);
+      next = current.__internal__nextMessage();
+      if (next == null) {
+        return null;
+      }
+    }
+
+    tail = next;
+    current.__internal__nextMessage(null);
+    pending.decrementAndGet();
+
+    return current instanceof ForeignMessage ? ((ForeignMessage) current).message : current;
+  }
+
+  @Override
+  public boolean isDelivering() {
+    return delivering.get();
+  }
+
+  @Override
+  public void run() {
+    if (delivering.compareAndSet(false, true)) {
+      final int total = throttle.begin();
+      int count = 0;
+      for ( ; count < total; ++count) {
+        if (isSuspended()) {
+          break;
+        }
+        final Message message = receive();
+        if (message != null) {
+          message.deliver();
+          if (message instanceof ProxyMessage) {
+            ((ProxyMessage<?>) message).recycle();
+          }
+        } else {
+          break;
+        }
+      }
+      throttle.end(count, hasPending());
+      delivering.set(false);
+      if (hasPending()) {
+        schedule();
+      }
+    }
+  }
+
+  /* @see io.vlingo.xoom.actors.Mailbox#pendingMessages() */
+  @Override
+  public int pendingMessages() {
+    return pending.get();
+  }
+
+  IntrusiveQueueMailbox(final Dispatcher dispatcher, final int throttlingCount) {
+    this(dispatcher, DeliveryThrottle.fixed(throttlingCount));
+  }
+
+  IntrusiveQueueMailbox(final Dispatcher dispatcher, final DeliveryThrottle throttle) {
+    this.dispatcher = dispatcher;
+    this.delivering = new AtomicBoolean(false);
+    this.pending = new AtomicInteger(0);
+    this.stub = new LocalMessage<Object>(null, null, null, "stub");
+    this.head = new AtomicReference<>(stub);
+    this.tail = stub;
+    this.suspendedDeliveryOverrides = new AtomicReference<>(new SuspendedDeliveryOverrides());
+    this.throttle = throttle;
+  }
+
+  private void enqueue(final Message message) {
+    link(nodeOf(message));
+    pending.incrementAndGet();
+  }
+
+  private void enqueueAll(final Message[] messages) {
+    final LocalMessage<?> first = nodeOf(messages[0]);
+    LocalMessage<?> last = first;
+
+    for (int index = 1; index < messages.length; ++index) {
+      final LocalMessage<?> node = nodeOf(messages[index]);
+      last.__internal__nextMessage(node);
+      last = node;
+    }
+
+    // the privately linked chain is published with a single swap
+    last.__internal__nextMessage(null);
+    final LocalMessage<?> previous = head.getAndSet(last);
+    previous.__internal__nextMessage(first);
+    pending.addAndGet(messages.length);
+  }
+
+  private boolean hasPending() {
+    return pending.get() > 0;
+  }
+
+  private LocalMessage<?> nodeOf(final Message message) {
+    return message instanceof LocalMessage ?
+            (LocalMessage<?>) message :
+            new ForeignMessage(message);
+  }
+
+  private void schedule() {
+    throttle.scheduled();
+    dispatcher.execute(this);
+  }
+
+  private void link(final LocalMessage<?> node) {
+    node.__internal__nextMessage(null);
+    final LocalMessage<?> previous = head.getAndSet(node);
+    previous.__internal__nextMessage(node);
+  }
+
+  /**
+   * A node for any {@code Message} that is not a {@code LocalMessage}.
+   */
+  private static final class ForeignMessage extends LocalMessage<Object> {
+    private final Message message;
+
+    @SuppressWarnings("unchecked")
+    ForeignMessage(final Message message) {
+      super(message.actor(), (Class<Object>) message.protocol(), null, message.representation());
+      this.message = message;
+    }
+
+    @Override
+    public void deliver() {
+      message.deliver();
+    }
+
+    @Override
+    public boolean isStowed() {
+      return message.isStowed();
+    }
+  }
+}
@@ -0,0 +1,202 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.Priority;
+import io.vlingo.xoom.actors.ProxyMessage;
+import io.vlingo.xoom.actors.ResumingMailbox;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
+import io.vlingo.xoom.actors.plugin.mailbox.MessagePriorities;
+import io.vlingo.xoom.actors.plugin.mailbox.ScheduledMailbox;
+import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides;
+import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides.Overrides;
+
+/**
+ * A dispatcher-driven {@code Mailbox} with the same delivery semantics as
+ * {@code ConcurrentQueueMailbox}, except that each message is queued in the
+ * lock-free lane of its {@code Priority}. Each receive answers the oldest
+ * message of the highest priority lane that has one, so messages of the
+ * same priority are delivered in the order sent.
+ */
+public class PriorityQueueMailbox extends ScheduledMailbox implements Mailbox, Runnable {
+  private static final int Lanes = Priority.Low + 1;
+
+  private final AtomicBoolean delivering;
+  private final Dispatcher dispatcher;
+  private final ConcurrentLinkedQueue<Message>[] lanes;
+  private final AtomicReference<SuspendedDeliveryOverrides> suspendedDeliveryOverrides;
+  private final DeliveryThrottle throttle;
+
+  @Override
+  public void close() {
+    for (final ConcurrentLinkedQueue<Message> lane : lanes) {
+      lane.clear();
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return dispatcher.isClosed();
+  }
+
+  @Override
+  public int concurrencyCapacity() {
+    return dispatcher.concurrencyCapacity();
+  }
+
+  @Override
+  public void resume(final String name) {
+    if (suspendedDeliveryOverrides.get().pop(name)) {
+      schedule();
+    }
+  }
+
+  @Override
+  public void send(final Message message) {
+    if (isSuspended()) {
+      if (suspendedDeliveryOverrides.get().matchesTop(message.protocol())) {
+        dispatcher.execute(new ResumingMailbox(message));
+        if (hasPending()) {
+          schedule();
+        }
+        return;
+      }
+      enqueue(message);
+    } else {
+      enqueue(message);
+      if (!isDelivering()) {
+        schedule();
+      }
+    }
+  }
+
+  @Override
+  public void sendAll(final Message[] messages) {
+    if (isSuspended()) {
+      for (final Message message : messages) {
+        send(message);
+      }
+    } else {
+      for (final Message message : messages) {
+        enqueue(message);
+      }
+      if (!isDelivering()) {
+        schedule();
+      }
+    }
+  }
+
+  @Override
+  public void suspendExceptFor(final String name, final Class<?>... overrides) {
+    suspendedDeliveryOverrides.get().push(new Overrides(name, overrides));
+  }
+
+  @Override
+  public boolean isSuspended() {
+    return !suspendedDeliveryOverrides.get().isEmpty();
+  }
+
+  @Override
+  public boolean isSuspendedFor(final String name) {
+    return !suspendedDeliveryOverrides.get().find(name).isEmpty();
+  }
+
+  @Override
+  public Message receive() {
+    for (final ConcurrentLinkedQueue<Message> lane : lanes) {
+      final Message message = lane.poll();
+      if (message != null) {
+        return message;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public boolean isDelivering() {
+    return delivering.get();
+  }
+
+  @Override
+  public void run() {
+    if (delivering.compareAndSet(false, true)) {
+      final int total = throttle.begin();
+      int count = 0;
+      for ( ; count < total; ++count) {
+        if (isSuspended()) {
+          break;
+        }
+        final Message message = receive();
+        if (message != null) {
+          message.deliver();
+          if (message instanceof ProxyMessage) {
+            ((ProxyMessage<?>) message).recycle();
+          }
+        } else {
+          break;
+        }
+      }
+      throttle.end(count, hasPending());
+      delivering.set(false);
+      if (hasPending()) {
+        schedule();
+      }
+    }
+  }
+
+  /* @see io.vlingo.xoom.actors.Mailbox#pendingMessages() */
+  @Override
+  public int pendingMessages() {
+    int pending = 0;
+    for (final ConcurrentLinkedQueue<Message> lane : lanes) {
+      pending += lane.size();
+    }
+    return pending;
+  }
+
+  PriorityQueueMailbox(final Dispatcher dispatcher, final int throttlingCount) {
+    this(dispatcher, DeliveryThrottle.fixed(throttlingCount));
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  PriorityQueueMailbox(final Dispatcher dispatcher, final DeliveryThrottle throttle) {
+    this.dispatcher = dispatcher;
+    this.delivering = new AtomicBoolean(false);
+    this.lanes = new ConcurrentLinkedQueue[Lanes];
+    for (int lane = 0; lane < Lanes; ++lane) {
+      this.lanes[lane] = new ConcurrentLinkedQueue<>();
+    }
+    this.suspendedDeliveryOverrides = new AtomicReference<>(new SuspendedDeliveryOverrides());
+    this.throttle = throttle;
+  }
+
+  private void enqueue(final Message message) {
+    lanes[MessagePriorities.priorityOf(message)].add(message);
+  }
+
+  private boolean hasPending() {
+    for (final ConcurrentLinkedQueue<Message> lane : lanes) {
+      if (!lane.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void schedule() {
+    throttle.scheduled();
+    dispatcher.execute(this);
+  }
+}
@@ -0,0 +1,202 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
+
+import java.util.Properties;
+
+import io.vlingo.xoom.actors.Configuration;
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.MailboxProvider;
+import io.vlingo.xoom.actors.Registrar;
+import io.vlingo.xoom.actors.plugin.AbstractPlugin;
+import io.vlingo.xoom.actors.plugin.Plugin;
+import io.vlingo.xoom.actors.plugin.PluginConfiguration;
+import io.vlingo.xoom.actors.plugin.PluginProperties;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryLatencySampler;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
+
+public class PriorityQueueMailboxPlugin extends AbstractPlugin implements Plugin, MailboxProvider {
+  private final PriorityQueueMailboxPluginConfiguration configuration;
+  private Dispatcher executorDispatcher;
+  private final DeliveryLatencySampler latencySampler;
+
+  public PriorityQueueMailboxPlugin() {
+    this.configuration = new PriorityQueueMailboxPluginConfiguration();
+    this.latencySampler = new DeliveryLatencySampler();
+  }
+
+  public PriorityQueueMailboxPlugin(final PluginConfiguration configuration) {
+    this.configuration = (PriorityQueueMailboxPluginConfiguration) configuration;
+    this.latencySampler = new DeliveryLatencySampler();
+  }
+
+  @Override
+  public void close() {
+    if (executorDispatcher != null) {
+      executorDispatcher.close();
+    }
+  }
+
+  @Override
+  public PluginConfiguration configuration() {
+    return configuration;
+  }
+
+  @Override
+  public String name() {
+    return configuration.name();
+  }
+
+  @Override
+  public int pass() {
+    return 1;
+  }
+
+  @Override
+  public void start(final Registrar registrar) {
+    executorDispatcher =
+            configuration.isLockFreeDispatcher() ?
+                new RunQueueDispatcher(
+                    Runtime.getRuntime().availableProcessors(),
+                    configuration.numberOfDispatchers,
+                    configuration.numberOfDispatchersFactor,
+                    RunQueueDispatcher.loggerOf(registrar)) :
+                new ExecutorDispatcher(
+                    Runtime.getRuntime().availableProcessors(),
+                    configuration.numberOfDispatchers,
+                    configuration.numberOfDispatchersFactor);
+
+    registrar.register(configuration.name(), configuration.isDefaultMailbox(), this);
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode) {
+    return provideMailboxFor(hashCode, executorDispatcher);
+  }
+
+  @Override
+  public Plugin with(final PluginConfiguration overrideConfiguration) {
+    if (overrideConfiguration == null) {
+      return this;
+    }
+    return new PriorityQueueMailboxPlugin(overrideConfiguration);
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode, final Dispatcher dispatcher) {
+    if (dispatcher == null) {
+      throw new IllegalArgumentException("Dispatcher must not be null.");
+    }
+
+    return new PriorityQueueMailbox(dispatcher, throttleFor(dispatcher));
+  }
+
+  private DeliveryThrottle throttleFor(final Dispatcher dispatcher) {
+    if (!configuration.isAdaptiveDispatcherThrottling()) {
+      return DeliveryThrottle.fixed(configuration.dispatcherThrottlingCount());
+    }
+    // mailboxes of a dispatcher other than mine sample only their own latency
+    return DeliveryThrottle.adaptive(dispatcher == executorDispatcher ? latencySampler : new DeliveryLatencySampler());
+  }
+
+  @Override
+  public void __internal_Only_Init(final String name, final Configuration configuration, final Properties properties) {
+    this.configuration.name = name;
+  }
+
+  public static class PriorityQueueMailboxPluginConfiguration implements PluginConfiguration {
+    private boolean adaptiveDispatcherThrottling;
+    private boolean defaultMailbox;
+    private int dispatcherThrottlingCount;
+    private boolean lockFreeDispatcher;
+    private String name = "priorityQueueMailbox";
+    private int numberOfDispatchers;
+    private float numberOfDispatchersFactor;
+
+    public static PriorityQueueMailboxPluginConfiguration define() {
+      return new PriorityQueueMailboxPluginConfiguration();
+    }
+
+    public PriorityQueueMailboxPluginConfiguration adaptiveDispatcherThrottling() {
+      this.adaptiveDispatcherThrottling = true;
+      return this;
+    }
+
+    public boolean isAdaptiveDispatcherThrottling() {
+      return adaptiveDispatcherThrottling;
+    }
+
+    public PriorityQueueMailboxPluginConfiguration defaultMailbox() {
+      this.defaultMailbox = true;
+      return this;
+    }
+
+    public boolean isDefaultMailbox() {
+      return defaultMailbox;
+    }
+
+    public PriorityQueueMailboxPluginConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount) {
+      this.dispatcherThrottlingCount = dispatcherThrottlingCount;
+      return this;
+    }
+
+    public int dispatcherThrottlingCount() {
+      return dispatcherThrottlingCount;
+    }
+
+    public PriorityQueueMailboxPluginConfiguration lockFreeDispatcher(final boolean lockFreeDispatcher) {
+      this.lockFreeDispatcher = lockFreeDispatcher;
+      return this;
+    }
+
+    public boolean isLockFreeDispatcher() {
+      return lockFreeDispatcher;
+    }
+
+    public PriorityQueueMailboxPluginConfiguration numberOfDispatchersFactor(final float numberOfDispatchersFactor) {
+      this.numberOfDispatchersFactor = numberOfDispatchersFactor;
+      return this;
+    }
+
+    public PriorityQueueMailboxPluginConfiguration numberOfDispatchers(final int numberOfDispatchers) {
+      this.numberOfDispatchers = numberOfDispatchers;
+      return this;
+    }
+
+    public int numberOfDispatchers() {
+      return numberOfDispatchers;
+    }
+
+    public float numberOfDispatchersFactor() {
+      return numberOfDispatchersFactor;
+    }
+
+    @Override
+    public void build(final Configuration configuration) {
+      configuration.with(numberOfDispatchersFactor(1.5f).dispatcherThrottlingCount(1));
+    }
+
+    @Override
+    public void buildWith(final Configuration configuration, final PluginProperties properties) {
+      this.name = properties.name;
+      this.defaultMailbox = properties.getBoolean("defaultMailbox", false);
+      final String throttlingCount = properties.getString("dispatcherThrottlingCount", "1");
+      this.adaptiveDispatcherThrottling = DeliveryThrottle.Adaptive.equalsIgnoreCase(throttlingCount);
+      this.dispatcherThrottlingCount = adaptiveDispatcherThrottling ? DeliveryThrottle.MinimumThrottlingCount : Integer.parseInt(throttlingCount);
+      this.lockFreeDispatcher = properties.getBoolean("lockFreeDispatcher", false);
+      this.numberOfDispatchersFactor = properties.getFloat("numberOfDispatchersFactor", 1.5f);
+      this.numberOfDispatchers = properties.getInteger("numberOfDispatchers", 0);
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,184 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Registrar;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxRunQueue;
+
+/**
+ * A {@code Dispatcher} with one lock-free {@code MailboxRunQueue} per worker thread.
+ * Scheduling a {@code ScheduledMailbox} neither allocates nor takes a lock, and idle
+ * workers steal ready mailboxes from the run queues of busy workers. A mailbox that
+ * is scheduled after I am closed is not run, and its messages remain undelivered.
+ */
+public class RunQueueDispatcher implements Dispatcher {
+  private static final int IdleSpins = 100;
+  private static final long ParkNanos = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final Supplier<Logger> logger;
+  private final Worker[] workers;
+
+  protected RunQueueDispatcher(final int availableThreads, final int numberOfDispatchers, final float numberOfDispatchersFactor) {
+    this(availableThreads, numberOfDispatchers, numberOfDispatchersFactor, Logger::basicLogger);
+  }
+
+  /**
+   * Constructs my default state.
+   * @param availableThreads the int number of available threads
+   * @param numberOfDispatchers the int number of worker threads, or 0 to use numberOfDispatchersFactor
+   * @param numberOfDispatchersFactor the float factor of availableThreads that is the number of worker threads
+   * @param logger the {@code Supplier<Logger>} of my Logger, which is only supplied when first used
+   */
+  protected RunQueueDispatcher(final int availableThreads, final int numberOfDispatchers, final float numberOfDispatchersFactor, final Supplier<Logger> logger) {
+    this.logger = logger;
+
+    final int numberOfThreads =
+            Math.max(1,
+                    numberOfDispatchers > 0 ?
+                            numberOfDispatchers :
+                            (int) (availableThreads * numberOfDispatchersFactor));
+
+    this.workers = new Worker[numberOfThreads];
+
+    for (int index = 0; index < numberOfThreads; ++index) {
+      workers[index] = new Worker(index);
+    }
+
+    for (final Worker worker : workers) {
+      worker.start();
+    }
+  }
+
+  @Override
+  public int concurrencyCapacity() {
+    return workers.length;
+  }
+
+  @Override
+  public void close() {
+    closed.set(true);
+    for (final Worker worker : workers) {
+      LockSupport.unpark(worker);
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  @Override
+  public void execute(final Mailbox mailbox) {
+    if (closed.get()) {
+      logger.get().debug("XOOM: RunQueueDispatcher is closed; scheduled mailbox is not run.");
+      return;
+    }
+
+    final Thread current = Thread.currentThread();
+
+    if (current instanceof Worker && ((Worker) current).dispatcher() == this) {
+      // keep locality; the current worker is by definition not parked
+      ((Worker) current).runQueue.offer(mailbox);
+      return;
+    }
+
+    final Worker worker = workers[ThreadLocalRandom.current().nextInt(workers.length)];
+
+    if (worker.runQueue.offer(mailbox) && worker.parked) {
+      LockSupport.unpark(worker);
+    }
+  }
+
+  @Override
+  public boolean requiresExecutionNotification() {
+    return false;
+  }
+
+  /**
+   * Answer the {@code Supplier<Logger>} of the default logger of the world of {@code registrar},
+   * which is only final after the plugins of the world have started.
+   * @param registrar the Registrar of the plugin that creates me
+   * @return {@code Supplier<Logger>}
+   */
+  static Supplier<Logger> loggerOf(final Registrar registrar) {
+    // without a World, as in some tests
+    if (registrar.world() == null) {
+      return Logger::basicLogger;
+    }
+    return registrar.world()::defaultLogger;
+  }
+
+  private Mailbox steal(final int thiefIndex) {
+    for (int offset = 1; offset < workers.length; ++offset) {
+      final Mailbox stolen = workers[(thiefIndex + offset) % workers.length].runQueue.poll();
+      if (stolen != null) {
+        return stolen;
+      }
+    }
+    return null;
+  }
+
+  private final class Worker extends Thread {
+    private final int index;
+    private volatile boolean parked;
+    private final MailboxRunQueue runQueue;
+
+    Worker(final int index) {
+      super("xoom-run-queue-" + index);
+      this.index = index;
+      this.runQueue = new MailboxRunQueue();
+      setDaemon(true);
+    }
+
+    RunQueueDispatcher dispatcher() {
+      return RunQueueDispatcher.this;
+    }
+
+    @Override
+    public void run() {
+      int idle = 0;
+
+      while (!closed.get()) {
+        Mailbox mailbox = runQueue.poll();
+
+        if (mailbox == null) {
+          mailbox = steal(index);
+        }
+
+        if (mailbox != null) {
+          idle = 0;
+          try {
+            mailbox.run();
+          } catch (Throwable t) {
+            // the worker must outlive any single failed delivery
+            logger.get().error("XOOM: RunQueueDispatcher failed to run mailbox because: " + t.getMessage(), t);
+          }
+        } else if (++idle < IdleSpins) {
+          Thread.yield();
+        } else {
+          parked = true;
+          if (runQueue.isEmpty() && !closed.get()) {
+            LockSupport.parkNanos(this, ParkNanos);
+          }
+          parked = false;
+          idle = 0;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.Mailbox;
+
+/**
+ * A {@code Dispatcher} that runs each mailbox delivery on its own JDK virtual thread,
+ * so that an actor blocking inside a message handler does not hold a pooled thread
+ * needed by other mailboxes. Virtual threads are resolved reflectively because this
+ * library targets Java 8; on runtimes older than JDK 21 a cached pool of platform
+ * daemon threads is used instead, which equally grows with blocked deliveries.
+ */
+public class VirtualThreadDispatcher implements Dispatcher {
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final ExecutorService executor;
+  private final boolean virtual;
+
+  protected VirtualThreadDispatcher() {
+    final ExecutorService virtualExecutor = virtualThreadPerTaskExecutor();
+
+    this.virtual = virtualExecutor != null;
+    this.executor = virtual ? virtualExecutor : platformThreadPerTaskExecutor();
+  }
+
+  /**
+   * Answer whether or not my deliveries run on virtual threads.
+   * @return boolean
+   */
+  public boolean isVirtual() {
+    return virtual;
+  }
+
+  @Override
+  public int concurrencyCapacity() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  @Override
+  public void close() {
+    closed.set(true);
+    executor.shutdown();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  @Override
+  public void execute(final Mailbox mailbox) {
+    if (!closed.get()) {
+      try {
+        executor.execute(mailbox);
+      } catch (RejectedExecutionException e) {
+        if (!executor.isShutdown()) {
+          throw new IllegalStateException("Message cannot be sent due to current system resource limitations.", e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean requiresExecutionNotification() {
+    return false;
+  }
+
+  private static ExecutorService virtualThreadPerTaskExecutor() {
+    try {
+      final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (Exception e) {
+      // not available or not enabled on this runtime
+      return null;
+    }
+  }
+
+  private static ExecutorService platformThreadPerTaskExecutor() {
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+            60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            new DaemonThreadFactory());
+  }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+    private final AtomicInteger nextId = new AtomicInteger(0);
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final Thread thread = new Thread(runnable, "xoom-per-delivery-" + nextId.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
+
+import java.util.Properties;
+
+import io.vlingo.xoom.actors.Configuration;
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.MailboxProvider;
+import io.vlingo.xoom.actors.Registrar;
+import io.vlingo.xoom.actors.plugin.AbstractPlugin;
+import io.vlingo.xoom.actors.plugin.Plugin;
+import io.vlingo.xoom.actors.plugin.PluginConfiguration;
+import io.vlingo.xoom.actors.plugin.PluginProperties;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryLatencySampler;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
+
+public class VirtualThreadMailboxPlugin extends AbstractPlugin implements Plugin, MailboxProvider {
+  private final VirtualThreadMailboxPluginConfiguration configuration;
+  private Dispatcher virtualThreadDispatcher;
+  private final DeliveryLatencySampler latencySampler;
+
+  public VirtualThreadMailboxPlugin() {
+    this.configuration = new VirtualThreadMailboxPluginConfiguration();
+    this.latencySampler = new DeliveryLatencySampler();
+  }
+
+  public VirtualThreadMailboxPlugin(final PluginConfiguration configuration) {
+    this.configuration = (VirtualThreadMailboxPluginConfiguration) configuration;
+    this.latencySampler = new DeliveryLatencySampler();
+  }
+
+  @Override
+  public void close() {
+    if (virtualThreadDispatcher != null) {
+      virtualThreadDispatcher.close();
+    }
+  }
+
+  @Override
+  public PluginConfiguration configuration() {
+    return configuration;
+  }
+
+  @Override
+  public String name() {
+    return configuration.name();
+  }
+
+  @Override
+  public int pass() {
+    return 1;
+  }
+
+  @Override
+  public void start(final Registrar registrar) {
+    virtualThreadDispatcher = new VirtualThreadDispatcher();
+
+    registrar.register(configuration.name(), configuration.isDefaultMailbox(), this);
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode) {
+    return new ConcurrentQueueMailbox(virtualThreadDispatcher, throttleFor(virtualThreadDispatcher));
+  }
+
+  @Override
+  public Plugin with(final PluginConfiguration overrideConfiguration) {
+    if (overrideConfiguration == null) {
+      return this;
+    }
+    return new VirtualThreadMailboxPlugin(overrideConfiguration);
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode, final Dispatcher dispatcher) {
+    if (dispatcher == null) {
+      throw new IllegalArgumentException("Dispatcher must not be null.");
+    }
+
+    return new ConcurrentQueueMailbox(dispatcher, throttleFor(dispatcher));
+  }
+
+  private DeliveryThrottle throttleFor(final Dispatcher dispatcher) {
+    if (!configuration.isAdaptiveDispatcherThrottling()) {
+      return DeliveryThrottle.fixed(configuration.dispatcherThrottlingCount());
+    }
+    return DeliveryThrottle.adaptive(dispatcher == virtualThreadDispatcher ? latencySampler : new DeliveryLatencySampler());
+  }
+
+  @Override
+  public void __internal_Only_Init(final String name, final Configuration configuration, final Properties properties) {
+    this.configuration.name = name;
+  }
+
+  public static class VirtualThreadMailboxPluginConfiguration implements PluginConfiguration {
+    private boolean adaptiveDispatcherThrottling;
+    private boolean defaultMailbox;
+    private int dispatcherThrottlingCount;
+    private String name = "virtualThreadMailbox";
+
+    public static VirtualThreadMailboxPluginConfiguration define() {
+      return new VirtualThreadMailboxPluginConfiguration();
+    }
+
+    public VirtualThreadMailboxPluginConfiguration adaptiveDispatcherThrottling() {
+      this.adaptiveDispatcherThrottling = true;
+      return this;
+    }
+
+    public boolean isAdaptiveDispatcherThrottling() {
+      return adaptiveDispatcherThrottling;
+    }
+
+    public VirtualThreadMailboxPluginConfiguration defaultMailbox() {
+      this.defaultMailbox = true;
+      return this;
+    }
+
+    public boolean isDefaultMailbox() {
+      return defaultMailbox;
+    }
+
+    public VirtualThreadMailboxPluginConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount) {
+      this.dispatcherThrottlingCount = dispatcherThrottlingCount;
+      return this;
+    }
+
+    public int dispatcherThrottlingCount() {
+      return dispatcherThrottlingCount;
+    }
+
+    @Override
+    public void build(final Configuration configuration) {
+      configuration.with(dispatcherThrottlingCount(1));
+    }
+
+    @Override
+    public void buildWith(final Configuration configuration, final PluginProperties properties) {
+      this.name = properties.name;
+      this.defaultMailbox = properties.getBoolean("defaultMailbox", false);
+      final String throttlingCount = properties.getString("dispatcherThrottlingCount", "1");
+      this.adaptiveDispatcherThrottling = DeliveryThrottle.Adaptive.equalsIgnoreCase(throttlingCount);
+      this.dispatcherThrottlingCount = adaptiveDispatcherThrottling ? DeliveryThrottle.MinimumThrottlingCount : Integer.parseInt(throttlingCount);
+      configuration.with(this);
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A long sequence padded on both sides so that it occupies a cache line of
+ * its own, and writes to it by one thread do not invalidate the cached
+ * sequences read by other threads. The padding is split across a class
+ * hierarchy because the JVM keeps superclass fields before subclass fields.
+ */
+final class PaddedSequence extends PaddedSequenceValue {
+  @SuppressWarnings("unused")
+  private long p9, p10, p11, p12, p13, p14, p15;
+
+  PaddedSequence(final long initialValue) {
+    this.value = initialValue;
+  }
+
+  boolean compareAndSet(final long expected, final long value) {
+    return ValueUpdater.compareAndSet(this, expected, value);
+  }
+
+  long get() {
+    return value;
+  }
+
+  long getAndAdd(final long increment) {
+    return ValueUpdater.getAndAdd(this, increment);
+  }
+
+  void lazySet(final long value) {
+    ValueUpdater.lazySet(this, value);
+  }
+
+  void set(final long value) {
+    this.value = value;
+  }
+}
+
+abstract class PaddedSequenceLeftPadding {
+  @SuppressWarnings("unused")
+  private long p1, p2, p3, p4, p5, p6, p7;
+}
+
+abstract class PaddedSequenceValue extends PaddedSequenceLeftPadding {
+  static final AtomicLongFieldUpdater<PaddedSequenceValue> ValueUpdater =
+          AtomicLongFieldUpdater.newUpdater(PaddedSequenceValue.class, "value");
+
+  protected volatile long value;
+}
@@ -9,17 +9,17 @@ package io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import io.vlingo.xoom.actors.Backoff;
 import io.vlingo.xoom.actors.Dispatcher;
 import io.vlingo.xoom.actors.Mailbox;
 import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
 
 public class RingBufferDispatcher extends Thread implements Dispatcher {
-  private final Backoff backoff;
   private final AtomicBoolean closed = new AtomicBoolean(false);
-  private final Mailbox mailbox;
+  private final SharedRingBufferMailbox mailbox;
   private final boolean requiresExecutionNotification;
   private final int throttlingCount;
+  private final RingBufferWaitStrategy waitStrategy;
 
   @Override
   public void close() {
@@ -39,7 +39,7 @@ public class RingBufferDispatcher extends Thread implements Dispatcher {
 
   @Override
   public void execute(final Mailbox mailbox) {
-    interrupt();
+    waitStrategy.signal(this);
   }
 
   @Override
@@ -51,7 +51,7 @@ public class RingBufferDispatcher extends Thread implements Dispatcher {
   public void run() {
     while (!closed.get()) {
       if (!deliver()) {
-        backoff.now();
+        waitStrategy.idle(mailbox);
       }
     }
   }
@@ -62,9 +62,17 @@ public class RingBufferDispatcher extends Thread implements Dispatcher {
   }
 
   RingBufferDispatcher(final int mailboxSize, final long fixedBackoff, final boolean notifyOnSend, final int throttlingCount) {
-    this.backoff = fixedBackoff == 0L ? new Backoff() : new Backoff(fixedBackoff);
-    this.requiresExecutionNotification = fixedBackoff == 0L;
-    this.mailbox = new SharedRingBufferMailbox(this, mailboxSize, notifyOnSend);
+    this(mailboxSize, fixedBackoff, notifyOnSend, throttlingCount, RingBufferWaitStrategy.named(RingBufferWaitStrategy.Backoff, fixedBackoff));
+  }
+
+  RingBufferDispatcher(final int mailboxSize, final long fixedBackoff, final boolean notifyOnSend, final int throttlingCount, final RingBufferWaitStrategy waitStrategy) {
+    this(mailboxSize, fixedBackoff, notifyOnSend, throttlingCount, waitStrategy, MailboxOverflowPolicy.named(MailboxOverflowPolicy.Park, 0L));
+  }
+
+  RingBufferDispatcher(final int mailboxSize, final long fixedBackoff, final boolean notifyOnSend, final int throttlingCount, final RingBufferWaitStrategy waitStrategy, final MailboxOverflowPolicy overflowPolicy) {
+    this.waitStrategy = waitStrategy;
+    this.requiresExecutionNotification = fixedBackoff == 0L || waitStrategy.requiresSignal();
+    this.mailbox = new SharedRingBufferMailbox(this, mailboxSize, notifyOnSend || waitStrategy.requiresSignal(), overflowPolicy);
     this.throttlingCount = throttlingCount;
   }
 
@@ -73,14 +81,20 @@ public class RingBufferDispatcher extends Thread implements Dispatcher {
   }
 
   private boolean deliver() {
-    for (int idx = 0; idx < throttlingCount; ++idx) {
-      final Message message = mailbox.receive();
-      if (message == null) {
-        return idx > 0; // we delivered at least one message
-      } else {
+    Message message = mailbox.receive();
+    if (message == null) {
+      return false;
+    }
+
+    mailbox.delivering(true);
+    try {
+      int delivered = 0;
+      do {
         message.deliver();
-      }
+      } while (++delivered < throttlingCount && (message = mailbox.receive()) != null);
+    } finally {
+      mailbox.delivering(false);
     }
-    return true;
+    return true; // we delivered at least one message
   }
 }
@@ -0,0 +1,174 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.vlingo.xoom.actors.Backoff;
+
+/**
+ * How a {@code RingBufferDispatcher} waits when its mailbox has no ready
+ * messages, and how a sender wakes it. The strategies trade CPU for latency:
+ * <ul>
+ *   <li>{@code busySpin}: never gives up the CPU; lowest latency.</li>
+ *   <li>{@code yield}: yields the CPU to other runnable threads between checks.</li>
+ *   <li>{@code park}: parks for the fixed backoff; senders unpark if notifying.</li>
+ *   <li>{@code blocking}: waits on a condition that every sender signals.</li>
+ *   <li>{@code backoff}: sleeps with a fixed or exponential backoff; senders
+ *       interrupt if notifying. This is the original behavior and the default.</li>
+ * </ul>
+ */
+public abstract class RingBufferWaitStrategy {
+  public static final String Backoff = "backoff";
+  public static final String Blocking = "blocking";
+  public static final String BusySpin = "busySpin";
+  public static final String Park = "park";
+  public static final String Yield = "yield";
+
+  /**
+   * Answer a new {@code RingBufferWaitStrategy} of the given {@code name}.
+   * @param name the String name of the strategy
+   * @param fixedBackoff the long milliseconds to back off or park, where 0 means an exponential backoff
+   * @return RingBufferWaitStrategy
+   */
+  public static RingBufferWaitStrategy named(final String name, final long fixedBackoff) {
+    switch (name) {
+    case Backoff:
+      return new BackoffWaitStrategy(fixedBackoff);
+    case Blocking:
+      return new BlockingWaitStrategy();
+    case BusySpin:
+      return new BusySpinWaitStrategy();
+    case Park:
+      return new ParkWaitStrategy(fixedBackoff);
+    case Yield:
+      return new YieldWaitStrategy();
+    default:
+      throw new IllegalArgumentException("Unknown ring buffer wait strategy: " + name);
+    }
+  }
+
+  /**
+   * Wait for a while because {@code mailbox} had no ready messages.
+   * @param mailbox the SharedRingBufferMailbox being waited on
+   */
+  abstract void idle(final SharedRingBufferMailbox mailbox);
+
+  /**
+   * Answer whether or not every send must {@code signal()}, regardless of notifyOnSend.
+   * @return boolean
+   */
+  boolean requiresSignal() {
+    return false;
+  }
+
+  /**
+   * Wake the {@code consumer} that may be waiting in {@code idle()}.
+   * @param consumer the Thread of the dispatcher
+   */
+  abstract void signal(final Thread consumer);
+
+  private static final class BackoffWaitStrategy extends RingBufferWaitStrategy {
+    private final Backoff backoff;
+
+    BackoffWaitStrategy(final long fixedBackoff) {
+      this.backoff = fixedBackoff == 0L ? new Backoff() : new Backoff(fixedBackoff);
+    }
+
+    @Override
+    void idle(final SharedRingBufferMailbox mailbox) {
+      backoff.now();
+    }
+
+    @Override
+    void signal(final Thread consumer) {
+      consumer.interrupt();
+    }
+  }
+
+  private static final class BlockingWaitStrategy extends RingBufferWaitStrategy {
+    // bounds the wait of a signal that raced with the check for ready messages
+    private static final long MaximumWaitNanos = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition ready = lock.newCondition();
+    private volatile boolean waiting;
+
+    @Override
+    void idle(final SharedRingBufferMailbox mailbox) {
+      lock.lock();
+      try {
+        waiting = true;
+        if (!mailbox.hasReady() && !mailbox.isClosed()) {
+          ready.awaitNanos(MaximumWaitNanos);
+        }
+      } catch (InterruptedException e) {
+        // ignore
+      } finally {
+        waiting = false;
+        lock.unlock();
+      }
+    }
+
+    @Override
+    boolean requiresSignal() {
+      return true;
+    }
+
+    @Override
+    void signal(final Thread consumer) {
+      if (waiting) {
+        lock.lock();
+        try {
+          ready.signal();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+
+  private static final class BusySpinWaitStrategy extends RingBufferWaitStrategy {
+    @Override
+    void idle(final SharedRingBufferMailbox mailbox) { }
+
+    @Override
+    void signal(final Thread consumer) { }
+  }
+
+  private static final class ParkWaitStrategy extends RingBufferWaitStrategy {
+    private final long parkNanos;
+
+    ParkWaitStrategy(final long fixedBackoff) {
+      this.parkNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, fixedBackoff));
+    }
+
+    @Override
+    void idle(final SharedRingBufferMailbox mailbox) {
+      LockSupport.parkNanos(this, parkNanos);
+    }
+
+    @Override
+    void signal(final Thread consumer) {
+      LockSupport.unpark(consumer);
+    }
+  }
+
+  private static final class YieldWaitStrategy extends RingBufferWaitStrategy {
+    @Override
+    void idle(final SharedRingBufferMailbox mailbox) {
+      Thread.yield();
+    }
+
+    @Override
+    void signal(final Thread consumer) { }
+  }
+}
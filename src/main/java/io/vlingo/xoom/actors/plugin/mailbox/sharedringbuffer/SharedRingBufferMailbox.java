@@ -8,20 +8,47 @@
 package io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer;
 
 import io.vlingo.xoom.actors.*;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy.BoundedQueue;
+import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDelivery;
 import io.vlingo.xoom.common.SerializableConsumer;
 
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
+/**
+ * A preallocated ring of messages with many senders and the single receiver
+ * of its {@code RingBufferDispatcher}. Senders claim slots by adding to a
+ * shared cursor, which lets one sender claim a whole batch at once, and then
+ * publish each slot independently by marking it available for its lap of the
+ * ring, so senders never wait on each other to publish. The cursor and the
+ * receiver's sequence are padded so that senders and receiver do not share
+ * cache lines. The ring's capacity is its size rounded up to a power of two.
+ * <p>
+ * By default a sender waits while the ring is full. With any other
+ * {@code MailboxOverflowPolicy} a sender claims only when a slot is free,
+ * and otherwise hands its message to the policy. Pending messages cannot be
+ * dropped by senders, so the {@code dropOldest} policy is not supported.
+ */
 public class SharedRingBufferMailbox implements Mailbox {
+  private final PaddedSequence cursor;         // last claimed by senders
+  private final PaddedSequence gatingCache;    // senders' cached copy of released
+  private final PaddedSequence released;       // last released by the receiver
+
+  private final AtomicIntegerArray available;
   private final AtomicBoolean closed;
+  private volatile boolean delivering;
   private final Dispatcher dispatcher;
+  private final int indexMask;
+  private final int indexShift;
   private final int mailboxSize;
   private final Message[] messages;
   private final boolean notifyOnSend;
-  private final AtomicLong sendIndex;
-  private final AtomicLong readyIndex;
-  private final AtomicLong receiveIndex;
+  private final MailboxOverflowPolicy overflowPolicy;
+  private final BoundedQueue overflowQueue;
+  private long received;                       // receiver only
+  private long receivedReleased;               // receiver only
+  private final SuspendedDelivery suspendedDelivery;
 
   @Override
   public void close() {
@@ -38,7 +65,7 @@ public class SharedRingBufferMailbox implements Mailbox {
 
   @Override
   public boolean isDelivering() {
-    throw new UnsupportedOperationException("SharedRingBufferMailbox does not support this operation.");
+    return delivering;
   }
 
   @Override
@@ -53,8 +80,9 @@ public class SharedRingBufferMailbox implements Mailbox {
 
   @Override
   public void resume(final String name) {
-    // TODO: Consider supporting Stowage here
-    throw new UnsupportedOperationException("SharedRingBufferMailbox does not support this operation.");
+    if (suspendedDelivery.resume(name) && notifyOnSend) {
+      dispatcher.execute(this);
+    }
   }
 
   @Override
@@ -62,37 +90,88 @@ public class SharedRingBufferMailbox implements Mailbox {
     throw new UnsupportedOperationException("Use preallocated mailbox send(Actor, ...).");
   }
 
+  @Override
+  public void sendAll(final Message[] messages) {
+    if (!overflowPolicy.waitsIndefinitely() || suspendedDelivery.isSuspended()) {
+      for (final Message message : messages) {
+        final LocalMessage<?> local = (LocalMessage<?>) message;
+        send(local.actor(), local.protocol(), local.consumer(), local.returns(), local.representation());
+      }
+      return;
+    }
+
+    int offset = 0;
+    while (offset < messages.length) {
+      final int count = Math.min(mailboxSize, messages.length - offset);
+      final long last = claim(count);
+      if (last < 0) {
+        return;
+      }
+      final long first = last - count + 1;
+      for (long sequence = first; sequence <= last; ++sequence) {
+        final LocalMessage<?> message = (LocalMessage<?>) messages[offset++];
+        this.messages[index(sequence)].set(message.actor(), message.protocol(), message.consumer(), message.returns(), message.representation());
+        publish(sequence);
+      }
+      if (notifyOnSend) {
+        dispatcher.execute(this);
+      }
+    }
+  }
+
+  @Override
+  public boolean trySend(final Message message) {
+    if (suspendedDelivery.isOverriding(message.protocol())) {
+      suspendedDelivery.override(message);
+    } else if (!overflowQueue.offer(message)) {
+      return false;
+    }
+    if (notifyOnSend) {
+      dispatcher.execute(this);
+    }
+    return true;
+  }
+
   @Override
   public void suspendExceptFor(final String name, final Class<?>... overrides) {
-    // TODO: Consider supporting Stowage here
-    throw new UnsupportedOperationException("SharedRingBufferMailbox does not support this operation.");
+    suspendedDelivery.suspendExceptFor(name, overrides);
   }
 
   @Override
   public boolean isSuspended() {
-    return false;
+    return suspendedDelivery.isSuspended();
+  }
+
+  @Override
+  public boolean isSuspendedFor(final String name) {
+    return suspendedDelivery.isSuspendedFor(name);
   }
 
   @Override
+  @SuppressWarnings({ "rawtypes", "unchecked" })
   public void send(final Actor actor, final Class<?> protocol, final SerializableConsumer<?> consumer, final Returns<?> returns, final String representation) {
-    final long messageIndex = sendIndex.incrementAndGet();
-    final int ringSendIndex = (int) (messageIndex % mailboxSize);
+    if (suspendedDelivery.isOverriding(protocol)) {
+      // not claimed behind messages that full stowage leaves in the ring,
+      // where a waiting sender would park
+      suspendedDelivery.override(new LocalMessage(actor, protocol, consumer, returns, representation));
+      if (notifyOnSend) {
+        dispatcher.execute(this);
+      }
+      return;
+    }
 
-    int retries = 0;
-    while (ringSendIndex == (int) (receiveIndex.get() % mailboxSize)) {
-      if (++retries >= mailboxSize) {
-        if (closed.get()) {
-          return;
-        } else {
-          retries = 0;
-        }
+    final long sequence = overflowPolicy.waitsIndefinitely() ? claim(1) : tryClaim(1);
+    if (sequence < 0) {
+      // only a non-waiting claim fails on a full ring, so overflow is only allocated then
+      if (!closed.get() && overflowPolicy.overflowed(new LocalMessage(actor, protocol, consumer, returns, representation), overflowQueue) && notifyOnSend) {
+        dispatcher.execute(this);
       }
+      return;
     }
 
-    messages[ringSendIndex].set(actor, protocol, consumer, returns, representation);
+    messages[index(sequence)].set(actor, protocol, consumer, returns, representation);
 
-    while (!readyIndex.compareAndSet(messageIndex - 1, messageIndex))
-      ;
+    publish(sequence);
 
     if (notifyOnSend) {
       dispatcher.execute(this);
@@ -101,14 +180,30 @@ public class SharedRingBufferMailbox implements Mailbox {
 
   @Override
   public Message receive() {
-    final long messageIndex = receiveIndex.get();
-
-    if (messageIndex < readyIndex.get()) {
-      final int index = (int) (receiveIndex.incrementAndGet() % mailboxSize);
+    final Message override = suspendedDelivery.receiveOverride();
+    if (override != null) {
+      // the slot received last was delivered, so it may be reused
+      release();
+      return override;
+    }
 
-      return messages[index];
+    if (!suspendedDelivery.isSuspended()) {
+      final Message stowed = suspendedDelivery.disperse();
+      return stowed != null ? stowed : receiveNext();
     }
 
+    // only my dispatcher receives, so it alone stows, and leaves
+    // messages in the ring once stowage is full so that I stay bounded
+    Message message;
+    while (!suspendedDelivery.isStowageFull() && (message = receiveNext()) != null) {
+      if (suspendedDelivery.isOverride(message)) {
+        return message;
+      }
+      // the preallocated slot will be reused, so stow a copy
+      suspendedDelivery.stow(copyOf(message));
+    }
+    // the slot stowed last is copied, so it may be reused
+    release();
     return null;
   }
 
@@ -120,25 +215,177 @@ public class SharedRingBufferMailbox implements Mailbox {
   /* @see io.vlingo.xoom.actors.Mailbox#pendingMessages() */
   @Override
   public int pendingMessages() {
-    throw new UnsupportedOperationException("SharedRingBufferMailbox does not support this operation");
+    return (int) (cursor.get() - released.get()) + suspendedDelivery.pendingCount();
   }
 
   protected SharedRingBufferMailbox(final Dispatcher dispatcher, final int mailboxSize, final boolean notifyOnSend) {
+    this(dispatcher, mailboxSize, notifyOnSend, MailboxOverflowPolicy.named(MailboxOverflowPolicy.Park, 0L));
+  }
+
+  protected SharedRingBufferMailbox(final Dispatcher dispatcher, final int mailboxSize, final boolean notifyOnSend, final MailboxOverflowPolicy overflowPolicy) {
+    if (overflowPolicy.dropsOldest()) {
+      throw new IllegalArgumentException("SharedRingBufferMailbox does not support overflow policy: " + MailboxOverflowPolicy.DropOldest);
+    }
     this.dispatcher = dispatcher;
-    this.mailboxSize = mailboxSize;
+    this.mailboxSize = capacityFor(mailboxSize);
+    this.indexMask = this.mailboxSize - 1;
+    this.indexShift = Integer.numberOfTrailingZeros(this.mailboxSize);
     this.closed = new AtomicBoolean(false);
-    this.messages = new Message[mailboxSize];
-    this.readyIndex = new AtomicLong(-1);
-    this.receiveIndex = new AtomicLong(-1);
-    this.sendIndex = new AtomicLong(-1);
+    this.messages = new Message[this.mailboxSize];
+    this.available = new AtomicIntegerArray(this.mailboxSize);
+    this.cursor = new PaddedSequence(-1);
+    this.gatingCache = new PaddedSequence(-1);
+    this.released = new PaddedSequence(-1);
+    this.received = -1;
+    this.receivedReleased = -1;
     this.notifyOnSend = notifyOnSend;
+    this.overflowPolicy = overflowPolicy;
+    this.overflowQueue = new OverflowQueue();
+    this.suspendedDelivery = new SuspendedDelivery(this.mailboxSize);
 
     initPreallocated();
   }
 
+  void delivering(final boolean delivering) {
+    this.delivering = delivering;
+    if (!delivering) {
+      release();
+    }
+  }
+
+  boolean hasReady() {
+    final long next = received + 1;
+    final boolean published = available.get(index(next)) == lap(next);
+    if (suspendedDelivery.hasOverride()) {
+      return true;
+    }
+    if (suspendedDelivery.isSuspended()) {
+      // stowed messages wait for resume, and full stowage leaves the ring unread
+      return published && !suspendedDelivery.isStowageFull();
+    }
+    return published || suspendedDelivery.stowedCount() > 0;
+  }
+
+  private static int capacityFor(final int mailboxSize) {
+    if (mailboxSize < 1 || mailboxSize > (1 << 30)) {
+      throw new IllegalArgumentException("Mailbox size must be between 1 and 2^30: " + mailboxSize);
+    }
+    return mailboxSize == 1 ? 1 : Integer.highestOneBit(mailboxSize - 1) << 1;
+  }
+
+  /**
+   * Answer the last of {@code count} newly claimed sequences, waiting while
+   * the ring is full, or -1 if I am closed while waiting.
+   */
+  private long claim(final int count) {
+    final long last = cursor.getAndAdd(count) + count;
+    final long wrapPoint = last - mailboxSize;
+
+    if (wrapPoint > gatingCache.get()) {
+      long gating;
+      while (wrapPoint > (gating = released.get())) {
+        if (closed.get()) {
+          return -1;
+        }
+        Thread.yield();
+      }
+      gatingCache.set(gating);
+    }
+
+    return last;
+  }
+
+  /**
+   * Answer the last of {@code count} newly claimed sequences, or -1
+   * without claiming any if the ring has too few free slots.
+   */
+  private long tryClaim(final int count) {
+    long current;
+    long last;
+    do {
+      current = cursor.get();
+      last = current + count;
+      final long wrapPoint = last - mailboxSize;
+
+      if (wrapPoint > gatingCache.get()) {
+        final long gating = released.get();
+        if (wrapPoint > gating) {
+          return -1;
+        }
+        gatingCache.set(gating);
+      }
+    } while (!cursor.compareAndSet(current, last));
+
+    return last;
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private Message copyOf(final Message message) {
+    return new LocalMessage((LocalMessage) message);
+  }
+
+  private int index(final long sequence) {
+    return (int) sequence & indexMask;
+  }
+
+  private int lap(final long sequence) {
+    return (int) (sequence >>> indexShift);
+  }
+
+  private void publish(final long sequence) {
+    available.lazySet(index(sequence), lap(sequence));
+  }
+
+  private Message receiveNext() {
+    // the slot received last was delivered, so it may be reused
+    release();
+
+    final long next = received + 1;
+    final int index = index(next);
+
+    if (available.get(index) == lap(next)) {
+      received = next;
+      return messages[index];
+    }
+
+    return null;
+  }
+
+  private void release() {
+    if (receivedReleased != received) {
+      receivedReleased = received;
+      released.lazySet(received);
+    }
+  }
+
   private void initPreallocated() {
     for (int idx = 0; idx < mailboxSize; ++idx) {
       messages[idx] = new LocalMessage<>(this);
+      available.set(idx, -1);
+    }
+  }
+
+  private final class OverflowQueue implements BoundedQueue {
+    @Override
+    public boolean isClosed() {
+      return closed.get();
+    }
+
+    @Override
+    public boolean offer(final Message message) {
+      final long sequence = tryClaim(1);
+      if (sequence < 0) {
+        return false;
+      }
+      final LocalMessage<?> local = (LocalMessage<?>) message;
+      messages[index(sequence)].set(local.actor(), local.protocol(), local.consumer(), local.returns(), local.representation());
+      publish(sequence);
+      return true;
+    }
+
+    @Override
+    public Message evictOldest() {
+      throw new UnsupportedOperationException("SharedRingBufferMailbox does not support this operation.");
     }
   }
 }
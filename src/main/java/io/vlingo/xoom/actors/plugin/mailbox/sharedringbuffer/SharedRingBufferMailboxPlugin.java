@@ -20,6 +20,7 @@ import io.vlingo.xoom.actors.plugin.AbstractPlugin;
 import io.vlingo.xoom.actors.plugin.Plugin;
 import io.vlingo.xoom.actors.plugin.PluginConfiguration;
 import io.vlingo.xoom.actors.plugin.PluginProperties;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
 
 public class SharedRingBufferMailboxPlugin extends AbstractPlugin implements Plugin, MailboxProvider {
   private final SharedRingBufferMailboxPluginConfiguration configuration;
@@ -86,7 +87,9 @@ public class SharedRingBufferMailboxPlugin extends AbstractPlugin implements Plu
                       configuration.ringSize(),
                       configuration.fixedBackoff(),
                       configuration.notifyOnSend(),
-                      configuration.dispatcherThrottlingCount());
+                      configuration.dispatcherThrottlingCount(),
+                      RingBufferWaitStrategy.named(configuration.waitStrategy(), configuration.fixedBackoff()),
+                      MailboxOverflowPolicy.named(configuration.overflowPolicy(), configuration.overflowParkTimeout()));
 
       final RingBufferDispatcher otherDispatcher =
               dispatchers.putIfAbsent(hashCode, newDispatcher);
@@ -114,7 +117,10 @@ public class SharedRingBufferMailboxPlugin extends AbstractPlugin implements Plu
     private int fixedBackoff;
     private String name = "ringMailbox";
     private boolean notifyOnSend;
+    private String overflowPolicy = MailboxOverflowPolicy.Park;
+    private long overflowParkTimeout;
     private int ringSize;
+    private String waitStrategy = RingBufferWaitStrategy.Backoff;
 
     public static SharedRingBufferMailboxPluginConfiguration define() {
       return new SharedRingBufferMailboxPluginConfiguration();
@@ -156,6 +162,24 @@ public class SharedRingBufferMailboxPlugin extends AbstractPlugin implements Plu
       return notifyOnSend;
     }
 
+    public SharedRingBufferMailboxPluginConfiguration overflowPolicy(final String overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+      return this;
+    }
+
+    public String overflowPolicy() {
+      return overflowPolicy;
+    }
+
+    public SharedRingBufferMailboxPluginConfiguration overflowParkTimeout(final long overflowParkTimeout) {
+      this.overflowParkTimeout = overflowParkTimeout;
+      return this;
+    }
+
+    public long overflowParkTimeout() {
+      return overflowParkTimeout;
+    }
+
     public SharedRingBufferMailboxPluginConfiguration ringSize(final int ringSize) {
       this.ringSize = ringSize;
       return this;
@@ -165,6 +189,15 @@ public class SharedRingBufferMailboxPlugin extends AbstractPlugin implements Plu
       return ringSize;
     }
 
+    public SharedRingBufferMailboxPluginConfiguration waitStrategy(final String waitStrategy) {
+      this.waitStrategy = waitStrategy;
+      return this;
+    }
+
+    public String waitStrategy() {
+      return waitStrategy;
+    }
+
     @Override
     public void build(final Configuration configuration) {
       configuration.with(ringSize(65535).fixedBackoff(2).notifyOnSend(false).dispatcherThrottlingCount(10));
@@ -177,7 +210,10 @@ public class SharedRingBufferMailboxPlugin extends AbstractPlugin implements Plu
       this.dispatcherThrottlingCount = properties.getInteger("dispatcherThrottlingCount", 1);
       this.fixedBackoff = properties.getInteger("fixedBackoff", 2);
       this.notifyOnSend = properties.getBoolean("notifyOnSend", false);
+      this.overflowPolicy = properties.getString("overflowPolicy", MailboxOverflowPolicy.Park);
+      this.overflowParkTimeout = properties.getLong("overflowParkTimeout", 0L);
       this.ringSize = properties.getInteger("size", 65535);
+      this.waitStrategy = properties.getString("waitStrategy", RingBufferWaitStrategy.Backoff);
       configuration.with(this);
     }
 
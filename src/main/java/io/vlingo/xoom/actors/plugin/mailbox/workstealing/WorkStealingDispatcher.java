@@ -0,0 +1,80 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.workstealing;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.Mailbox;
+
+/**
+ * A {@code Dispatcher} shared by any number of {@code WorkStealingMailbox} instances,
+ * which schedules ready mailboxes onto a small fixed set of work-stealing carrier threads.
+ */
+public class WorkStealingDispatcher implements Dispatcher {
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final ForkJoinPool pool;
+  private final int numberOfThreads;
+
+  protected WorkStealingDispatcher(final int availableThreads, final int numberOfDispatchers, final float numberOfDispatchersFactor) {
+    this.numberOfThreads =
+            Math.max(1,
+                    numberOfDispatchers > 0 ?
+                            numberOfDispatchers :
+                            (int) (availableThreads * numberOfDispatchersFactor));
+
+    this.pool = new ForkJoinPool(numberOfThreads, new CarrierThreadFactory(), null, true);
+  }
+
+  @Override
+  public int concurrencyCapacity() {
+    return numberOfThreads;
+  }
+
+  @Override
+  public void close() {
+    closed.set(true);
+    pool.shutdown();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  @Override
+  public void execute(final Mailbox mailbox) {
+    if (!closed.get()) {
+      try {
+        pool.execute(mailbox);
+      } catch (RejectedExecutionException e) {
+        if (!pool.isShutdown()) {
+          throw new IllegalStateException("Message cannot be sent due to current system resource limitations.", e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean requiresExecutionNotification() {
+    return false;
+  }
+
+  private static class CarrierThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+    @Override
+    public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+      final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName("xoom-work-stealing-" + thread.getPoolIndex());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
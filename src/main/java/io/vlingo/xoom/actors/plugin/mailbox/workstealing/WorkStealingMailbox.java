@@ -0,0 +1,235 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.workstealing;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.ResumingMailbox;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy.BoundedQueue;
+import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides;
+import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides.Overrides;
+
+/**
+ * A bounded {@code Mailbox} backed by a {@code ManyToOneConcurrentArrayQueue} that owns no
+ * thread of its own. It schedules itself on its shared {@code Dispatcher} only when it
+ * transitions from idle to having messages to deliver.
+ */
+public class WorkStealingMailbox implements Mailbox {
+  private final AtomicBoolean delivering;
+  private final Dispatcher dispatcher;
+  private final boolean dropsOldest;
+  private final MailboxOverflowPolicy overflowPolicy;
+  private final BoundedQueue overflowQueue;
+  private final ManyToOneConcurrentArrayQueue<Message> queue;
+  private final AtomicReference<SuspendedDeliveryOverrides> suspendedDeliveryOverrides;
+  private final DeliveryThrottle throttle;
+  private final int totalSendRetries;
+
+  @Override
+  public void close() {
+    queue.clear();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return dispatcher.isClosed();
+  }
+
+  @Override
+  public int concurrencyCapacity() {
+    return dispatcher.concurrencyCapacity();
+  }
+
+  @Override
+  public void resume(final String name) {
+    if (suspendedDeliveryOverrides.get().pop(name)) {
+      schedule();
+    }
+  }
+
+  @Override
+  public void send(final Message message) {
+    if (isSuspended()) {
+      if (suspendedDeliveryOverrides.get().matchesTop(message.protocol())) {
+        dispatcher.execute(new ResumingMailbox(message));
+        return;
+      }
+    }
+
+    if (offer(message) && !isSuspended()) {
+      schedule();
+    }
+  }
+
+  @Override
+  public void sendAll(final Message[] messages) {
+    if (isSuspended()) {
+      for (final Message message : messages) {
+        send(message);
+      }
+      return;
+    }
+
+    try {
+      for (final Message message : messages) {
+        offer(message);
+      }
+    } finally {
+      // a rejected message may throw, but those accepted before it are delivered
+      if (!isSuspended()) {
+        schedule();
+      }
+    }
+  }
+
+  @Override
+  public boolean trySend(final Message message) {
+    if (isSuspended()) {
+      if (suspendedDeliveryOverrides.get().matchesTop(message.protocol())) {
+        dispatcher.execute(new ResumingMailbox(message));
+        return true;
+      }
+    }
+
+    if (!queue.offer(message)) {
+      return false;
+    }
+
+    if (!isSuspended()) {
+      schedule();
+    }
+    return true;
+  }
+
+  @Override
+  public void suspendExceptFor(final String name, final Class<?>... overrides) {
+    suspendedDeliveryOverrides.get().push(new Overrides(name, overrides));
+  }
+
+  @Override
+  public boolean isSuspended() {
+    return !suspendedDeliveryOverrides.get().isEmpty();
+  }
+
+  @Override
+  public boolean isSuspendedFor(final String name) {
+    return !suspendedDeliveryOverrides.get().find(name).isEmpty();
+  }
+
+  @Override
+  public Message receive() {
+    if (dropsOldest) {
+      // senders may evict, so they must not poll at the same time as my dispatcher
+      synchronized (queue) {
+        return queue.poll();
+      }
+    }
+    return queue.poll();
+  }
+
+  @Override
+  public boolean isDelivering() {
+    return delivering.get();
+  }
+
+  @Override
+  public void run() {
+    final int total = throttle.begin();
+    int count = 0;
+    for ( ; count < total; ++count) {
+      if (isSuspended()) {
+        break;
+      }
+      final Message message = receive();
+      if (message != null) {
+        message.deliver();
+      } else {
+        break;
+      }
+    }
+
+    throttle.end(count, !queue.isEmpty());
+
+    delivering.set(false);
+
+    if (!queue.isEmpty() && !isSuspended()) {
+      schedule();
+    }
+  }
+
+  /* @see io.vlingo.xoom.actors.Mailbox#pendingMessages() */
+  @Override
+  public int pendingMessages() {
+    return queue.size();
+  }
+
+  WorkStealingMailbox(final Dispatcher dispatcher, final int mailboxSize, final int throttlingCount, final int totalSendRetries) {
+    this(dispatcher, mailboxSize, DeliveryThrottle.fixed(throttlingCount), totalSendRetries);
+  }
+
+  WorkStealingMailbox(final Dispatcher dispatcher, final int mailboxSize, final DeliveryThrottle throttle, final int totalSendRetries) {
+    this(dispatcher, mailboxSize, throttle, totalSendRetries, MailboxOverflowPolicy.named(MailboxOverflowPolicy.Reject, 0L));
+  }
+
+  WorkStealingMailbox(final Dispatcher dispatcher, final int mailboxSize, final DeliveryThrottle throttle, final int totalSendRetries, final MailboxOverflowPolicy overflowPolicy) {
+    this.dispatcher = dispatcher;
+    this.dropsOldest = overflowPolicy.dropsOldest();
+    this.overflowPolicy = overflowPolicy;
+    this.overflowQueue = new OverflowQueue();
+    this.delivering = new AtomicBoolean(false);
+    this.queue = new ManyToOneConcurrentArrayQueue<>(mailboxSize);
+    this.suspendedDeliveryOverrides = new AtomicReference<>(new SuspendedDeliveryOverrides());
+    this.throttle = throttle;
+    this.totalSendRetries = Math.max(1, totalSendRetries);
+  }
+
+  private boolean offer(final Message message) {
+    // A full queue must not block the sender, because an actor that sends
+    // to itself would then deadlock; overflow is handled after the retries.
+    for (int tries = 0; tries < totalSendRetries; tries++) {
+      if (queue.offer(message)) {
+        return true;
+      }
+    }
+    return overflowPolicy.overflowed(message, overflowQueue);
+  }
+
+  private void schedule() {
+    if (delivering.compareAndSet(false, true)) {
+      throttle.scheduled();
+      dispatcher.execute(this);
+    }
+  }
+
+  private final class OverflowQueue implements BoundedQueue {
+    @Override
+    public boolean isClosed() {
+      return WorkStealingMailbox.this.isClosed();
+    }
+
+    @Override
+    public boolean offer(final Message message) {
+      return queue.offer(message);
+    }
+
+    @Override
+    public Message evictOldest() {
+      synchronized (queue) {
+        return queue.poll();
+      }
+    }
+  }
+}
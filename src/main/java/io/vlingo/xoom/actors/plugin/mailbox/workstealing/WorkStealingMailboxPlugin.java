@@ -0,0 +1,235 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.workstealing;
+
+import java.util.Properties;
+
+import io.vlingo.xoom.actors.Configuration;
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.MailboxProvider;
+import io.vlingo.xoom.actors.Registrar;
+import io.vlingo.xoom.actors.plugin.AbstractPlugin;
+import io.vlingo.xoom.actors.plugin.Plugin;
+import io.vlingo.xoom.actors.plugin.PluginConfiguration;
+import io.vlingo.xoom.actors.plugin.PluginProperties;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryLatencySampler;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
+
+public class WorkStealingMailboxPlugin extends AbstractPlugin implements Plugin, MailboxProvider {
+  private final WorkStealingMailboxPluginConfiguration configuration;
+  private final DeliveryLatencySampler latencySampler;
+  private Dispatcher workStealingDispatcher;
+
+  public WorkStealingMailboxPlugin() {
+    this.configuration = new WorkStealingMailboxPluginConfiguration();
+    this.latencySampler = new DeliveryLatencySampler();
+  }
+
+  public WorkStealingMailboxPlugin(final PluginConfiguration configuration) {
+    this.configuration = (WorkStealingMailboxPluginConfiguration) configuration;
+    this.latencySampler = new DeliveryLatencySampler();
+  }
+
+  @Override
+  public void close() {
+    if (workStealingDispatcher != null) {
+      workStealingDispatcher.close();
+    }
+  }
+
+  @Override
+  public PluginConfiguration configuration() {
+    return configuration;
+  }
+
+  @Override
+  public String name() {
+    return configuration.name();
+  }
+
+  @Override
+  public int pass() {
+    return 1;
+  }
+
+  @Override
+  public void start(final Registrar registrar) {
+    workStealingDispatcher =
+            new WorkStealingDispatcher(
+                Runtime.getRuntime().availableProcessors(),
+                configuration.numberOfDispatchers(),
+                configuration.numberOfDispatchersFactor());
+
+    registrar.register(configuration.name(), configuration.isDefaultMailbox(), this);
+  }
+
+  @Override
+  public Plugin with(final PluginConfiguration overrideConfiguration) {
+    if (overrideConfiguration == null) {
+      return this;
+    }
+    return new WorkStealingMailboxPlugin(overrideConfiguration);
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode) {
+    return provideMailboxFor(hashCode, workStealingDispatcher);
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode, final Dispatcher dispatcher) {
+    if (dispatcher == null) {
+      throw new IllegalArgumentException("Dispatcher must not be null.");
+    }
+
+    return new WorkStealingMailbox(
+            dispatcher,
+            configuration.size(),
+            throttleFor(dispatcher),
+            configuration.sendRetires(),
+            MailboxOverflowPolicy.named(configuration.overflowPolicy(), configuration.overflowParkTimeout()));
+  }
+
+  private DeliveryThrottle throttleFor(final Dispatcher dispatcher) {
+    if (!configuration.isAdaptiveDispatcherThrottling()) {
+      return DeliveryThrottle.fixed(configuration.dispatcherThrottlingCount());
+    }
+    return DeliveryThrottle.adaptive(dispatcher == workStealingDispatcher ? latencySampler : new DeliveryLatencySampler());
+  }
+
+  @Override
+  public void __internal_Only_Init(final String name, final Configuration configuration, final Properties properties) {
+    this.configuration.name = name;
+  }
+
+  public static class WorkStealingMailboxPluginConfiguration implements PluginConfiguration {
+    private boolean adaptiveDispatcherThrottling;
+    private boolean defaultMailbox;
+    private int dispatcherThrottlingCount;
+    private String name = "workStealingMailbox";
+    private int numberOfDispatchers;
+    private float numberOfDispatchersFactor;
+    private String overflowPolicy = MailboxOverflowPolicy.Reject;
+    private long overflowParkTimeout;
+    private int sendRetires;
+    private int size;
+
+    public static WorkStealingMailboxPluginConfiguration define() {
+      return new WorkStealingMailboxPluginConfiguration();
+    }
+
+    public WorkStealingMailboxPluginConfiguration adaptiveDispatcherThrottling() {
+      this.adaptiveDispatcherThrottling = true;
+      return this;
+    }
+
+    public boolean isAdaptiveDispatcherThrottling() {
+      return adaptiveDispatcherThrottling;
+    }
+
+    public WorkStealingMailboxPluginConfiguration defaultMailbox() {
+      this.defaultMailbox = true;
+      return this;
+    }
+
+    public boolean isDefaultMailbox() {
+      return defaultMailbox;
+    }
+
+    public WorkStealingMailboxPluginConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount) {
+      this.dispatcherThrottlingCount = dispatcherThrottlingCount;
+      return this;
+    }
+
+    public int dispatcherThrottlingCount() {
+      return dispatcherThrottlingCount;
+    }
+
+    public WorkStealingMailboxPluginConfiguration numberOfDispatchers(final int numberOfDispatchers) {
+      this.numberOfDispatchers = numberOfDispatchers;
+      return this;
+    }
+
+    public int numberOfDispatchers() {
+      return numberOfDispatchers;
+    }
+
+    public WorkStealingMailboxPluginConfiguration numberOfDispatchersFactor(final float numberOfDispatchersFactor) {
+      this.numberOfDispatchersFactor = numberOfDispatchersFactor;
+      return this;
+    }
+
+    public float numberOfDispatchersFactor() {
+      return numberOfDispatchersFactor;
+    }
+
+    public WorkStealingMailboxPluginConfiguration overflowPolicy(final String overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+      return this;
+    }
+
+    public String overflowPolicy() {
+      return overflowPolicy;
+    }
+
+    public WorkStealingMailboxPluginConfiguration overflowParkTimeout(final long overflowParkTimeout) {
+      this.overflowParkTimeout = overflowParkTimeout;
+      return this;
+    }
+
+    public long overflowParkTimeout() {
+      return overflowParkTimeout;
+    }
+
+    public WorkStealingMailboxPluginConfiguration sendRetires(final int sendRetires) {
+      this.sendRetires = sendRetires;
+      return this;
+    }
+
+    public int sendRetires() {
+      return sendRetires;
+    }
+
+    public WorkStealingMailboxPluginConfiguration size(final int size) {
+      this.size = size;
+      return this;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public void build(final Configuration configuration) {
+      configuration.with(size(65535).numberOfDispatchersFactor(1.0f).dispatcherThrottlingCount(16).sendRetires(10).overflowPolicy(MailboxOverflowPolicy.Reject).overflowParkTimeout(100));
+    }
+
+    @Override
+    public void buildWith(final Configuration configuration, final PluginProperties properties) {
+      this.name = properties.name;
+      this.defaultMailbox = properties.getBoolean("defaultMailbox", false);
+      final String throttlingCount = properties.getString("dispatcherThrottlingCount", "16");
+      this.adaptiveDispatcherThrottling = DeliveryThrottle.Adaptive.equalsIgnoreCase(throttlingCount);
+      this.dispatcherThrottlingCount = adaptiveDispatcherThrottling ? DeliveryThrottle.MinimumThrottlingCount : Integer.parseInt(throttlingCount);
+      this.numberOfDispatchers = properties.getInteger("numberOfDispatchers", 0);
+      this.numberOfDispatchersFactor = properties.getFloat("numberOfDispatchersFactor", 1.0f);
+      this.overflowPolicy = properties.getString("overflowPolicy", MailboxOverflowPolicy.Reject);
+      this.overflowParkTimeout = properties.getLong("overflowParkTimeout", 100L);
+      this.sendRetires = properties.getInteger("sendRetires", 10);
+      this.size = properties.getInteger("size", 65535);
+      configuration.with(this);
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+  }
+}
@@ -74,13 +74,13 @@ public class ActorEnvironmentTest extends ActorsTest {
     
     final Environment env = stoptest.viewTestState().valueOf("env");
     
-    assertEquals(1, env.children.size());
+    assertEquals(1, env.children().size());
     assertFalse(env.isStopped());
     assertFalse(env.mailbox.isClosed());
     
     stoptest.actor().stop();
     
-    assertEquals(0, env.children.size());
+    assertEquals(0, env.children().size());
     assertTrue(env.isStopped());
     assertTrue(env.mailbox.isClosed());
   }
@@ -114,6 +114,29 @@ public class ActorFactoryTest extends ActorsTest {
             world.defaultLogger());
   }
 
+  @Test
+  public void testActorForWithOverloadedConstructors() throws Exception {
+    assertEquals("text", overloadedActorFor("overloaded-text", "test-text").constructedWith);
+    assertEquals("int", overloadedActorFor("overloaded-int", 100).constructedWith);
+    assertEquals("text", overloadedActorFor("overloaded-unfolded", (Object) new Object[] { "test-text" }).constructedWith);
+    assertEquals("long", overloadedActorFor("overloaded-long", 100L).constructedWith);
+    assertEquals("int", overloadedActorFor("overloaded-int-again", 200).constructedWith);
+  }
+
+  private OverloadedActor overloadedActorFor(final String name, final Object parameter) throws Exception {
+    final Definition definition = Definition.has(OverloadedActor.class, Definition.parameters(parameter));
+
+    return (OverloadedActor)
+            ActorFactory.actorFor(
+                    world.stage(),
+                    world.defaultParent(),
+                    definition,
+                    world.addressFactory().uniqueWith(name),
+                    new TestMailbox(),
+                    null,
+                    world.defaultLogger());
+  }
+
   public interface ParentInterface { }
   
   public static class ParentInterfaceActor extends Actor implements ParentInterface {
@@ -137,4 +160,20 @@ public class ActorFactoryTest extends ActorsTest {
       throw new IllegalStateException("Failed in ctor with: " + text + " and: " + val);
     }
   }
+
+  public static class OverloadedActor extends Actor implements TestInterface {
+    final String constructedWith;
+
+    public OverloadedActor(final String text) {
+      this.constructedWith = "text";
+    }
+
+    public OverloadedActor(final int val) {
+      this.constructedWith = "int";
+    }
+
+    public OverloadedActor(final long val) {
+      this.constructedWith = "long";
+    }
+  }
 }
@@ -0,0 +1,107 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.Test;
+import org.openjdk.jol.util.ObjectUtils;
+import org.openjdk.jol.vm.VM;
+
+public class ActorFootprintTest extends ActorsTest {
+  // the actor, its LifeCycle, Environment, ResultReturns, and proxy with its message pool,
+  // as measured with compact strings, by the size of a reference
+  private static final long MaximumCompressedReferencesBytes = 432;
+  private static final long MaximumReferencesBytes = 600;
+
+  static {
+    // reads the fields of JDK classes without opening their modules
+    System.setProperty("jol.magicFieldOffset", "true");
+  }
+
+  @Test
+  public void testThatIdleActorFootprintIsBounded() {
+    final Actor actor = testWorld.actorFor(Idle.class, IdleActor.class).actorInside();
+    final Environment environment = actor.lifeCycle.environment;
+
+    // the children of an idle actor are not allocated
+    assertSame(Collections.emptyList(), environment.children());
+
+    final long bytes =
+            ownBytes(actor,
+                    environment.stage,
+                    environment.definition,
+                    environment.logger,
+                    environment.mailbox,
+                    environment.address,
+                    environment.parent,
+                    environment.maybeSupervisor);
+
+    final long maximumBytes =
+            VM.current().sizeOfField(Object.class.getName()) == 4 ? MaximumCompressedReferencesBytes : MaximumReferencesBytes;
+
+    assertTrue("Idle actor bytes: " + bytes + " of at most: " + maximumBytes, bytes <= maximumBytes);
+  }
+
+  /**
+   * Answer the total bytes of the objects reachable from {@code root} other than
+   * through the {@code shared} objects, or any {@code Class}, which are not its own.
+   */
+  private long ownBytes(final Object root, final Object... shared) {
+    final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Collections.addAll(visited, shared);
+
+    final Deque<Object> pending = new ArrayDeque<>();
+    pending.push(root);
+    visited.add(root);
+
+    long bytes = 0;
+    while (!pending.isEmpty()) {
+      final Object current = pending.pop();
+      bytes += VM.current().sizeOf(current);
+
+      final Class<?> type = current.getClass();
+      if (type.isArray()) {
+        if (!type.getComponentType().isPrimitive()) {
+          for (int index = 0; index < Array.getLength(current); ++index) {
+            reach(Array.get(current, index), visited, pending);
+          }
+        }
+      } else {
+        for (Class<?> declaring = type; declaring != null; declaring = declaring.getSuperclass()) {
+          for (final Field field : declaring.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+              reach(ObjectUtils.value(current, field), visited, pending);
+            }
+          }
+        }
+      }
+    }
+    return bytes;
+  }
+
+  private void reach(final Object referenced, final Set<Object> visited, final Deque<Object> pending) {
+    if (referenced != null && !(referenced instanceof Class) && visited.add(referenced)) {
+      pending.push(referenced);
+    }
+  }
+
+  public static interface Idle { }
+
+  public static class IdleActor extends Actor implements Idle { }
+}
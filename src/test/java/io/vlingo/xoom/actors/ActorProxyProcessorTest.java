@@ -0,0 +1,124 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ActorProxyProcessorTest {
+  private File classes;
+  private File sources;
+
+  @Test
+  public void testThatProxyIsGeneratedForActorProtocol() throws Exception {
+    final boolean compiled = compile(
+            source("generated.Greeter",
+                    "package generated;\n" +
+                    "public interface Greeter {\n" +
+                    "  void greet(String name, int times);\n" +
+                    "  io.vlingo.xoom.common.Completes<java.util.List<String>> greeted();\n" +
+                    "}\n"),
+            source("generated.GreeterActor",
+                    "package generated;\n" +
+                    "public class GreeterActor extends io.vlingo.xoom.actors.Actor implements Greeter {\n" +
+                    "  public void greet(String name, int times) { }\n" +
+                    "  public io.vlingo.xoom.common.Completes<java.util.List<String>> greeted() { return completes(); }\n" +
+                    "}\n"));
+
+    assertTrue(compiled);
+    assertTrue(new File(classes, "generated/Greeter__Proxy.class").exists());
+
+    final String source = new String(Files.readAllBytes(new File(sources, "generated/Greeter__Proxy.java").toPath()), StandardCharsets.UTF_8);
+
+    assertTrue(source.contains("public class Greeter__Proxy extends ActorProxyBase<generated.Greeter> implements generated.Greeter, Proxy, BatchableProxy<generated.Greeter>"));
+    assertTrue(source.contains("\"greet(java.lang.String, int)\""));
+    assertTrue(source.contains("final io.vlingo.xoom.common.Completes<java.util.List<java.lang.String>> returnValue = Completes.using(actor.scheduler());"));
+  }
+
+  @Test
+  public void testThatInvalidProtocolIsLeftToRuntimeGeneration() throws Exception {
+    final boolean compiled = compile(
+            source("generated.Counter",
+                    "package generated;\n" +
+                    "public interface Counter {\n" +
+                    "  int count();\n" +
+                    "}\n"),
+            source("generated.CounterActor",
+                    "package generated;\n" +
+                    "public class CounterActor extends io.vlingo.xoom.actors.Actor implements Counter {\n" +
+                    "  public int count() { return 0; }\n" +
+                    "}\n"));
+
+    assertTrue(compiled);
+    assertFalse(new File(classes, "generated/Counter__Proxy.class").exists());
+  }
+
+  @Test
+  public void testThatExistingProxyIsNotGenerated() throws Exception {
+    final boolean compiled = compile(
+            source("generated.StoppableActor",
+                    "package generated;\n" +
+                    "public class StoppableActor extends io.vlingo.xoom.actors.Actor implements io.vlingo.xoom.actors.Stoppable {\n" +
+                    "}\n"));
+
+    assertTrue(compiled);
+    assertFalse(new File(sources, "io/vlingo/xoom/actors/Stoppable__Proxy.java").exists());
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    classes = Files.createTempDirectory("proxy-classes").toFile();
+    sources = Files.createTempDirectory("proxy-sources").toFile();
+  }
+
+  private boolean compile(final JavaFileObject... compilationUnits) {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    final List<String> options = Arrays.asList(
+            "-classpath", System.getProperty("java.class.path"),
+            "-d", classes.getAbsolutePath(),
+            "-s", sources.getAbsolutePath());
+
+    final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, Arrays.asList(compilationUnits));
+    task.setProcessors(Collections.singletonList(new ActorProxyProcessor()));
+
+    final boolean compiled = task.call();
+
+    if (!compiled) {
+      diagnostics.getDiagnostics().forEach(System.out::println);
+    }
+
+    return compiled;
+  }
+
+  private JavaFileObject source(final String classname, final String source) {
+    return new SimpleJavaFileObject(URI.create("string:///" + classname.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+        return source;
+      }
+    };
+  }
+}
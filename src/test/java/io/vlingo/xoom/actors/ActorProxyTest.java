@@ -9,13 +9,18 @@ package io.vlingo.xoom.actors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 
+import io.vlingo.xoom.actors.testkit.TestWorld;
+
 public class ActorProxyTest {
 
   private final AtomicReference<String> underTest = new AtomicReference<>("UNKNOWN");
@@ -50,4 +55,33 @@ public class ActorProxyTest {
 
     assertTrue(world.resolveDynamic(ActorProxy.__INTERNAL_ACTOR_PROXY_FOR_TEST_ID, Boolean.class));
   }
+
+  @Test
+  public void testThatActorProxyIsCachedPerActorAndProtocol() throws Exception {
+    final TestWorld world = TestWorld.start("ProxyCache");
+    final Actor actor = world.actorFor(Stoppable.class, CachedActor.class).actorInside();
+    final Actor other = world.actorFor(Stoppable.class, CachedActor.class).actorInside();
+    final Mailbox mailbox = actor.lifeCycle.environment.mailbox;
+
+    final List<Stoppable> proxies = new ArrayList<>();
+    final List<Thread> threads = new ArrayList<>();
+    for (int count = 0; count < 4; ++count) {
+      threads.add(new Thread(() -> {
+        final Stoppable proxy = ActorProxy.createFor(Stoppable.class, actor, mailbox);
+        synchronized (proxies) { proxies.add(proxy); }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (final Thread thread : threads) thread.join();
+
+    final Stoppable cached = ActorProxy.createFor(Stoppable.class, actor, mailbox);
+
+    proxies.forEach(proxy -> assertSame(cached, proxy));
+    assertSame(cached, actor.selfAs(Stoppable.class));
+    assertFalse(cached == other.selfAs(Stoppable.class));
+
+    world.terminate();
+  }
+
+  public static class CachedActor extends Actor implements Stoppable { }
 }
@@ -0,0 +1,98 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Compares world throughput when actors block inside their handlers,
+ * as with JDBC calls or {@code Completes.await()}.
+ */
+public class BlockingActorMessageSpeedTest {
+  private static final int Actors = 1_000;
+  private static final int MessagesPerActor = 10;
+  private static final long BlockingMillis = 10L;
+
+  @Test
+  public void testBlockingSendsOnQueueMailbox() throws Exception {
+    // uncomment to run (too slow for build testing)
+    // runWith("queueMailbox");
+  }
+
+  @Test
+  public void testBlockingSendsOnVirtualThreadMailbox() throws Exception {
+    // uncomment to run (too slow for build testing)
+    // runWith("virtualThreadMailbox");
+  }
+
+  protected void runWith(final String mailboxType) throws Exception {
+    final World world = World.start("blocking-speed-test");
+
+    final CountDownLatch completed = new CountDownLatch(Actors * MessagesPerActor);
+
+    final List<BlockingOperation> actors = new ArrayList<>(Actors);
+
+    for (int idx = 0; idx < Actors; ++idx) {
+      actors.add(world.actorFor(
+              BlockingOperation.class,
+              Definition.has(
+                      BlockingOperationActor.class,
+                      Definition.parameters(completed),
+                      mailboxType,
+                      "blocking-op-" + idx)));
+    }
+
+    System.out.println("======================================");
+    System.out.println("BLOCKING SPEED TEST: START FOR MAILBOX TYPE: " + mailboxType);
+
+    final long startTime = System.currentTimeMillis();
+
+    for (int count = 0; count < MessagesPerActor; ++count) {
+      for (final BlockingOperation actor : actors) {
+        actor.block(BlockingMillis);
+      }
+    }
+
+    completed.await(10, TimeUnit.MINUTES);
+
+    final long totalTime = Math.max(1, System.currentTimeMillis() - startTime);
+
+    System.out.println("BLOCKING SPEED TEST: ENDED FOR MAILBOX TYPE: " + mailboxType);
+    System.out.println("          TOTAL TIME: " + totalTime);
+    System.out.println(" MESSAGES PER SECOND: " + ((Actors * MessagesPerActor * 1000L) / totalTime));
+
+    world.terminate();
+  }
+
+  public static interface BlockingOperation {
+    void block(final long millis);
+  }
+
+  public static class BlockingOperationActor extends Actor implements BlockingOperation {
+    private final CountDownLatch completed;
+
+    public BlockingOperationActor(final CountDownLatch completed) {
+      this.completed = completed;
+    }
+
+    @Override
+    public void block(final long millis) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      completed.countDown();
+    }
+  }
+}
@@ -0,0 +1,73 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.common.Scheduled;
+
+public class DirectoryEvictorTest extends ActorsTest {
+
+  @Test
+  public void testThatEvictionIsWithinBudgets() {
+    world.stage().actorsFor(Idle.class, Definition.has(IdleActor.class, Definition.NoParameters, true), 10);
+
+    final DirectoryEvictor evictor =
+            evictorWith(DirectoryEvictionConfiguration.define().probeBudget(1_000).evictionBudget(3));
+
+    final long referenceMillis = System.currentTimeMillis() + DirectoryEvictionConfiguration.DefaultLRUThreshold * 2;
+
+    assertEquals(3, evictor.evict(referenceMillis));
+
+    int evicted = 3;
+    for (int interval = 0; interval < 5; ++interval) {
+      final int intervalEvicted = evictor.evict(referenceMillis);
+      assertTrue(intervalEvicted <= 3);
+      evicted += intervalEvicted;
+    }
+
+    assertEquals(10, evicted);
+  }
+
+  @Test
+  public void testThatProbingIsWithinBudget() {
+    world.stage().actorsFor(Idle.class, Definition.has(IdleActor.class, Definition.NoParameters, true), 10);
+
+    final DirectoryEvictor evictor =
+            evictorWith(DirectoryEvictionConfiguration.define().probeBudget(1).evictionBudget(1_000));
+
+    final long referenceMillis = System.currentTimeMillis() + DirectoryEvictionConfiguration.DefaultLRUThreshold * 2;
+
+    int evicted = 0;
+    for (int interval = 0; interval < 1_000 && evicted < 10; ++interval) {
+      final int intervalEvicted = evictor.evict(referenceMillis);
+      assertTrue(intervalEvicted <= 1);
+      evicted += intervalEvicted;
+    }
+
+    assertEquals(10, evicted);
+  }
+
+  @SuppressWarnings("unchecked")
+  private DirectoryEvictor evictorWith(final DirectoryEvictionConfiguration configuration) {
+    final Directory directory = world.stage().directory;
+
+    return (DirectoryEvictor)
+            testWorld.actorFor(
+                    Scheduled.class,
+                    Definition.has(DirectoryEvictor.class, () -> new DirectoryEvictor(configuration, directory)))
+            .actorInside();
+  }
+
+  public static interface Idle { }
+
+  public static class IdleActor extends Actor implements Idle { }
+}
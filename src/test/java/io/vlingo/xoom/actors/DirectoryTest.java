@@ -7,11 +7,14 @@
 
 package io.vlingo.xoom.actors;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.UUID;
+
 import org.junit.Test;
 
 public class DirectoryTest extends ActorsTest {
@@ -86,6 +89,66 @@ public class DirectoryTest extends ActorsTest {
     assertNull(directory.actorOf(world.addressFactory().uniqueWith("test-actor6")));
   }
 
+  @Test
+  public void testDirectoryGrowsAndRemoves() {
+    final Directory directory = new Directory(new BasicAddress(0, ""), 1, 1);
+
+    final int total = 10_000;
+    final Actor[] actors = new Actor[total];
+
+    for (int id = 1; id <= total; ++id) {
+      actors[id - 1] = new TestInterfaceActor();
+      directory.register(new BasicAddress(id), actors[id - 1]);
+    }
+
+    assertEquals(total, directory.count());
+
+    for (int id = 1; id <= total; id += 2) {
+      assertEquals(actors[id - 1], directory.remove(new BasicAddress(id)));
+    }
+
+    assertEquals(total / 2, directory.count());
+
+    for (int id = 1; id <= total; ++id) {
+      if (id % 2 == 0) {
+        assertEquals(actors[id - 1], directory.actorOf(new BasicAddress(id)));
+      } else {
+        assertNull(directory.actorOf(new BasicAddress(id)));
+      }
+    }
+
+    final Actor reregistered = new TestInterfaceActor();
+    directory.register(new BasicAddress(1), reregistered);
+    assertEquals(reregistered, directory.actorOf(new BasicAddress(1)));
+    assertFalse(directory.remove(new BasicAddress(1), actors[0]));
+    assertTrue(directory.remove(new BasicAddress(1), reregistered));
+  }
+
+  @Test
+  public void testDirectoryHoldsOtherAddresses() {
+    final Directory directory = new Directory(new BasicAddress(0, ""));
+
+    final Address uuidAddress = new UUIDAddress(UUID.randomUUID());
+    final Address basicAddress = new BasicAddress(1);
+
+    directory.register(uuidAddress, new TestInterfaceActor());
+    directory.register(basicAddress, new TestInterfaceActor());
+
+    assertNotNull(directory.actorOf(uuidAddress));
+    assertNotNull(directory.actorOf(basicAddress));
+    assertEquals(2, directory.count());
+
+    final Directory.ClockHand hand = directory.clockHand();
+    int swept = 0;
+    while (hand.next() != null) {
+      ++swept;
+    }
+    assertEquals(2, swept);
+
+    assertNotNull(directory.remove(uuidAddress));
+    assertFalse(directory.isRegistered(uuidAddress));
+  }
+
   public interface TestInterface { }
   
   public static class TestInterfaceActor extends Actor implements TestInterface { }
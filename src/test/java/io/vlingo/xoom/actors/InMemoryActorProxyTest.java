@@ -0,0 +1,87 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.testkit.TestActor;
+import io.vlingo.xoom.common.Completes;
+
+public class InMemoryActorProxyTest extends ActorsTest {
+
+  @Test
+  public void testThatInMemoryProxySendsAndAnswers() {
+    final Actor actor = counterActor();
+    final Counter counter = InMemoryActorProxy.createFor(Counter.class, actor, actor.lifeCycle.environment.mailbox);
+
+    counter.increment(2);
+    counter.increment(3);
+
+    assertEquals(5, counter.total().<Integer>await().intValue());
+  }
+
+  @Test
+  public void testThatInMemoryProxyIsAProxy() {
+    final Actor actor = counterActor();
+    final Counter counter1 = InMemoryActorProxy.createFor(Counter.class, actor, actor.lifeCycle.environment.mailbox);
+    final Counter counter2 = InMemoryActorProxy.createFor(Counter.class, actor, actor.lifeCycle.environment.mailbox);
+    final Actor other = counterActor();
+    final Counter counter3 = InMemoryActorProxy.createFor(Counter.class, other, other.lifeCycle.environment.mailbox);
+
+    assertEquals(actor.address(), Proxy.from(counter1).address());
+    assertEquals(counter1, counter2);
+    assertEquals(counter1.hashCode(), counter2.hashCode());
+    assertNotEquals(counter1, counter3);
+    assertEquals("Counter[address=" + actor.address() + "]", counter1.toString());
+  }
+
+  @Test
+  public void testThatBootstrapProtocolIsProxied() {
+    final Actor actor = counterActor();
+    final Runnable runnable = InMemoryActorProxy.createFor(Runnable.class, actor, actor.lifeCycle.environment.mailbox);
+
+    assertEquals(actor.address(), Proxy.from(runnable).address());
+  }
+
+  @Test(expected = InvalidProtocolException.class)
+  public void testThatInvalidProtocolIsRejected() {
+    final Actor actor = counterActor();
+    InMemoryActorProxy.createFor(InvalidCounter.class, actor, actor.lifeCycle.environment.mailbox);
+  }
+
+  private Actor counterActor() {
+    final TestActor<Counter> counter = testWorld.actorFor(Counter.class, CounterActor.class);
+    return counter.actorInside();
+  }
+
+  public static interface Counter {
+    void increment(final int by);
+    Completes<Integer> total();
+  }
+
+  public static interface InvalidCounter {
+    int total();
+  }
+
+  public static class CounterActor extends Actor implements Counter {
+    private int total;
+
+    @Override
+    public void increment(final int by) {
+      total += by;
+    }
+
+    @Override
+    public Completes<Integer> total() {
+      return completes().with(total);
+    }
+  }
+}
@@ -19,6 +19,8 @@ import org.junit.Test;
 import io.vlingo.xoom.actors.MailboxConfiguration.ArrayQueueConfiguration;
 import io.vlingo.xoom.actors.MailboxConfiguration.ConcurrentQueueConfiguration;
 import io.vlingo.xoom.actors.MailboxConfiguration.SharedRingBufferConfiguration;
+import io.vlingo.xoom.actors.MailboxConfiguration.VirtualThreadConfiguration;
+import io.vlingo.xoom.actors.MailboxConfiguration.WorkStealingConfiguration;
 import io.vlingo.xoom.common.Completes;
 
 public class MailboxConfigurationTest {
@@ -111,6 +113,75 @@ public class MailboxConfigurationTest {
     assertEquals("hello, world", greeter.hello("world").await());
   }
 
+  @Test
+  public void testLockFreeConcurrentQueueConfiguration() {
+    final String classname = "io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin";
+
+    final ConcurrentQueueConfiguration concurrentQueueConfiguration = MailboxConfiguration.concurrentQueueConfiguration();
+
+    concurrentQueueConfiguration.mailboxName(MailboxName);
+    concurrentQueueConfiguration.mailboxImplementationClassname(classname);
+    concurrentQueueConfiguration.defaultMailbox(true);
+    concurrentQueueConfiguration.dispatcherThrottlingCount(7);
+    concurrentQueueConfiguration.numberOfDispatchersFactor(2);
+    concurrentQueueConfiguration.numberOfDispatchers(0);
+    concurrentQueueConfiguration.lockFreeDispatcher(true);
+    concurrentQueueConfiguration.intrusiveQueue(true);
+
+    final Properties properties = concurrentQueueConfiguration.toProperties();
+
+    assertEquals("true", properties.getProperty(PropertyNamePrefix + ".lockFreeDispatcher"));
+    assertEquals("true", properties.getProperty(PropertyNamePrefix + ".intrusiveQueue"));
+
+    world.registerMailboxType(concurrentQueueConfiguration);
+
+    final Greeter greeter =
+            world
+              .stage()
+              .actorFor(
+                      Greeter.class,
+                      Definition.has(
+                              GreeterActor.class,
+                              Definition.NoParameters,
+                              MailboxName,
+                              "test-mailbox"));
+
+    assertEquals("hello, world", greeter.hello("world").await());
+  }
+
+  @Test
+  public void testAdaptiveThrottlingConcurrentQueueConfiguration() {
+    final String classname = "io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin";
+
+    final ConcurrentQueueConfiguration concurrentQueueConfiguration = MailboxConfiguration.concurrentQueueConfiguration();
+
+    concurrentQueueConfiguration.mailboxName(MailboxName);
+    concurrentQueueConfiguration.mailboxImplementationClassname(classname);
+    concurrentQueueConfiguration.defaultMailbox(true);
+    concurrentQueueConfiguration.adaptiveDispatcherThrottling();
+    concurrentQueueConfiguration.numberOfDispatchersFactor(2);
+    concurrentQueueConfiguration.numberOfDispatchers(0);
+
+    final Properties properties = concurrentQueueConfiguration.toProperties();
+
+    assertEquals("adaptive", properties.getProperty(PropertyNamePrefix + ".dispatcherThrottlingCount"));
+
+    world.registerMailboxType(concurrentQueueConfiguration);
+
+    final Greeter greeter =
+            world
+              .stage()
+              .actorFor(
+                      Greeter.class,
+                      Definition.has(
+                              GreeterActor.class,
+                              Definition.NoParameters,
+                              MailboxName,
+                              "test-mailbox"));
+
+    assertEquals("hello, world", greeter.hello("world").await());
+  }
+
   @Test
   public void testSharedRingBufferConfiguration() {
     final String classname = "io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMailboxPlugin";
@@ -153,6 +224,86 @@ public class MailboxConfigurationTest {
     assertEquals("hello, world", greeter.hello("world").await());
   }
   
+  @Test
+  public void testVirtualThreadConfiguration() {
+    final String classname = "io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue.VirtualThreadMailboxPlugin";
+
+    final VirtualThreadConfiguration virtualThreadConfiguration = MailboxConfiguration.virtualThreadConfiguration();
+
+    assertNotNull(virtualThreadConfiguration);
+
+    virtualThreadConfiguration.mailboxName(MailboxName);
+    virtualThreadConfiguration.mailboxImplementationClassname(classname);
+    virtualThreadConfiguration.defaultMailbox(true);
+    virtualThreadConfiguration.dispatcherThrottlingCount(7);
+
+    final Properties properties = virtualThreadConfiguration.toProperties();
+
+    assertEquals("true", properties.getProperty(PluginNamePerfix + MailboxName));
+    assertEquals(classname, properties.getProperty(PropertyNamePrefix + ".classname"));
+    assertEquals("true", properties.getProperty(PropertyNamePrefix + ".defaultMailbox"));
+    assertEquals("7", properties.getProperty(PropertyNamePrefix + ".dispatcherThrottlingCount"));
+
+    world.registerMailboxType(virtualThreadConfiguration);
+
+    final Greeter greeter =
+            world
+              .stage()
+              .actorFor(
+                      Greeter.class,
+                      Definition.has(
+                              GreeterActor.class,
+                              Definition.NoParameters,
+                              MailboxName,
+                              "test-mailbox"));
+
+    assertEquals("hello, world", greeter.hello("world").await());
+  }
+
+  @Test
+  public void testWorkStealingConfiguration() {
+    final String classname = "io.vlingo.xoom.actors.plugin.mailbox.workstealing.WorkStealingMailboxPlugin";
+
+    final WorkStealingConfiguration workStealingConfiguration = MailboxConfiguration.workStealingConfiguration();
+
+    assertNotNull(workStealingConfiguration);
+
+    workStealingConfiguration.mailboxName(MailboxName);
+    workStealingConfiguration.mailboxImplementationClassname(classname);
+    workStealingConfiguration.defaultMailbox(true);
+    workStealingConfiguration.size(33333);
+    workStealingConfiguration.numberOfDispatchersFactor(2);
+    workStealingConfiguration.numberOfDispatchers(0);
+    workStealingConfiguration.dispatcherThrottlingCount(7);
+    workStealingConfiguration.sendRetires(14);
+
+    final Properties properties = workStealingConfiguration.toProperties();
+
+    assertEquals("true", properties.getProperty(PluginNamePerfix + MailboxName));
+    assertEquals(classname, properties.getProperty(PropertyNamePrefix + ".classname"));
+    assertEquals("true", properties.getProperty(PropertyNamePrefix + ".defaultMailbox"));
+    assertEquals("33333", properties.getProperty(PropertyNamePrefix + ".size"));
+    assertEquals("2.0", properties.getProperty(PropertyNamePrefix + ".numberOfDispatchersFactor"));
+    assertEquals("0", properties.getProperty(PropertyNamePrefix + ".numberOfDispatchers"));
+    assertEquals("7", properties.getProperty(PropertyNamePrefix + ".dispatcherThrottlingCount"));
+    assertEquals("14", properties.getProperty(PropertyNamePrefix + ".sendRetires"));
+
+    world.registerMailboxType(workStealingConfiguration);
+
+    final Greeter greeter =
+            world
+              .stage()
+              .actorFor(
+                      Greeter.class,
+                      Definition.has(
+                              GreeterActor.class,
+                              Definition.NoParameters,
+                              MailboxName,
+                              "test-mailbox"));
+
+    assertEquals("hello, world", greeter.hello("world").await());
+  }
+
   @Before
   public void setUp() {
     world = World.startWithDefaults("mailbox-configuration-test");
@@ -0,0 +1,44 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MemoryPressureTest {
+
+  @Test
+  public void testThatHeapPressureComparesUsedToMaximumHeap() {
+    assertTrue(MemoryPressure.heap(0.0f).isHigh(0));
+    assertFalse(MemoryPressure.heap(1.1f).isHigh(0));
+  }
+
+  @Test
+  public void testThatActorCountPressureComparesCountToHighMark() {
+    final MemoryPressure pressure = MemoryPressure.actorCount(100);
+
+    assertFalse(pressure.isHigh(99));
+    assertTrue(pressure.isHigh(100));
+  }
+
+  @Test
+  public void testThatAnyOfPressureIsHighWhenAnyIsHigh() {
+    final MemoryPressure pressure = MemoryPressure.anyOf(MemoryPressure.heap(1.1f), MemoryPressure.actorCount(100));
+
+    assertFalse(pressure.isHigh(99));
+    assertTrue(pressure.isHigh(100));
+  }
+
+  @Test
+  public void testThatDefaultPressureIsHeapOfFullRatioHighMark() {
+    assertFalse(DirectoryEvictionConfiguration.define().fullRatioHighMark(1.1f).memoryPressure().isHigh(Integer.MAX_VALUE));
+    assertTrue(DirectoryEvictionConfiguration.define().fullRatioHighMark(0.0f).memoryPressure().isHigh(0));
+  }
+}
@@ -0,0 +1,148 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.common.Completes;
+
+public class PassivationTest extends ActorsTest {
+
+  @Test
+  public void testThatEvictedActorIsReactivatedWithItsState() throws Exception {
+    final SnapshotStore snapshotStore = new InMemorySnapshotStore();
+    world.stage().snapshotStore(snapshotStore);
+
+    final Address address = world.addressFactory().unique();
+    final Counter counter = world.stage().actorFor(Counter.class, Definition.has(CounterActor.class, Definition.NoParameters, true), address);
+
+    counter.increment(3);
+    assertEquals(3, counter.total().<Integer>await().intValue());
+
+    final Actor actor = world.stage().directory.actorOf(address);
+    assertTrue(actor.lifeCycle.evict(actor, System.currentTimeMillis() + 1_000, 0));
+
+    for (int wait = 0; wait < 100 && world.stage().directory.actorOf(address) != null; ++wait) {
+      Thread.sleep(10);
+    }
+
+    assertNull(world.stage().directory.actorOf(address));
+    assertEquals(1, snapshotStore.size());
+
+    final Counter reactivated = world.stage().actorOf(Counter.class, address).await();
+    reactivated.increment(4);
+
+    assertEquals(7, reactivated.total().<Integer>await().intValue());
+    assertEquals(0, snapshotStore.size());
+    assertNull(world.stage().lazyActorOf(Counter.class, address));
+  }
+
+  @Test
+  public void testThatEvictedActorIsNotRegisteredLazilyWithoutSnapshotStore() throws Exception {
+    final Address address = world.addressFactory().unique();
+    final Counter counter = world.stage().actorFor(Counter.class, Definition.has(CounterActor.class, Definition.NoParameters, true), address);
+
+    counter.increment(3);
+    assertEquals(3, counter.total().<Integer>await().intValue());
+
+    final Actor actor = world.stage().directory.actorOf(address);
+    assertTrue(actor.lifeCycle.evict(actor, System.currentTimeMillis() + 1_000, 0));
+
+    for (int wait = 0; wait < 100 && world.stage().directory.actorOf(address) != null; ++wait) {
+      Thread.sleep(10);
+    }
+
+    assertNull(world.stage().directory.actorOf(address));
+    assertNull(world.stage().lazyActorOf(Counter.class, address));
+  }
+
+  @Test
+  public void testThatEvictedLazyActorIsRegisteredLazilyAgain() throws Exception {
+    final Address address = world.addressFactory().unique();
+    final Counter counter = world.stage().lazyActorFor(Counter.class, Definition.has(CounterActor.class, Definition.NoParameters, true), address);
+
+    counter.increment(3);
+    assertEquals(3, counter.total().<Integer>await().intValue());
+    assertNull(world.stage().lazyActorOf(Counter.class, address));
+
+    final Actor actor = world.stage().directory.actorOf(address);
+    assertTrue(actor.lifeCycle.evict(actor, System.currentTimeMillis() + 1_000, 0));
+
+    for (int wait = 0; wait < 100 && world.stage().directory.actorOf(address) != null; ++wait) {
+      Thread.sleep(10);
+    }
+
+    assertNull(world.stage().directory.actorOf(address));
+    assertNotNull(world.stage().lazyActorOf(Counter.class, address));
+    assertNotNull(world.stage().actorOfNow(Counter.class, address));
+
+    final Counter recreated = world.stage().actorOf(Counter.class, address).await();
+    assertNotNull(recreated);
+
+    // without a SnapshotStore the recreated actor starts anew
+    recreated.increment(4);
+    assertEquals(4, recreated.total().<Integer>await().intValue());
+    assertNotNull(world.stage().directory.actorOf(address));
+  }
+
+  @Test
+  public void testThatLazyProxyStartsEvictedActorAgain() throws Exception {
+    final Address address = world.addressFactory().unique();
+    final Counter counter = world.stage().lazyActorFor(Counter.class, Definition.has(CounterActor.class, Definition.NoParameters, true), address);
+
+    counter.increment(3);
+    assertEquals(3, counter.total().<Integer>await().intValue());
+
+    final Actor actor = world.stage().directory.actorOf(address);
+    assertTrue(actor.lifeCycle.evict(actor, System.currentTimeMillis() + 1_000, 0));
+
+    for (int wait = 0; wait < 100 && world.stage().directory.actorOf(address) != null; ++wait) {
+      Thread.sleep(10);
+    }
+
+    // the stopped actor kept by the proxy is replaced by a new one
+    counter.increment(4);
+    assertEquals(4, counter.total().<Integer>await().intValue());
+    assertTrue(actor != world.stage().directory.actorOf(address));
+  }
+
+  public static interface Counter {
+    void increment(final int by);
+    Completes<Integer> total();
+  }
+
+  public static class CounterActor extends Actor implements Counter {
+    private int total;
+
+    @Override
+    public void increment(final int by) {
+      total += by;
+    }
+
+    @Override
+    public Completes<Integer> total() {
+      return completes().with(total);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> S stateSnapshot() {
+      return (S) Integer.valueOf(total);
+    }
+
+    @Override
+    public <S> void stateSnapshot(final S stateSnapshot) {
+      total = (Integer) stateSnapshot;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.plugin.mailbox.testkit.TestMailbox;
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+
+public class ProxyBatchTest extends ActorsTest {
+  private static final int Total = 1_000;
+
+  @Test
+  public void testThatBatchedMessagesDeliverInOrder() {
+    final Results results = new Results(Total);
+
+    final Ingest ingest = world.actorFor(Ingest.class, IngestActor.class, results);
+
+    final ProxyBatch<Ingest> batch = ProxyBatch.of(ingest);
+
+    for (int value = 0; value < Total; ++value) {
+      batch.view().take(value);
+    }
+
+    assertEquals(Total, batch.size());
+    assertEquals(0, results.count.get());
+
+    batch.send();
+
+    assertTrue(batch.isEmpty());
+
+    final List<Integer> received = results.access.readFrom("values");
+
+    assertEquals(Total, received.size());
+    for (int value = 0; value < Total; ++value) {
+      assertEquals(value, (int) received.get(value));
+    }
+  }
+
+  @Test
+  public void testThatBatchIsReusable() {
+    final Results results = new Results(20);
+
+    final Ingest ingest = world.actorFor(Ingest.class, IngestActor.class, results);
+
+    final ProxyBatch<Ingest> batch = ProxyBatch.of(ingest);
+
+    for (int round = 0; round < 2; ++round) {
+      for (int value = 0; value < 10; ++value) {
+        batch.view().take(round * 10 + value);
+      }
+      batch.send();
+    }
+
+    final List<Integer> received = results.access.readFrom("values");
+
+    assertEquals(20, received.size());
+    for (int value = 0; value < 20; ++value) {
+      assertEquals(value, (int) received.get(value));
+    }
+  }
+
+  @Test
+  public void testThatEmptyBatchSendsNothing() {
+    final Results results = new Results(0);
+
+    final Ingest ingest = world.actorFor(Ingest.class, IngestActor.class, results);
+
+    final ProxyBatch<Ingest> batch = ProxyBatch.of(ingest);
+
+    assertTrue(batch.isEmpty());
+
+    batch.send();
+
+    assertTrue(batch.isEmpty());
+    assertEquals(0, results.count.get());
+  }
+
+  @Test
+  public void testThatBatchSendsToSynchronousMailbox() {
+    final Results results = new Results(5);
+
+    final Ingest ingest =
+            world.stage().actorFor(
+                    Ingest.class,
+                    Definition.has(IngestActor.class, Definition.parameters(results), TestMailbox.Name, "ingest"));
+
+    final ProxyBatch<Ingest> batch = ProxyBatch.of(ingest);
+
+    for (int value = 0; value < 5; ++value) {
+      batch.view().take(value);
+    }
+
+    assertFalse(batch.isEmpty());
+
+    batch.send();
+
+    final List<Integer> received = results.access.readFrom("values");
+
+    assertEquals(5, received.size());
+  }
+
+  @Test
+  public void testThatClosingBatchingMailboxLeavesTargetOpen() {
+    final Mailbox target = new TestMailbox();
+
+    new BatchingMailbox(target).close();
+
+    assertFalse(target.isClosed());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testThatNonProxyIsRejected() {
+    ProxyBatch.of((Ingest) value -> { });
+  }
+
+  public static interface Ingest {
+    void take(final int value);
+  }
+
+  public static class IngestActor extends Actor implements Ingest {
+    private final Results results;
+
+    public IngestActor(final Results results) {
+      this.results = results;
+    }
+
+    @Override
+    public void take(final int value) {
+      results.access.writeUsing("values", value);
+    }
+  }
+
+  public static class Results {
+    public final AccessSafely access;
+    public final AtomicInteger count = new AtomicInteger(0);
+    private final List<Integer> values = new ArrayList<>();
+
+    public Results(final int times) {
+      this.access =
+              AccessSafely.afterCompleting(times)
+                .writingWith("values", (Integer value) -> { values.add(value); count.incrementAndGet(); })
+                .readingWith("values", () -> new ArrayList<>(values));
+    }
+  }
+}
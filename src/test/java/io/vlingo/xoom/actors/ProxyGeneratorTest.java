@@ -123,6 +123,15 @@ public class ProxyGeneratorTest {
       assertTrue("Proxy class has invalid generic signature",
           result.source.contains("public class ProtocolWithGenerics__Proxy<A extends java.lang.RuntimeException, B extends java.util.Queue<java.io.IOException>> extends ActorProxyBase<io.vlingo.xoom.actors.ProtocolWithGenerics> implements io.vlingo.xoom.actors.ProtocolWithGenerics<A, B>, Proxy"));
     }
+
+    @Test
+    public void testThatProxySendsPerMethodMessages() {
+      ProxyGenerator.Result result = proxyGenerator.generateFor(ProtocolWithGenericMethods.class.getCanonicalName());
+
+      assertTrue("Message class is not generated", result.source.contains("private static final class someMethodMessage"));
+      assertTrue("Message is not taken from the pool", result.source.contains("this.pool.take("));
+      assertFalse("Consumer lambda is generated", result.source.contains("consumer = (actor) ->"));
+    }
 }
 
 interface ProtocolWithGenericMethods {
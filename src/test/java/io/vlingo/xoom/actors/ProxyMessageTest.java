@@ -0,0 +1,70 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class ProxyMessageTest {
+
+  @Test
+  public void testThatRecycledMessageIsTakenAndCleared() {
+    final ProxyMessage.Pool pool = new ProxyMessage.Pool(2);
+    final GreetMessage message = new GreetMessage(pool);
+    message.name = "Hello";
+
+    assertNull(pool.take(1));
+
+    message.recycle();
+
+    assertNull(message.name);
+    assertNull(pool.take(0));
+    assertSame(message, pool.take(1));
+    assertNull(pool.take(1));
+  }
+
+  @Test
+  public void testThatCopiedMessageIsNotRecycled() {
+    final ProxyMessage.Pool pool = new ProxyMessage.Pool(2);
+    final GreetMessage message = new GreetMessage(pool);
+    message.name = "Hello";
+
+    final LocalMessage<Greeter> copy = new LocalMessage<>(message);
+
+    message.recycle();
+
+    assertSame(message, copy.consumer());
+    assertSame("Hello", message.name);
+    assertNull(pool.take(1));
+  }
+
+  interface Greeter {
+    void greet(final String name);
+  }
+
+  private static final class GreetMessage extends ProxyMessage<Greeter> {
+    private static final long serialVersionUID = 1L;
+    String name;
+
+    GreetMessage(final ProxyMessage.Pool pool) {
+      super(null, Greeter.class, "greet(java.lang.String)", null, pool, 1);
+    }
+
+    @Override
+    public void accept(final Greeter actor) {
+      actor.greet(name);
+    }
+
+    @Override
+    protected void clear() {
+      name = null;
+    }
+  }
+}
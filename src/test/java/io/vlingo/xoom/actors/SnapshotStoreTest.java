@@ -0,0 +1,78 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+
+import org.junit.Test;
+
+public class SnapshotStoreTest {
+  private final AddressFactory addressFactory = new BasicAddressFactory();
+
+  @Test
+  public void testThatInMemorySnapshotsAreTaken() {
+    assertSnapshotsAreTaken(new InMemorySnapshotStore());
+  }
+
+  @Test
+  public void testThatMappedFileSnapshotsAreTaken() throws Exception {
+    final File file = File.createTempFile("snapshots", ".dat");
+    file.deleteOnExit();
+
+    final MappedFileSnapshotStore store = new MappedFileSnapshotStore(file);
+    assertSnapshotsAreTaken(store);
+    store.close();
+  }
+
+  @Test
+  public void testThatMappedFileCompactsAndGrows() throws Exception {
+    final File file = File.createTempFile("snapshots", ".dat");
+    file.deleteOnExit();
+
+    final MappedFileSnapshotStore store = new MappedFileSnapshotStore(file, 64);
+
+    final Address[] addresses = addressFactory.uniqueWith("snapshot", 100);
+
+    for (int round = 0; round < 3; ++round) {
+      for (int index = 0; index < addresses.length; ++index) {
+        store.save(addresses[index], "state-" + round + "-" + index);
+      }
+      for (int index = 0; index < addresses.length; index += 2) {
+        assertEquals("state-" + round + "-" + index, store.take(addresses[index]));
+      }
+    }
+
+    assertEquals(50, store.size());
+
+    for (int index = 1; index < addresses.length; index += 2) {
+      assertEquals("state-2-" + index, store.take(addresses[index]));
+    }
+
+    assertEquals(0, store.size());
+
+    store.close();
+  }
+
+  private void assertSnapshotsAreTaken(final SnapshotStore store) {
+    final Address address1 = addressFactory.unique();
+    final Address address2 = addressFactory.unique();
+
+    store.save(address1, "state1");
+    store.save(address2, 2);
+    store.save(address1, "state1-2");
+
+    assertEquals(2, store.size());
+    assertEquals("state1-2", store.take(address1));
+    assertNull(store.take(address1));
+    assertEquals(2, store.<Integer>take(address2).intValue());
+    assertEquals(0, store.size());
+  }
+}
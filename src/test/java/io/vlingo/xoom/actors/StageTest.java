@@ -10,6 +10,7 @@ package io.vlingo.xoom.actors;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
@@ -188,6 +189,94 @@ public class StageTest extends ActorsTest {
     assertEquals(2, scanResult.getNotFoundCount());
   }
 
+  @Test
+  public void testDirectoryScanWithShardedScanners() {
+    final World shardedWorld = World.start("sharded-scanners", Configuration.define().usingDirectoryScanners(3));
+
+    final List<Address> addresses =
+            IntStream.range(0, 10)
+              .mapToObj(index -> shardedWorld.addressFactory().uniqueWith("test-actor" + index))
+              .collect(Collectors.toList());
+
+    addresses.forEach(address -> shardedWorld.stage().directory().register(address, new TestInterfaceActor()));
+
+    for (final Address address : addresses) {
+      assertNotNull(shardedWorld.stage().actorOf(NoProtocol.class, address).await());
+    }
+
+    shardedWorld.terminate();
+  }
+
+  @Test
+  public void testDirectoryScanNow() {
+    final Address address1 = world.addressFactory().uniqueWith("test-actor1");
+    final Address address2 = world.addressFactory().uniqueWith("test-actor2");
+    final Address address3 = world.addressFactory().uniqueWith("test-actor3");
+
+    world.stage().directory().register(address1, new TestInterfaceActor());
+    world.stage().directory().register(address2, new TestInterfaceActor());
+
+    assertNotNull(world.stage().actorOfNow(NoProtocol.class, address1));
+    assertTrue(world.stage().maybeActorOfNow(NoProtocol.class, address2).isPresent());
+
+    assertNull(world.stage().actorOfNow(NoProtocol.class, address3));
+    assertFalse(world.stage().maybeActorOfNow(NoProtocol.class, address3).isPresent());
+  }
+
+  @Test
+  public void testActorsForDefinitionAndProtocol() {
+    final int count = 100;
+    final int before = world.stage().count();
+    final TestResults testResults = new TestResults(count);
+
+    final List<Simple> simples = world.stage().actorsFor(Simple.class, Definition.has(SimpleActor.class, Definition.parameters(testResults)), count);
+
+    assertEquals(count, simples.size());
+    assertEquals(before + count, world.stage().count());
+    assertEquals(count, simples.stream().map(simple -> ((Proxy) simple).address()).distinct().count());
+
+    simples.forEach(Simple::simpleSay);
+
+    assertTrue(testResults.getInvoked());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testThatActorsForRejectsNegativeCount() {
+    world.stage().actorsFor(NoProtocol.class, Definition.has(TestInterfaceActor.class, Definition.NoParameters), -1);
+  }
+
+  @Test
+  public void testThatActorsForStopsPartialPopulationOnFailure() {
+    final int before = world.stage().count();
+    FailingActor.created.set(0);
+
+    final List<NoProtocol> failed = world.stage().actorsFor(NoProtocol.class, Definition.has(FailingActor.class, Definition.NoParameters), 10);
+
+    assertTrue(failed.isEmpty());
+    assertEquals(FailingActor.FailAt, FailingActor.created.get());
+    assertEquals(before, world.stage().count());
+  }
+
+  @Test
+  public void testLazyActorIsCreatedOnFirstMessage() {
+    final int before = world.stage().count();
+    final TestResults testResults = new TestResults(1);
+    final Address address = world.addressFactory().unique();
+
+    final Simple simple = world.stage().lazyActorFor(Simple.class, Definition.has(SimpleActor.class, Definition.parameters(testResults)), address);
+
+    assertEquals(address, ((Proxy) simple).address());
+    assertEquals(before, world.stage().count());
+    assertSame(simple.getClass(), world.stage().actorOf(Simple.class, address).await().getClass());
+    assertEquals(before, world.stage().count());
+
+    simple.simpleSay();
+
+    assertTrue(testResults.getInvoked());
+    assertEquals(before + 1, world.stage().count());
+    assertNotNull(world.stage().directory.actorOf(address));
+  }
+
   @Test
   public void testThatProtocolIsInterface() {
     world.stage().actorFor(NoProtocol.class, ParentInterfaceActor.class);
@@ -423,6 +512,17 @@ public class StageTest extends ActorsTest {
     }
   }
 
+  public static class FailingActor extends Actor implements NoProtocol {
+    static final int FailAt = 5;
+    static final AtomicInteger created = new AtomicInteger(0);
+
+    public FailingActor() {
+      if (created.incrementAndGet() == FailAt) {
+        throw new IllegalStateException("Failed at actor: " + FailAt);
+      }
+    }
+  }
+
   private static class ScanResult {
     final AccessSafely scanFound;
 
@@ -17,6 +17,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
 
 import io.vlingo.xoom.actors.testkit.AccessSafely;
 import io.vlingo.xoom.common.identity.IdentityGeneratorType;
@@ -24,6 +26,11 @@ import io.vlingo.xoom.common.identity.IdentityGeneratorType;
 public class UUIDAddressTest {
   private static int MaxPings = 5000;
 
+  static {
+    // reads the fields of JDK classes without opening their modules
+    System.setProperty("jol.magicFieldOffset", "true");
+  }
+
   private World world;
 
   @Test
@@ -83,6 +90,38 @@ public class UUIDAddressTest {
     assertNotEquals(address, another);
   }
 
+  @Test
+  public void testThatIdentityMatchesUUID() {
+    final UUID id = UUID.randomUUID();
+    final UUID anotherId = UUID.randomUUID();
+    final Address address = world.addressFactory().findableBy(id);
+    final Address another = world.addressFactory().findableBy(anotherId);
+
+    assertEquals(id, address.idTyped());
+    assertEquals(id.toString(), address.idString());
+    assertEquals(id.hashCode(), address.hashCode());
+    assertEquals(Integer.signum(id.compareTo(anotherId)), Integer.signum(address.compareTo(another)));
+    assertEquals(address, world.addressFactory().findableBy(UUID.fromString(id.toString())));
+  }
+
+  @Test
+  public void testThatAddressesOfEqualNamesAreTwoLongsAndOneSharedName() {
+    final int total = 1_000;
+    final Object[] addresses = new Object[total];
+    for (int count = 0; count < total; ++count) {
+      // not the literal, so that only the AddressFactory shares it
+      addresses[count] = world.addressFactory().uniqueWith(new String("entity"));
+    }
+
+    final long nameBytes = GraphLayout.parseInstance(((Address) addresses[0]).name()).totalSize();
+    final long bytesPerAddress = (GraphLayout.parseInstance(addresses).totalSize() - nameBytes) / total;
+
+    // header, two longs, and the reference to the name
+    final long expectedBytes = VM.current().sizeOfField(Object.class.getName()) == 4 ? 32 : 40;
+
+    assertEquals(expectedBytes, bytesPerAddress);
+  }
+
   @Test
   public void testThatActorsAreOperational() {
     final TestResults testResults = new TestResults();
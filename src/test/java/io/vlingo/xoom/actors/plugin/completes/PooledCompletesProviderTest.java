@@ -56,6 +56,62 @@ public class PooledCompletesProviderTest extends ActorsTest {
     assertEquals(completes1, completes2);
   }
 
+  @Test
+  public void testCompletesIndexMatches() {
+    ConfigureWorldWithPooledCompletes();
+
+    final int index = world.completesIndex();
+
+    final MockCompletes<Object> clientCompletes1 = new MockCompletes<>(1);
+    final MockCompletes<Object> clientCompletes2 = new MockCompletes<>(1);
+
+    final CompletesEventually completes1 = world.completesFor(index, Returns.value(clientCompletes1));
+    completes1.with(5);
+
+    assertEquals(1, clientCompletes1.getWithCount());
+    assertEquals(5, clientCompletes1.outcome());
+
+    final CompletesEventually completes2 = world.completesFor(index, Returns.value(clientCompletes2));
+    completes2.with(10);
+
+    assertEquals(1, clientCompletes2.getWithCount());
+    assertEquals(10, clientCompletes2.outcome());
+    assertEquals(completes1.address(), completes2.address());
+  }
+
+  @Test
+  public void testThatHeldCompletesRepeatsWithoutRecycling() {
+    final CompletesEventuallyPool provider = new CompletesEventuallyPool(1, null);
+    provider.initializeUsing(world.stage());
+
+    final MockCompletes<Object> heldCompletes = new MockCompletes<>(2);
+
+    final CompletesEventually held = provider.provideCompletesFor(0, Returns.value(heldCompletes));
+    held.with(5);
+
+    for (int request = 0; request < 10; ++request) {
+      final MockCompletes<Object> clientCompletes = new MockCompletes<>(1);
+      provider.provideRecyclableCompletesFor(0, Returns.value(clientCompletes)).with(request);
+      assertEquals(request, clientCompletes.outcome());
+    }
+
+    held.with(10);
+
+    assertEquals(2, heldCompletes.getWithCount());
+    assertEquals(10, heldCompletes.outcome());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testThatSecondOutcomeOfRecyclableIsRejected() {
+    final CompletesEventuallyPool provider = new CompletesEventuallyPool(1, null);
+    provider.initializeUsing(world.stage());
+
+    final CompletesEventually completes = provider.provideRecyclableCompletesFor(0, Returns.value(new MockCompletes<>(1)));
+    completes.with(5);
+
+    completes.with(10);
+  }
+
   @Test
   public void testCompletableFuture() throws ExecutionException, InterruptedException {
     ConfigureWorldWithPooledCompletes();
@@ -0,0 +1,95 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class DeliveryThrottleTest {
+  @Test
+  public void testThatFixedThrottleIsNotCappedAtByte() {
+    final DeliveryThrottle throttle = DeliveryThrottle.fixed(500);
+
+    assertEquals(500, throttle.begin());
+    throttle.end(500, true);
+    assertEquals(500, throttle.begin());
+  }
+
+  @Test
+  public void testThatFixedThrottleIsAtLeastOne() {
+    assertEquals(1, DeliveryThrottle.fixed(0).begin());
+  }
+
+  @Test
+  public void testThatAdaptiveThrottleGrowsWithBacklog() {
+    final DeliveryThrottle throttle = DeliveryThrottle.adaptive(new DeliveryLatencySampler(Long.MAX_VALUE));
+
+    int limit = throttle.begin();
+    assertEquals(DeliveryThrottle.MinimumThrottlingCount, limit);
+
+    for (int run = 0; run < 20; ++run) {
+      throttle.end(limit, true);
+      final int next = throttle.begin();
+      assertTrue(next >= limit);
+      limit = next;
+    }
+
+    assertEquals(DeliveryThrottle.MaximumThrottlingCount, limit);
+  }
+
+  @Test
+  public void testThatAdaptiveThrottleHoldsWithoutBacklog() {
+    final DeliveryThrottle throttle = DeliveryThrottle.adaptive(new DeliveryLatencySampler(Long.MAX_VALUE));
+
+    final int limit = throttle.begin();
+    throttle.end(limit, false);
+
+    assertEquals(limit, throttle.begin());
+  }
+
+  @Test
+  public void testThatAdaptiveThrottleShrinksWhenCongested() {
+    final DeliveryLatencySampler sampler = new DeliveryLatencySampler(1_000L);
+    final DeliveryThrottle throttle = DeliveryThrottle.adaptive(sampler);
+
+    int limit = throttle.begin();
+    for (int run = 0; run < 6; ++run) {
+      throttle.end(limit, true);
+      limit = throttle.begin();
+    }
+    assertEquals(64, limit);
+
+    for (int sample = 0; sample < 100; ++sample) {
+      sampler.sample(1_000_000L);
+    }
+    assertTrue(sampler.isCongested());
+
+    throttle.end(limit, true);
+    assertEquals(32, throttle.begin());
+  }
+
+  @Test
+  public void testThatSamplerAveragesTowardSamples() {
+    final DeliveryLatencySampler sampler = new DeliveryLatencySampler(10_000L);
+
+    assertFalse(sampler.isCongested());
+
+    for (int sample = 0; sample < 100; ++sample) {
+      sampler.sample(80_000L);
+    }
+    assertTrue(sampler.isCongested());
+
+    for (int sample = 0; sample < 100; ++sample) {
+      sampler.sample(0L);
+    }
+    assertFalse(sampler.isCongested());
+  }
+}
@@ -0,0 +1,129 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.ResumingMailbox;
+
+public class MailboxRunQueueTest {
+  private static final int Producers = 4;
+  private static final int MailboxesPerProducer = 10_000;
+
+  @Test
+  public void testThatOfferPollPreservesOrder() {
+    final MailboxRunQueue runQueue = new MailboxRunQueue();
+
+    assertTrue(runQueue.isEmpty());
+    assertNull(runQueue.poll());
+
+    final TestScheduledMailbox mailbox1 = new TestScheduledMailbox();
+    final TestScheduledMailbox mailbox2 = new TestScheduledMailbox();
+    final TestScheduledMailbox mailbox3 = new TestScheduledMailbox();
+
+    assertTrue(runQueue.offer(mailbox1));
+    assertTrue(runQueue.offer(mailbox2));
+    assertTrue(runQueue.offer(mailbox3));
+    assertFalse(runQueue.isEmpty());
+
+    assertSame(mailbox1, runQueue.poll());
+    assertSame(mailbox2, runQueue.poll());
+    assertSame(mailbox3, runQueue.poll());
+    assertNull(runQueue.poll());
+    assertTrue(runQueue.isEmpty());
+  }
+
+  @Test
+  public void testThatScheduledMailboxIsLinkedOnce() {
+    final MailboxRunQueue runQueue = new MailboxRunQueue();
+    final TestScheduledMailbox mailbox = new TestScheduledMailbox();
+
+    assertTrue(runQueue.offer(mailbox));
+    assertTrue(mailbox.isScheduled());
+    assertFalse(runQueue.offer(mailbox));
+
+    assertSame(mailbox, runQueue.poll());
+    assertFalse(mailbox.isScheduled());
+    assertNull(runQueue.poll());
+
+    assertTrue(runQueue.offer(mailbox));
+    assertSame(mailbox, runQueue.poll());
+  }
+
+  @Test
+  public void testThatOtherMailboxesAreWrapped() {
+    final MailboxRunQueue runQueue = new MailboxRunQueue();
+    final Mailbox resuming = new ResumingMailbox(null);
+
+    assertTrue(runQueue.offer(resuming));
+    assertTrue(runQueue.offer(resuming));
+
+    assertSame(resuming, runQueue.poll());
+    assertSame(resuming, runQueue.poll());
+    assertNull(runQueue.poll());
+  }
+
+  @Test
+  public void testManyProducers() throws Exception {
+    final MailboxRunQueue runQueue = new MailboxRunQueue();
+    final List<Thread> producers = new ArrayList<>(Producers);
+
+    for (int producer = 0; producer < Producers; ++producer) {
+      producers.add(new Thread(() -> {
+        for (int count = 0; count < MailboxesPerProducer; ++count) {
+          runQueue.offer(new TestScheduledMailbox());
+        }
+      }));
+    }
+
+    producers.forEach(Thread::start);
+
+    final Set<Mailbox> polled = new HashSet<>();
+
+    while (polled.size() < Producers * MailboxesPerProducer) {
+      final Mailbox mailbox = runQueue.poll();
+      if (mailbox != null) {
+        polled.add(mailbox);
+      }
+    }
+
+    for (final Thread producer : producers) {
+      producer.join();
+    }
+
+    assertEquals(Producers * MailboxesPerProducer, polled.size());
+    assertNull(runQueue.poll());
+  }
+
+  private static class TestScheduledMailbox extends ScheduledMailbox {
+    @Override public void run() { }
+    @Override public void close() { }
+    @Override public boolean isClosed() { return false; }
+    @Override public boolean isDelivering() { return false; }
+    @Override public int concurrencyCapacity() { return 1; }
+    @Override public void resume(final String name) { }
+    @Override public void send(final Message message) { }
+    @Override public void suspendExceptFor(final String name, final Class<?>... overrides) { }
+    @Override public boolean isSuspended() { return false; }
+    @Override public Message receive() { return null; }
+    @Override public int pendingMessages() { return 0; }
+  }
+}
@@ -8,7 +8,14 @@
 package io.vlingo.xoom.actors.plugin.mailbox.agronampscarrayqueue;
 
 import static org.junit.Assert.assertEquals;
-
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
@@ -17,6 +24,8 @@ import io.vlingo.xoom.actors.Actor;
 import io.vlingo.xoom.actors.ActorsTest;
 import io.vlingo.xoom.actors.LocalMessage;
 import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Returns;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
 import io.vlingo.xoom.actors.testkit.AccessSafely;
 import io.vlingo.xoom.common.SerializableConsumer;
 
@@ -117,6 +126,232 @@ public class ManyToOneConcurrentArrayQueueDispatcherTest extends ActorsTest {
     assertEquals(mailboxSize, testResults.getHighest());
   }
 
+  @Test
+  public void testThatSuspendedDeliveryStowsUntilResumed() {
+    final int total = 10;
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final AccessSafely access =
+            AccessSafely.afterCompleting(total + 1)
+              .writingWith("order", (Integer count) -> order.add(count))
+              .readingWith("order", () -> order)
+              .readingWith("size", () -> order.size());
+
+    final ManyToOneConcurrentArrayQueueDispatcher dispatcher =
+            new ManyToOneConcurrentArrayQueueDispatcher(MailboxSize, 2, false, 4, 10);
+
+    dispatcher.start();
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    mailbox.suspendExceptFor(Mailbox.Paused, Overriding.class);
+
+    assertTrue(mailbox.isSuspended());
+
+    for (int count = 0; count < total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      mailbox.send(new LocalMessage<>(actor, CountTaker.class, consumer, "take(int)"));
+    }
+
+    final SerializableConsumer<Overriding> overrideConsumer = (consumerActor) -> consumerActor.override();
+    mailbox.send(new LocalMessage<>(actor, Overriding.class, overrideConsumer, "override()"));
+
+    // the override is delivered while earlier messages are stowed or queued
+    assertEquals(1, (int) access.readFromExpecting("size", 1));
+    assertEquals(total, mailbox.pendingMessages());
+
+    mailbox.resume(Mailbox.Paused);
+
+    assertFalse(mailbox.isSuspended());
+    assertEquals(total + 1, (int) access.readFromExpecting("size", total + 1));
+
+    final List<Integer> received = access.readFrom("order");
+
+    assertEquals(-1, (int) received.get(0));
+    for (int count = 0; count < total; ++count) {
+      assertEquals(count, (int) received.get(count + 1));
+    }
+
+    dispatcher.close();
+  }
+
+  @Test
+  public void testThatSuspendedDeliveryStowsNoMoreThanMailboxSize() {
+    final int mailboxSize = 4;
+    final int total = mailboxSize * 2;
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final AccessSafely access =
+            AccessSafely.afterCompleting(total)
+              .writingWith("order", (Integer count) -> order.add(count))
+              .readingWith("order", () -> order);
+
+    final ManyToOneConcurrentArrayQueueDispatcher dispatcher =
+            new ManyToOneConcurrentArrayQueueDispatcher(mailboxSize, 2, false, 4, 10);
+
+    dispatcher.start();
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    mailbox.suspendExceptFor(Mailbox.Paused, Overriding.class);
+
+    // the queue accepts more only as the first messages are stowed
+    for (int count = 0; count < total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      final LocalMessage<CountTaker> message = new LocalMessage<>(actor, CountTaker.class, consumer, "take(int)");
+      while (!mailbox.trySend(message)) {
+        Thread.yield();
+      }
+    }
+
+    // full stowage leaves the queue full
+    final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(total);
+    assertFalse(mailbox.trySend(new LocalMessage<>(actor, CountTaker.class, consumer, "take(int)")));
+    assertEquals(total, mailbox.pendingMessages());
+
+    mailbox.resume(Mailbox.Paused);
+
+    final List<Integer> received = access.readFrom("order");
+
+    assertEquals(total, received.size());
+    for (int count = 0; count < total; ++count) {
+      assertEquals(count, (int) received.get(count));
+    }
+
+    dispatcher.close();
+  }
+
+  @Test
+  public void testThatOverrideIsDeliveredWhenStowageIsFull() {
+    final int mailboxSize = 4;
+    final int total = mailboxSize * 2;
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final AccessSafely access =
+            AccessSafely.afterCompleting(total + 1)
+              .writingWith("order", (Integer count) -> order.add(count))
+              .readingWith("order", () -> order)
+              .readingWith("size", () -> order.size());
+
+    final ManyToOneConcurrentArrayQueueDispatcher dispatcher =
+            new ManyToOneConcurrentArrayQueueDispatcher(mailboxSize, 2, false, 4, 10);
+
+    dispatcher.start();
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    mailbox.suspendExceptFor(Mailbox.Paused, Overriding.class);
+
+    for (int count = 0; count < total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      final LocalMessage<CountTaker> message = new LocalMessage<>(actor, CountTaker.class, consumer, "take(int)");
+      while (!mailbox.trySend(message)) {
+        Thread.yield();
+      }
+    }
+
+    // stowage and queue are full, and yet the override is not queued behind them
+    final SerializableConsumer<Overriding> overrideConsumer = (consumerActor) -> consumerActor.override();
+    mailbox.send(new LocalMessage<>(actor, Overriding.class, overrideConsumer, "override()"));
+
+    assertEquals(1, (int) access.readFromExpecting("size", 1));
+    assertTrue(mailbox.isSuspended());
+
+    mailbox.resume(Mailbox.Paused);
+
+    assertEquals(total + 1, (int) access.readFromExpecting("size", total + 1));
+
+    final List<Integer> received = access.readFrom("order");
+
+    assertEquals(-1, (int) received.get(0));
+    for (int count = 0; count < total; ++count) {
+      assertEquals(count, (int) received.get(count + 1));
+    }
+
+    dispatcher.close();
+  }
+
+  @Test
+  public void testThatTrySendAndRejectHandleFullMailbox() {
+    final int mailboxSize = 4;
+    final AccessSafely access = AccessSafely.afterCompleting(0);
+
+    // not started, so nothing is received and the mailbox fills
+    final ManyToOneConcurrentArrayQueueDispatcher dispatcher =
+            new ManyToOneConcurrentArrayQueueDispatcher(mailboxSize, 2, false, 4, 1, MailboxOverflowPolicy.named(MailboxOverflowPolicy.Reject, 0L));
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    for (int count = 0; count < mailboxSize; ++count) {
+      assertTrue(mailbox.trySend(takeMessage(actor, count, null)));
+    }
+
+    assertFalse(mailbox.trySend(takeMessage(actor, mailboxSize, null)));
+
+    final CompletableFuture<Object> outcome = new CompletableFuture<>();
+    mailbox.send(takeMessage(actor, mailboxSize, Returns.value(outcome)));
+
+    assertTrue(outcome.isCompletedExceptionally());
+
+    try {
+      mailbox.send(takeMessage(actor, mailboxSize, null));
+      fail("Expected rejection of message sent to full mailbox.");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    assertEquals(mailboxSize, mailbox.pendingMessages());
+
+    dispatcher.close();
+  }
+
+  @Test
+  public void testThatDropOverflowPoliciesKeepExpectedMessages() {
+    assertEquals(Arrays.asList(0, 1, 2, 3), receivedAfterOverflowWith(MailboxOverflowPolicy.DropNewest));
+    assertEquals(Arrays.asList(2, 3, 4, 5), receivedAfterOverflowWith(MailboxOverflowPolicy.DropOldest));
+  }
+
+  private List<Integer> receivedAfterOverflowWith(final String overflowPolicy) {
+    final int mailboxSize = 4;
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final AccessSafely access =
+            AccessSafely.afterCompleting(mailboxSize)
+              .writingWith("order", (Integer count) -> order.add(count))
+              .readingWith("order", () -> order);
+
+    final ManyToOneConcurrentArrayQueueDispatcher dispatcher =
+            new ManyToOneConcurrentArrayQueueDispatcher(mailboxSize, 2, false, 4, 1, MailboxOverflowPolicy.named(overflowPolicy, 0L));
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    for (int count = 0; count < mailboxSize + 2; ++count) {
+      mailbox.send(takeMessage(actor, count, null));
+    }
+
+    dispatcher.start();
+
+    final List<Integer> received = access.readFrom("order");
+
+    dispatcher.close();
+
+    return received;
+  }
+
+  private LocalMessage<CountTaker> takeMessage(final Actor actor, final int count, final Returns<?> returns) {
+    final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(count);
+    return new LocalMessage<>(actor, CountTaker.class, consumer, returns, "take(int)");
+  }
+
   public static interface CountTaker {
     void take(final int count);
   }
@@ -139,6 +374,28 @@ public class ManyToOneConcurrentArrayQueueDispatcherTest extends ActorsTest {
     }
   }
 
+  public static interface Overriding {
+    void override();
+  }
+
+  public static class OrderTakerActor extends Actor implements CountTaker, Overriding {
+    private final AccessSafely access;
+
+    public OrderTakerActor(final AccessSafely access) {
+      this.access = access;
+    }
+
+    @Override
+    public void take(final int count) {
+      access.writeUsing("order", count);
+    }
+
+    @Override
+    public void override() {
+      access.writeUsing("order", -1);
+    }
+  }
+
   private static class TestResults {
     private final AccessSafely accessSafely;
 
@@ -8,6 +8,8 @@
 package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
 
 import io.vlingo.xoom.actors.*;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryLatencySampler;
+import io.vlingo.xoom.actors.plugin.mailbox.DeliveryThrottle;
 import io.vlingo.xoom.actors.testkit.AccessSafely;
 import io.vlingo.xoom.common.SerializableConsumer;
 import org.junit.After;
@@ -44,6 +46,26 @@ public class ConcurrentQueueMailboxTest extends ActorsTest {
     }
   }
 
+  @Test
+  public void testAdaptiveThrottlingSendReceive() {
+    final TestResults testResults = new TestResults(Total);
+
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    final Mailbox adaptive = new ConcurrentQueueMailbox(dispatcher, DeliveryThrottle.adaptive(new DeliveryLatencySampler()));
+
+    for (int count = 0; count < Total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      final LocalMessage<CountTaker> message = new LocalMessage<CountTaker>(actor, CountTaker.class, consumer, "take(int)");
+      adaptive.send(message);
+    }
+
+    for (int idx = 0; idx < Total; ++idx) {
+      assertEquals(idx, (int) actor.testResults.getCount(idx));
+    }
+  }
+
   @Test
   public void testThatSuspendResumes(){
       final String paused = "paused#";
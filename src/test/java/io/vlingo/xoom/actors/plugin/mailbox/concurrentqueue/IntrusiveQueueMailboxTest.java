@@ -0,0 +1,229 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.Actor;
+import io.vlingo.xoom.actors.ActorsTest;
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.LocalMessage;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.SerializableConsumer;
+
+public class IntrusiveQueueMailboxTest extends ActorsTest {
+  private static final String Paused = "paused#";
+  private static final int Producers = 4;
+  private static final int Total = 10_000;
+
+  private Dispatcher dispatcher;
+  private Mailbox mailbox;
+
+  @Test
+  public void testMailboxSendReceive() {
+    final TestResults testResults = new TestResults(Total);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    for (int count = 0; count < Total; ++count) {
+      mailbox.send(messageFor(actor, count));
+    }
+
+    for (int idx = 0; idx < Total; ++idx) {
+      assertEquals(idx, (int) testResults.getCount(idx));
+    }
+  }
+
+  @Test
+  public void testThatPendingMessagesIsCounted() {
+    final CountTakerActor actor = new CountTakerActor(new TestResults(0));
+    final Mailbox suspended = new IntrusiveQueueMailbox(dispatcher, 1);
+
+    suspended.suspendExceptFor(Paused, Runnable.class);
+
+    assertEquals(0, suspended.pendingMessages());
+
+    final List<LocalMessage<CountTaker>> sent = new ArrayList<>();
+
+    for (int count = 0; count < 10; ++count) {
+      final LocalMessage<CountTaker> message = messageFor(actor, count);
+      sent.add(message);
+      suspended.send(message);
+      assertEquals(count + 1, suspended.pendingMessages());
+    }
+
+    for (int count = 0; count < 10; ++count) {
+      assertSame(sent.get(count), suspended.receive());
+      assertEquals(9 - count, suspended.pendingMessages());
+    }
+
+    assertNull(suspended.receive());
+  }
+
+  @Test
+  public void testManyProducersSendReceive() throws Exception {
+    final int perProducer = Total / Producers;
+    final TestResults testResults = new TestResults(Total);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    final List<Thread> producers = new ArrayList<>(Producers);
+
+    for (int producer = 0; producer < Producers; ++producer) {
+      final int base = producer * perProducer;
+      producers.add(new Thread(() -> {
+        for (int count = 0; count < perProducer; ++count) {
+          mailbox.send(messageFor(actor, base + count));
+        }
+      }));
+    }
+
+    producers.forEach(Thread::start);
+
+    for (final Thread producer : producers) {
+      producer.join();
+    }
+
+    final int[] lastSeen = new int[Producers];
+    Arrays.fill(lastSeen, -1);
+
+    for (int idx = 0; idx < Total; ++idx) {
+      final int count = testResults.getCount(idx);
+      final int producer = count / perProducer;
+      // each producer's messages are received in the order sent
+      assertTrue(count > lastSeen[producer]);
+      lastSeen[producer] = count;
+    }
+  }
+
+  @Test
+  public void testThatSendAllEnqueuesInOrder() {
+    final TestResults testResults = new TestResults(Total);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    final int batchSize = 100;
+
+    for (int base = 0; base < Total; base += batchSize) {
+      final Message[] batch = new Message[batchSize];
+      for (int index = 0; index < batchSize; ++index) {
+        batch[index] = messageFor(actor, base + index);
+      }
+      mailbox.sendAll(batch);
+    }
+
+    for (int idx = 0; idx < Total; ++idx) {
+      assertEquals(idx, (int) testResults.getCount(idx));
+    }
+  }
+
+  @Test
+  public void testThatSendAllCountsPending() {
+    final CountTakerActor actor = new CountTakerActor(new TestResults(0));
+    final Mailbox suspended = new IntrusiveQueueMailbox(dispatcher, 1);
+
+    suspended.suspendExceptFor(Paused, Runnable.class);
+    suspended.sendAll(new Message[] { messageFor(actor, 0), messageFor(actor, 1), messageFor(actor, 2) });
+
+    assertEquals(3, suspended.pendingMessages());
+  }
+
+  @Test
+  public void testThatSuspendResumes() {
+    final TestResults testResults = new TestResults(Total);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    mailbox.suspendExceptFor(Paused, Runnable.class);
+
+    for (int count = 0; count < Total; ++count) {
+      mailbox.send(messageFor(actor, count));
+    }
+
+    assertEquals(Total, mailbox.pendingMessages());
+
+    mailbox.resume(Paused);
+
+    assertFalse(mailbox.isSuspended());
+
+    for (int idx = 0; idx < Total; ++idx) {
+      assertEquals(idx, (int) testResults.getCount(idx));
+    }
+  }
+
+  @Before
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+
+    dispatcher = new ExecutorDispatcher(1, 1, 1.0f);
+    mailbox = new IntrusiveQueueMailbox(dispatcher, 1);
+  }
+
+  @After
+  @Override
+  public void tearDown() throws Exception {
+    super.tearDown();
+
+    mailbox.close();
+    dispatcher.close();
+  }
+
+  private LocalMessage<CountTaker> messageFor(final CountTakerActor actor, final int count) {
+    final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(count);
+    return new LocalMessage<CountTaker>(actor, CountTaker.class, consumer, "take(int)");
+  }
+
+  public interface CountTaker {
+    void take(final int count);
+  }
+
+  public static class CountTakerActor extends Actor implements CountTaker {
+    private final TestResults testResults;
+
+    public CountTakerActor(final TestResults testResults) {
+      this.testResults = testResults;
+    }
+
+    @Override
+    public void take(final int count) {
+      testResults.addCount(count);
+    }
+  }
+
+  private static class TestResults {
+    private final AccessSafely accessSafely;
+
+    private TestResults(final int happenings) {
+      final List<Integer> list = new ArrayList<>();
+      this.accessSafely = AccessSafely
+              .afterCompleting(happenings)
+              .writingWith("counts", (Consumer<Integer>) list::add)
+              .readingWith("counts", (Integer index) -> list.get(index));
+    }
+
+    void addCount(final Integer count) {
+      this.accessSafely.writeUsing("counts", count);
+    }
+
+    Integer getCount(final int index) {
+      return this.accessSafely.readFrom("counts", index);
+    }
+  }
+}
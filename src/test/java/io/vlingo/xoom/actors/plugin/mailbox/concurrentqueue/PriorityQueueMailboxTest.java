@@ -0,0 +1,171 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.Actor;
+import io.vlingo.xoom.actors.ActorsTest;
+import io.vlingo.xoom.actors.Definition;
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.LocalMessage;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Priority;
+import io.vlingo.xoom.actors.Stoppable;
+import io.vlingo.xoom.actors.plugin.mailbox.MessagePriorities;
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.SerializableConsumer;
+
+public class PriorityQueueMailboxTest extends ActorsTest {
+  private static final String Paused = "paused#";
+  private static final int Total = 1_000;
+
+  private Dispatcher dispatcher;
+
+  @Test
+  public void testMailboxSendReceive() {
+    final Mailbox mailbox = new PriorityQueueMailbox(dispatcher, 1);
+    final TestResults testResults = new TestResults(Total);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    for (int count = 0; count < Total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      mailbox.send(new LocalMessage<CountTaker>(actor, CountTaker.class, consumer, "take(int)"));
+    }
+
+    for (int idx = 0; idx < Total; ++idx) {
+      assertEquals(idx, (int) testResults.getCount(idx));
+    }
+  }
+
+  @Test
+  public void testThatHigherPrioritiesAreReceivedFirst() {
+    final Mailbox mailbox = new PriorityQueueMailbox(dispatcher, 1);
+    final CountTakerActor actor = new CountTakerActor(new TestResults(0));
+
+    // suspended so that all messages are queued before receiving
+    mailbox.suspendExceptFor(Paused, Runnable.class);
+
+    final LocalMessage<CountTaker> normal1 = new LocalMessage<>(actor, CountTaker.class, (consumerActor) -> consumerActor.take(1), "take(int)");
+    final LocalMessage<Reporter> low = new LocalMessage<>(actor, Reporter.class, (consumerActor) -> consumerActor.report(), "report()");
+    final LocalMessage<Stoppable> stop = new LocalMessage<>(actor, Stoppable.class, (consumerActor) -> consumerActor.stop(), "stop()");
+    final LocalMessage<CountTaker> normal2 = new LocalMessage<>(actor, CountTaker.class, (consumerActor) -> consumerActor.take(2), "take(int)");
+    final LocalMessage<Reporter> urgent = new LocalMessage<>(actor, Reporter.class, (consumerActor) -> consumerActor.urgent(), "urgent()");
+
+    mailbox.send(normal1);
+    mailbox.send(low);
+    mailbox.send(stop);
+    mailbox.send(normal2);
+    mailbox.send(urgent);
+
+    assertEquals(5, mailbox.pendingMessages());
+
+    assertSame(stop, mailbox.receive());
+    assertSame(urgent, mailbox.receive());
+    assertSame(normal1, mailbox.receive());
+    assertSame(normal2, mailbox.receive());
+    assertSame(low, mailbox.receive());
+    assertNull(mailbox.receive());
+  }
+
+  @Test
+  public void testMessagePriorities() {
+    final CountTakerActor actor = new CountTakerActor(new TestResults(0));
+
+    assertEquals(Priority.Normal, MessagePriorities.priorityOf(new LocalMessage<CountTaker>(actor, CountTaker.class, null, "take(int)")));
+    assertEquals(Priority.Normal, MessagePriorities.priorityOf(new LocalMessage<Stoppable>(actor, Stoppable.class, null, "conclude()")));
+    assertEquals(Priority.High, MessagePriorities.priorityOf(new LocalMessage<Stoppable>(actor, Stoppable.class, null, "stop()")));
+    assertEquals(Priority.Low, MessagePriorities.priorityOf(new LocalMessage<Reporter>(actor, Reporter.class, null, "report()")));
+    assertEquals(Priority.High, MessagePriorities.priorityOf(new LocalMessage<Reporter>(actor, Reporter.class, null, "urgent()")));
+  }
+
+  @Test
+  public void testMailboxIsConfigured() {
+    final CountTaker countTaker =
+            world.actorFor(
+                    CountTaker.class,
+                    Definition.has(CountTakerActor.class,
+                            Definition.parameters(new TestResults(0)),
+                            "priorityQueueMailbox",
+                            "countTaker"));
+
+    assertEquals("PriorityQueueMailbox", world.stage().mailboxTypeNameOf(countTaker));
+  }
+
+  @Before
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+
+    dispatcher = new ExecutorDispatcher(1, 0, 1.0f);
+  }
+
+  @After
+  @Override
+  public void tearDown() throws Exception {
+    super.tearDown();
+
+    dispatcher.close();
+  }
+
+  public interface CountTaker {
+    void take(final int count);
+  }
+
+  @Priority(Priority.Low)
+  public interface Reporter {
+    void report();
+
+    @Priority(Priority.High)
+    void urgent();
+  }
+
+  public static class CountTakerActor extends Actor implements CountTaker {
+    private final TestResults testResults;
+
+    public CountTakerActor(final TestResults testResults) {
+      this.testResults = testResults;
+    }
+
+    @Override
+    public void take(final int count) {
+      testResults.addCount(count);
+    }
+  }
+
+  private static class TestResults {
+    private final AccessSafely accessSafely;
+
+    private TestResults(final int happenings) {
+      final List<Integer> list = new ArrayList<>();
+      this.accessSafely = AccessSafely
+              .afterCompleting(happenings)
+              .writingWith("counts", (Consumer<Integer>) list::add)
+              .readingWith("counts", (Integer index) -> list.get(index));
+    }
+
+    void addCount(final Integer count) {
+      this.accessSafely.writeUsing("counts", count);
+    }
+
+    Integer getCount(final int index) {
+      return this.accessSafely.readFrom("counts", index);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.Actor;
+import io.vlingo.xoom.actors.ActorsTest;
+import io.vlingo.xoom.actors.Definition;
+import io.vlingo.xoom.actors.LocalMessage;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.SerializableConsumer;
+
+public class VirtualThreadDispatcherTest extends ActorsTest {
+  private static final int Total = 1_000;
+
+  private VirtualThreadDispatcher dispatcher;
+
+  @Test
+  public void testMailboxSendReceive() {
+    final Mailbox mailbox = new ConcurrentQueueMailbox(dispatcher, 1);
+    final TestResults testResults = new TestResults(Total);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    for (int count = 0; count < Total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      mailbox.send(new LocalMessage<CountTaker>(actor, CountTaker.class, consumer, "take(int)"));
+    }
+
+    for (int idx = 0; idx < Total; ++idx) {
+      assertEquals(idx, (int) testResults.getCount(idx));
+    }
+  }
+
+  @Test
+  public void testThatBlockedDeliveryDoesNotStarveOthers() {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final TestResults testResults = new TestResults(Total);
+
+    // block more deliveries than there are processors
+    final int blockers = dispatcher.concurrencyCapacity() * 2;
+    for (int idx = 0; idx < blockers; ++idx) {
+      final Mailbox blockingMailbox = new ConcurrentQueueMailbox(dispatcher, 1);
+      final SerializableConsumer<CountTaker> blocking = (consumerActor) -> awaitOn(latch);
+      blockingMailbox.send(new LocalMessage<CountTaker>(new CountTakerActor(testResults), CountTaker.class, blocking, "take(int)"));
+    }
+
+    final Mailbox mailbox = new ConcurrentQueueMailbox(dispatcher, 1);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    for (int count = 0; count < Total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      mailbox.send(new LocalMessage<CountTaker>(actor, CountTaker.class, consumer, "take(int)"));
+    }
+
+    for (int idx = 0; idx < Total; ++idx) {
+      assertEquals(idx, (int) testResults.getCount(idx));
+    }
+
+    latch.countDown();
+  }
+
+  @Test
+  public void testMailboxIsConfigured() {
+    final CountTaker countTaker =
+            world.actorFor(
+                    CountTaker.class,
+                    Definition.has(CountTakerActor.class,
+                            Definition.parameters(new TestResults(0)),
+                            "virtualThreadMailbox",
+                            "countTaker"));
+
+    assertEquals("ConcurrentQueueMailbox", world.stage().mailboxTypeNameOf(countTaker));
+  }
+
+  @Before
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+
+    dispatcher = new VirtualThreadDispatcher();
+  }
+
+  @After
+  @Override
+  public void tearDown() throws Exception {
+    super.tearDown();
+
+    dispatcher.close();
+  }
+
+  private static void awaitOn(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public interface CountTaker {
+    void take(final int count);
+  }
+
+  public static class CountTakerActor extends Actor implements CountTaker {
+    private final TestResults testResults;
+
+    public CountTakerActor(final TestResults testResults) {
+      this.testResults = testResults;
+    }
+
+    @Override
+    public void take(final int count) {
+      testResults.addCount(count);
+    }
+  }
+
+  private static class TestResults {
+    private final AccessSafely accessSafely;
+
+    private TestResults(final int happenings) {
+      final List<Integer> list = new ArrayList<>();
+      this.accessSafely = AccessSafely
+              .afterCompleting(happenings)
+              .writingWith("counts", (Consumer<Integer>) list::add)
+              .readingWith("counts", (Integer index) -> list.get(index));
+    }
+
+    void addCount(final Integer count) {
+      this.accessSafely.writeUsing("counts", count);
+    }
+
+    Integer getCount(final int index) {
+      return this.accessSafely.readFrom("counts", index);
+    }
+  }
+}
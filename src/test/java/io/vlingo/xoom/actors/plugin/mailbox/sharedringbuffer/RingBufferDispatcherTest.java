@@ -8,14 +8,22 @@
 package io.vlingo.xoom.actors.plugin.mailbox.sharedringbuffer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
 import io.vlingo.xoom.actors.Actor;
 import io.vlingo.xoom.actors.ActorsTest;
+import io.vlingo.xoom.actors.LocalMessage;
 import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.Message;
+import io.vlingo.xoom.actors.plugin.mailbox.MailboxOverflowPolicy;
 import io.vlingo.xoom.actors.testkit.AccessSafely;
 import io.vlingo.xoom.common.SerializableConsumer;
 
@@ -84,10 +92,13 @@ public class RingBufferDispatcherTest extends ActorsTest {
   public void testOverflowDispatch() throws Exception {
     final int mailboxSize = 64;
     final int overflowSize = mailboxSize * 2;
-    final TestResults testResults = new TestResults(mailboxSize);
+    final TestResults testResults = new TestResults(overflowSize);
 
     final RingBufferDispatcher dispatcher = new RingBufferDispatcher(mailboxSize, 2, false, 4);
 
+    // a full ring waits for its dispatcher to release slots rather than overwrite them
+    dispatcher.start();
+
     final Mailbox mailbox = dispatcher.mailbox();
 
     final CountTakerActor actor = new CountTakerActor(testResults);
@@ -99,8 +110,6 @@ public class RingBufferDispatcherTest extends ActorsTest {
       mailbox.send(actor, CountTaker.class, consumer, null, "take(int)");
     }
 
-    dispatcher.start();
-
     assertEquals(overflowSize, testResults.getHighest());
   }
 
@@ -134,6 +143,274 @@ public class RingBufferDispatcherTest extends ActorsTest {
     assertEquals(mailboxSize, testResults.getHighest());
   }
 
+  @Test
+  public void testThatSuspendedDeliveryStowsUntilResumed() {
+    final int total = 10;
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final AccessSafely access =
+            AccessSafely.afterCompleting(total + 1)
+              .writingWith("order", (Integer count) -> order.add(count))
+              .readingWith("order", () -> order)
+              .readingWith("size", () -> order.size());
+
+    final RingBufferDispatcher dispatcher = new RingBufferDispatcher(64, 2, false, 4);
+
+    dispatcher.start();
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    mailbox.suspendExceptFor(Mailbox.Paused, Overriding.class);
+
+    assertTrue(mailbox.isSuspended());
+
+    for (int count = 0; count < total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      mailbox.send(actor, CountTaker.class, consumer, null, "take(int)");
+    }
+
+    final SerializableConsumer<Overriding> overrideConsumer = (consumerActor) -> consumerActor.override();
+    mailbox.send(actor, Overriding.class, overrideConsumer, null, "override()");
+
+    // the override is delivered while earlier messages are stowed or queued
+    assertEquals(1, (int) access.readFromExpecting("size", 1));
+    assertEquals(total, mailbox.pendingMessages());
+
+    mailbox.resume(Mailbox.Paused);
+
+    assertFalse(mailbox.isSuspended());
+    assertEquals(total + 1, (int) access.readFromExpecting("size", total + 1));
+
+    final List<Integer> received = access.readFrom("order");
+
+    assertEquals(-1, (int) received.get(0));
+    for (int count = 0; count < total; ++count) {
+      assertEquals(count, (int) received.get(count + 1));
+    }
+
+    dispatcher.close();
+  }
+
+  @Test
+  public void testWaitStrategiesDispatch() throws Exception {
+    final String[] strategies = {
+            RingBufferWaitStrategy.Backoff,
+            RingBufferWaitStrategy.Blocking,
+            RingBufferWaitStrategy.BusySpin,
+            RingBufferWaitStrategy.Park,
+            RingBufferWaitStrategy.Yield };
+
+    for (final String strategy : strategies) {
+      final int mailboxSize = 64;
+      final TestResults testResults = new TestResults(mailboxSize);
+
+      final RingBufferDispatcher dispatcher =
+              new RingBufferDispatcher(mailboxSize, 1, false, 4, RingBufferWaitStrategy.named(strategy, 1));
+
+      dispatcher.start();
+
+      final Mailbox mailbox = dispatcher.mailbox();
+
+      final CountTakerActor actor = new CountTakerActor(testResults);
+
+      for (int count = 1; count <= mailboxSize; ++count) {
+        final int countParam = count;
+        final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+
+        mailbox.send(actor, CountTaker.class, consumer, null, "take(int)");
+      }
+
+      assertEquals(strategy, mailboxSize, testResults.getHighest());
+
+      dispatcher.close();
+    }
+  }
+
+  @Test
+  public void testManyProducersDispatch() throws Exception {
+    final int producers = 4;
+    final int perProducer = 1_000;
+    final int total = producers * perProducer;
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final AccessSafely access =
+            AccessSafely.afterCompleting(total)
+              .writingWith("order", (Integer count) -> order.add(count))
+              .readingWith("order", () -> order);
+
+    // the ring is much smaller than the total, so senders wrap it many times
+    final RingBufferDispatcher dispatcher =
+            new RingBufferDispatcher(64, 1, false, 16, RingBufferWaitStrategy.named(RingBufferWaitStrategy.Yield, 1));
+
+    dispatcher.start();
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    final List<Thread> threads = new CopyOnWriteArrayList<>();
+    for (int producer = 0; producer < producers; ++producer) {
+      final int base = producer * perProducer;
+      threads.add(new Thread(() -> {
+        for (int count = 0; count < perProducer; ++count) {
+          final int countParam = base + count;
+          final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+          mailbox.send(actor, CountTaker.class, consumer, null, "take(int)");
+        }
+      }));
+    }
+
+    threads.forEach(Thread::start);
+
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    final List<Integer> received = access.readFrom("order");
+
+    assertEquals(total, received.size());
+
+    final int[] lastSeen = new int[producers];
+    for (int producer = 0; producer < producers; ++producer) {
+      lastSeen[producer] = -1;
+    }
+    for (final int count : received) {
+      final int producer = count / perProducer;
+      // each producer's messages are received in the order sent
+      assertTrue(count > lastSeen[producer]);
+      lastSeen[producer] = count;
+    }
+
+    dispatcher.close();
+  }
+
+  @Test
+  public void testSendAllClaimsBatches() {
+    final int total = 100;
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final AccessSafely access =
+            AccessSafely.afterCompleting(total)
+              .writingWith("order", (Integer count) -> order.add(count))
+              .readingWith("order", () -> order);
+
+    // a ring of 24 rounds up to 32, so the batch is claimed in four parts
+    final RingBufferDispatcher dispatcher = new RingBufferDispatcher(24, 1, false, 4);
+
+    dispatcher.start();
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    final Message[] batch = new Message[total];
+    for (int count = 0; count < total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      batch[count] = new LocalMessage<>(actor, CountTaker.class, consumer, "take(int)");
+    }
+
+    mailbox.sendAll(batch);
+
+    final List<Integer> received = access.readFrom("order");
+
+    assertEquals(total, received.size());
+    for (int count = 0; count < total; ++count) {
+      assertEquals(count, (int) received.get(count));
+    }
+
+    dispatcher.close();
+  }
+
+  @Test
+  public void testThatOverrideIsDeliveredWhenStowageIsFull() {
+    final int mailboxSize = 4;
+    final int total = mailboxSize * 2;
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final AccessSafely access =
+            AccessSafely.afterCompleting(total + 1)
+              .writingWith("order", (Integer count) -> order.add(count))
+              .readingWith("order", () -> order)
+              .readingWith("size", () -> order.size());
+
+    // senders park while the ring is full
+    final RingBufferDispatcher dispatcher = new RingBufferDispatcher(mailboxSize, 2, false, 4);
+
+    dispatcher.start();
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    mailbox.suspendExceptFor(Mailbox.Paused, Overriding.class);
+
+    // the ring accepts more only as the first messages are stowed
+    for (int count = 0; count < total; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      mailbox.send(actor, CountTaker.class, consumer, null, "take(int)");
+    }
+
+    // stowage and ring are full, and yet the override sender does not park
+    final SerializableConsumer<Overriding> overrideConsumer = (consumerActor) -> consumerActor.override();
+    mailbox.send(actor, Overriding.class, overrideConsumer, null, "override()");
+
+    assertEquals(1, (int) access.readFromExpecting("size", 1));
+    assertTrue(mailbox.isSuspended());
+
+    mailbox.resume(Mailbox.Paused);
+
+    assertEquals(total + 1, (int) access.readFromExpecting("size", total + 1));
+
+    final List<Integer> received = access.readFrom("order");
+
+    assertEquals(-1, (int) received.get(0));
+    for (int count = 0; count < total; ++count) {
+      assertEquals(count, (int) received.get(count + 1));
+    }
+
+    dispatcher.close();
+  }
+
+  @Test
+  public void testThatTrySendAndDropNewestHandleFullRing() {
+    final int mailboxSize = 4;
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final AccessSafely access =
+            AccessSafely.afterCompleting(mailboxSize)
+              .writingWith("order", (Integer count) -> order.add(count))
+              .readingWith("order", () -> order);
+
+    // not started, so nothing is received and the ring fills
+    final RingBufferDispatcher dispatcher =
+            new RingBufferDispatcher(mailboxSize, 1, false, 4,
+                    RingBufferWaitStrategy.named(RingBufferWaitStrategy.Yield, 1),
+                    MailboxOverflowPolicy.named(MailboxOverflowPolicy.DropNewest, 0L));
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final OrderTakerActor actor = new OrderTakerActor(access);
+
+    for (int count = 0; count < mailboxSize; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      assertTrue(mailbox.trySend(new LocalMessage<>(actor, CountTaker.class, consumer, "take(int)")));
+    }
+
+    final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(mailboxSize);
+
+    assertFalse(mailbox.trySend(new LocalMessage<>(actor, CountTaker.class, consumer, "take(int)")));
+
+    // dropped rather than waiting for the receiver
+    mailbox.send(actor, CountTaker.class, consumer, null, "take(int)");
+
+    dispatcher.start();
+
+    assertEquals(Arrays.asList(0, 1, 2, 3), access.readFrom("order"));
+
+    dispatcher.close();
+  }
+
   public static interface CountTaker {
     void take(final int count);
   }
@@ -156,6 +433,28 @@ public class RingBufferDispatcherTest extends ActorsTest {
     }
   }
 
+  public static interface Overriding {
+    void override();
+  }
+
+  public static class OrderTakerActor extends Actor implements CountTaker, Overriding {
+    private final AccessSafely access;
+
+    public OrderTakerActor(final AccessSafely access) {
+      this.access = access;
+    }
+
+    @Override
+    public void take(final int count) {
+      access.writeUsing("order", count);
+    }
+
+    @Override
+    public void override() {
+      access.writeUsing("order", -1);
+    }
+  }
+
   private static class TestResults {
     private final AccessSafely accessSafely;
 
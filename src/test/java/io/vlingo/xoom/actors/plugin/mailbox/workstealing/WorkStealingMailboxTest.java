@@ -0,0 +1,208 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.mailbox.workstealing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.Actor;
+import io.vlingo.xoom.actors.ActorsTest;
+import io.vlingo.xoom.actors.Definition;
+import io.vlingo.xoom.actors.Dispatcher;
+import io.vlingo.xoom.actors.LocalMessage;
+import io.vlingo.xoom.actors.Mailbox;
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.SerializableConsumer;
+
+public class WorkStealingMailboxTest extends ActorsTest {
+  private static final int MailboxSize = 1024;
+  private static final int TotalActors = 200;
+  private static final int TotalMessages = 100;
+
+  private Dispatcher dispatcher;
+
+  @Test
+  public void testMailboxSendReceive() {
+    final Mailbox mailbox = new WorkStealingMailbox(dispatcher, MailboxSize, 4, 10);
+    final TestResults testResults = new TestResults(TotalMessages);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    for (int count = 0; count < TotalMessages; ++count) {
+      mailbox.send(messageFor(actor, count));
+    }
+
+    for (int idx = 0; idx < TotalMessages; ++idx) {
+      assertEquals(idx, (int) testResults.getCount(idx));
+    }
+  }
+
+  @Test
+  public void testManyMailboxesShareCarrierThreads() {
+    final TestResults testResults = new TestResults(TotalActors * TotalMessages);
+    final List<CountTakerActor> actors = new ArrayList<>(TotalActors);
+    final List<Mailbox> mailboxes = new ArrayList<>(TotalActors);
+
+    for (int idx = 0; idx < TotalActors; ++idx) {
+      actors.add(new CountTakerActor(testResults));
+      mailboxes.add(new WorkStealingMailbox(dispatcher, MailboxSize, 4, 10));
+    }
+
+    for (int count = 0; count < TotalMessages; ++count) {
+      for (int idx = 0; idx < TotalActors; ++idx) {
+        mailboxes.get(idx).send(messageFor(actors.get(idx), count));
+      }
+    }
+
+    assertEquals(TotalActors * TotalMessages, testResults.getTotal());
+    assertEquals(2, dispatcher.concurrencyCapacity());
+  }
+
+  @Test
+  public void testThatSuspendResumes() {
+    final String paused = "paused#";
+    final String exceptional = "exceptional#";
+
+    final Mailbox mailbox = new WorkStealingMailbox(dispatcher, MailboxSize, 1, 10);
+
+    mailbox.suspendExceptFor(paused, CountTakerActor.class);
+
+    mailbox.suspendExceptFor(exceptional, CountTakerActor.class);
+
+    assertTrue(mailbox.isSuspendedFor(exceptional));
+
+    mailbox.resume(exceptional);
+
+    mailbox.resume(paused);
+
+    assertFalse(mailbox.isSuspended());
+  }
+
+  @Test
+  public void testThatResumeDeliversPending() {
+    final String paused = "paused#";
+    final Mailbox mailbox = new WorkStealingMailbox(dispatcher, MailboxSize, 1, 10);
+    final TestResults testResults = new TestResults(TotalMessages);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    mailbox.suspendExceptFor(paused, Runnable.class);
+
+    for (int count = 0; count < TotalMessages; ++count) {
+      mailbox.send(messageFor(actor, count));
+    }
+
+    assertEquals(TotalMessages, mailbox.pendingMessages());
+
+    mailbox.resume(paused);
+
+    for (int idx = 0; idx < TotalMessages; ++idx) {
+      assertEquals(idx, (int) testResults.getCount(idx));
+    }
+  }
+
+  @Test
+  public void testThatFullMailboxRejects() {
+    final Dispatcher closedDispatcher = new WorkStealingDispatcher(1, 1, 1.0f);
+    closedDispatcher.close();
+
+    final int mailboxSize = 4;
+    final Mailbox mailbox = new WorkStealingMailbox(closedDispatcher, mailboxSize, 1, 10);
+    final CountTakerActor actor = new CountTakerActor(new TestResults(0));
+
+    for (int count = 0; count < mailboxSize; ++count) {
+      mailbox.send(messageFor(actor, count));
+    }
+
+    assertThrows(IllegalStateException.class, () -> mailbox.send(messageFor(actor, mailboxSize)));
+  }
+
+  @Test
+  public void testMailboxIsConfigured() {
+    final CountTaker countTaker =
+            world.actorFor(
+                    CountTaker.class,
+                    Definition.has(CountTakerActor.class,
+                            Definition.parameters(new TestResults(0)),
+                            "workStealingMailbox",
+                            "countTaker"));
+
+    assertEquals("WorkStealingMailbox", world.stage().mailboxTypeNameOf(countTaker));
+  }
+
+  @Before
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+
+    dispatcher = new WorkStealingDispatcher(1, 2, 1.0f);
+  }
+
+  @After
+  @Override
+  public void tearDown() throws Exception {
+    super.tearDown();
+
+    dispatcher.close();
+  }
+
+  private LocalMessage<CountTaker> messageFor(final CountTakerActor actor, final int count) {
+    final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(count);
+    return new LocalMessage<CountTaker>(actor, CountTaker.class, consumer, "take(int)");
+  }
+
+  public interface CountTaker {
+    void take(final int count);
+  }
+
+  public static class CountTakerActor extends Actor implements CountTaker {
+    private final TestResults testResults;
+
+    public CountTakerActor(final TestResults testResults) {
+      this.testResults = testResults;
+    }
+
+    @Override
+    public void take(final int count) {
+      testResults.addCount(count);
+    }
+  }
+
+  private static class TestResults {
+    private final AccessSafely accessSafely;
+
+    private TestResults(final int happenings) {
+      final List<Integer> list = new ArrayList<>();
+      this.accessSafely = AccessSafely
+              .afterCompleting(happenings)
+              .writingWith("counts", (Consumer<Integer>) list::add)
+              .readingWith("counts", (Integer index) -> list.get(index))
+              .readingWith("total", list::size);
+    }
+
+    void addCount(final Integer count) {
+      this.accessSafely.writeUsing("counts", count);
+    }
+
+    Integer getCount(final int index) {
+      return this.accessSafely.readFrom("counts", index);
+    }
+
+    int getTotal() {
+      return this.accessSafely.readFrom("total");
+    }
+  }
+}